@@ -35,9 +35,15 @@ import java.io.InputStream;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
 import java.net.http.HttpResponse;
 import java.net.http.HttpResponse.BodyHandlers;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.logging.Level;
@@ -53,6 +59,10 @@ import edu.iu.IuStream;
 import edu.iu.IuText;
 import edu.iu.IuWebUtils;
 import edu.iu.UnsafeConsumer;
+import iu.client.HttpClientMetrics;
+import iu.client.HttpCompression;
+import iu.client.HttpDestination;
+import iu.client.HttpResponseCache;
 import iu.client.IuHttpClientEvent;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonValue;
@@ -62,8 +72,50 @@ import jakarta.json.JsonValue;
  * utilities for {@link HttpRequest} and {@link HttpResponse}.
  * 
  * <p>
- * All requests are handled via a cached {@link HttpClient} instance configured
- * with {@link HttpClient#newHttpClient default settings}.
+ * Requests are handled via a cached {@link HttpClient} instance configured
+ * with {@link HttpClient#newHttpClient default settings}, unless a tuned
+ * client is configured for the destination by the
+ * {@code iu.http.destinations} runtime property. Each configured destination
+ * names a root URI and may set the HTTP version, connect timeout, redirect
+ * policy, and a dedicated executor for requests relative to that URI.
+ * </p>
+ * 
+ * <p>
+ * When the {@code iu.http.cacheSize} runtime property is set, GET requests sent
+ * without a request consumer, i.e., via {@link #get(URI, HttpResponseHandler)},
+ * are served from a shared in-memory response cache that honors
+ * {@code Cache-Control}, {@code Expires}, {@code ETag}, and
+ * {@code Last-Modified}. The property limits the total size, in bytes, of all
+ * cached response bodies.
+ * </p>
+ * 
+ * <p>
+ * Asynchronous variants {@link #getAsync(URI)} and
+ * {@link #sendAsync(URI, UnsafeConsumer)} apply the same allow-list checks,
+ * logging, and {@link HttpResponseValidator validation} as synchronous
+ * requests. Request URI and request builder failures are thrown immediately;
+ * all failures that occur after the request is sent complete the returned
+ * {@link CompletableFuture} exceptionally, with {@link HttpException} as the
+ * cause of a {@link CompletionException} when the response has an error
+ * status code. Response handlers and response cache reads run on a shared
+ * executor, never on the {@link HttpClient}'s executor, since reading the body
+ * blocks until the client delivers it.
+ * </p>
+ * 
+ * <p>
+ * Requests advertise {@code gzip} and {@code deflate} support via
+ * {@code Accept-Encoding}; compressed responses are decoded transparently
+ * before reaching {@link HttpResponseHandler response handlers}, and
+ * compressed and uncompressed body sizes are reported with the request's
+ * observable event once the body has been read. Request bodies may be
+ * compressed via {@link #gzip(HttpRequest.Builder, String, byte[])}.
+ * </p>
+ * 
+ * <p>
+ * When the {@code iu.http.metricsInterval} runtime property is set, request
+ * counts by status code, failures, in-flight requests, body sizes, and a time
+ * to response histogram are aggregated by host and path template, and
+ * published as observable events at the configured interval.
  * </p>
  */
 public class IuHttp {
@@ -82,6 +134,14 @@ public class IuHttp {
 			a -> Stream.of(a.split(",")).map(URI::create).collect(Collectors.toUnmodifiableList()));
 
 	private static final HttpClient HTTP = HttpClient.newHttpClient();
+
+	private static final Collection<HttpDestination> DESTINATIONS = HttpDestination.configure();
+
+	private static final HttpResponseCache CACHE = HttpResponseCache.configure();
+
+	private static final HttpClientMetrics METRICS = HttpClientMetrics.configure();
+
+	private static final Map<List<?>, CompletableFuture<?>> IN_FLIGHT = new ConcurrentHashMap<>();
 	
 	/**
 	 * Validates a 200 OK response.
@@ -104,6 +164,33 @@ public class IuHttp {
 	public static final HttpResponseHandler<JsonObject> READ_JSON_OBJECT = validate(a -> IuJson.parse(a).asJsonObject(),
 			IuHttp.OK);
 
+	/**
+	 * Validates 200 OK then reads the response as a lazily parsed JSON object.
+	 * 
+	 * @see IuJson#parseLazy(InputStream)
+	 */
+	public static final HttpResponseHandler<JsonObject> READ_LAZY_JSON_OBJECT = validate(
+			a -> IuJson.parseLazy(a).asJsonObject(), IuHttp.OK);
+
+	/**
+	 * Gets an {@link HttpResponseHandler} that validates 200 OK then converts the
+	 * response directly from JSON parser events.
+	 * 
+	 * <p>
+	 * Handlers are compared by identity to
+	 * {@link #get(URI, HttpResponseHandler) coalesce concurrent requests}, so the
+	 * handler returned <em>should</em> be held as a constant.
+	 * </p>
+	 * 
+	 * @param <T>     response type
+	 * @param adapter JSON type adapter
+	 * @return {@link HttpResponseHandler}
+	 * @see IuJson#parse(InputStream, IuJsonAdapter)
+	 */
+	public static <T> HttpResponseHandler<T> readJson(IuJsonAdapter<T> adapter) {
+		return validate(a -> IuJson.parse(a, adapter), IuHttp.OK);
+	}
+
 	/**
 	 * Validates 200 OK then returns the response as UTF-8 text.
 	 */
@@ -175,6 +262,15 @@ public class IuHttp {
 	/**
 	 * Sends an HTTP GET request to a public URI.
 	 * 
+	 * <p>
+	 * Concurrent requests for the same URI with the same response handler share a
+	 * single in-flight request and its response value. The response handler
+	 * <em>must</em> return an immutable or thread-safe value; a handler that
+	 * returns a mutable value, e.g., a DOM {@code Document}, should be passed to
+	 * {@link #send(URI, UnsafeConsumer, HttpResponseHandler)} instead, which
+	 * doesn't coalesce requests.
+	 * </p>
+	 * 
 	 * @param <T>             response type
 	 * 
 	 * @param uri             public URI
@@ -184,8 +280,28 @@ public class IuHttp {
 	 * @return response value
 	 * @throws HttpException If the response has error status code.
 	 */
+	@SuppressWarnings("unchecked")
 	public static <T> T get(URI uri, HttpResponseHandler<T> responseHandler) throws HttpException {
-		return responseHandler.apply(send(uri, null));
+		final var key = List.of(uri, responseHandler);
+		final var future = new CompletableFuture<T>();
+		final var inFlight = IN_FLIGHT.putIfAbsent(key, future);
+		if (inFlight != null)
+			try {
+				return (T) inFlight.join();
+			} catch (CompletionException e) {
+				throw IuException.checked(e.getCause(), HttpException.class);
+			}
+
+		try {
+			final var value = responseHandler.apply(send(uri, null));
+			future.complete(value);
+			return value;
+		} catch (HttpException | RuntimeException | Error e) {
+			future.completeExceptionally(e);
+			throw e;
+		} finally {
+			IN_FLIGHT.remove(key, future);
+		}
 	}
 
 	/**
@@ -235,63 +351,14 @@ public class IuHttp {
 	 */
 	public static <E extends Exception> HttpResponse<InputStream> send(Class<E> exceptionClass, URI uri,
 			UnsafeConsumer<HttpRequest.Builder> requestConsumer) throws HttpException, E {
-		if (!"https".equals(uri.getScheme())) {
-			if (!isAllowed(ALLOWED_INSECURE_URI, uri))
-				throw new IllegalArgumentException(
-						"Insecure URI not allowed, must be relative to " + ALLOWED_INSECURE_URI);
-			else
-				LOG.info(() -> "Allowing insecure URI " + uri);
-		} else if (!isAllowed(ALLOWED_URI, uri))
-			throw new IllegalArgumentException("URI not allowed, must be relative to " + ALLOWED_URI);
+		checkAllowed(uri);
 
 		return IuException.checked(HttpException.class, exceptionClass, () -> {
-			final var requestBuilder = HttpRequest.newBuilder(uri);
-			if (requestConsumer != null)
-				requestConsumer.accept(requestBuilder);
-			final var request = requestBuilder.build();
-
-			final var sb = new StringBuilder();
-			sb.append(request.method());
-			sb.append(' ').append(request.uri());
-			final var requestHeaders = request.headers();
-			final var requestHeaderMap = requestHeaders.map();
-			if (!requestHeaderMap.isEmpty())
-				sb.append(' ').append(requestHeaderMap.keySet());
-
-			final var event = new IuHttpClientEvent(request.uri());
-			IuListener.observe(event);
-			
-			final HttpResponse<InputStream> response;
-			try {
-				response = HTTP.send(request, BodyHandlers.ofInputStream());
-			} catch (Throwable e) {
-				final var m = "HTTP connection failed " + sb;
-				LOG.log(Level.INFO, e, () -> m);
-				
-				IuListener.observe(event.received(0));
-				
-				throw new IllegalStateException(m, e);
-			}
-
-			final var status = response.statusCode();
-			IuListener.observe(event.received(status));
-			
-			sb.append(" ").append(IuWebUtils.describeStatus(status));
-
-			final var responseHeaders = response.headers();
-			final var responseHeaderMap = responseHeaders.map();
-			if (!responseHeaderMap.isEmpty())
-				sb.append(' ').append(responseHeaderMap.keySet());
-
-			if (status >= 400) {
-				final var m = sb.toString();
-				final var e = new HttpException(response, m);
-				LOG.log(Level.INFO, m, e);
-				throw e;
-			} else
-				LOG.fine(sb::toString);
-
-			return response;
+			if (requestConsumer == null //
+					&& CACHE != null)
+				return CACHE.get(uri, validator -> exchange(uri, validator));
+			else
+				return exchange(uri, requestConsumer);
 		});
 	}
 
@@ -340,6 +407,341 @@ public class IuHttp {
 		return responseHandler.apply(send(exceptionClass, uri, requestConsumer));
 	}
 
+	/**
+	 * Sends an asynchronous HTTP GET request to a public URI.
+	 * 
+	 * @param uri public URI
+	 * 
+	 * @return {@link CompletableFuture} that completes with the
+	 *         {@link HttpResponse}
+	 */
+	public static CompletableFuture<HttpResponse<InputStream>> getAsync(URI uri) {
+		return sendAsync(uri, null);
+	}
+
+	/**
+	 * Sends an asynchronous HTTP GET request to a public URI.
+	 * 
+	 * <p>
+	 * Concurrent requests for the same URI with the same response handler share a
+	 * single in-flight request and its response value. The response handler
+	 * <em>must</em> return an immutable or thread-safe value; use
+	 * {@link #sendAsync(URI, UnsafeConsumer, HttpResponseHandler)} for handlers
+	 * that return mutable values.
+	 * </p>
+	 * 
+	 * @param <T>             response type
+	 * 
+	 * @param uri             public URI
+	 * @param responseHandler function that converts HTTP response data to the
+	 *                        response type.
+	 * 
+	 * @return {@link CompletableFuture} that completes with the response value
+	 * @see #get(URI, HttpResponseHandler)
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> CompletableFuture<T> getAsync(URI uri, HttpResponseHandler<T> responseHandler) {
+		final var key = List.of(uri, responseHandler);
+		final var future = new CompletableFuture<T>();
+		final var inFlight = IN_FLIGHT.putIfAbsent(key, future);
+		if (inFlight != null)
+			return (CompletableFuture<T>) inFlight.copy();
+
+		try {
+			sendAsync(uri, null, responseHandler).whenComplete((value, error) -> {
+				IN_FLIGHT.remove(key, future);
+				if (error == null)
+					future.complete(value);
+				else
+					future.completeExceptionally(unwrap(error));
+			});
+		} catch (RuntimeException | Error e) {
+			IN_FLIGHT.remove(key, future);
+			future.completeExceptionally(e);
+			throw e;
+		}
+
+		return future.copy();
+	}
+
+	/**
+	 * Sends an asynchronous HTTP request.
+	 * 
+	 * @param uri             request URI
+	 * @param requestConsumer receives the {@link HttpRequest.Builder} before
+	 *                        sending to the server.
+	 * 
+	 * @return {@link CompletableFuture} that completes with the
+	 *         {@link HttpResponse}
+	 */
+	public static CompletableFuture<HttpResponse<InputStream>> sendAsync(URI uri,
+			UnsafeConsumer<HttpRequest.Builder> requestConsumer) {
+		return IuException.unchecked(() -> sendAsync(RuntimeException.class, uri, requestConsumer));
+	}
+
+	/**
+	 * Sends an asynchronous HTTP request.
+	 * 
+	 * @param <E>             additional exception type
+	 * 
+	 * @param exceptionClass  additional checked exception type to allow thrown from
+	 *                        requestConsumer
+	 * @param uri             request URI
+	 * @param requestConsumer receives the {@link HttpRequest.Builder} before
+	 *                        sending to the server.
+	 * 
+	 * @return {@link CompletableFuture} that completes with the
+	 *         {@link HttpResponse}
+	 * @throws E from requestConsumer
+	 */
+	public static <E extends Exception> CompletableFuture<HttpResponse<InputStream>> sendAsync(
+			Class<E> exceptionClass, URI uri, UnsafeConsumer<HttpRequest.Builder> requestConsumer) throws E {
+		checkAllowed(uri);
+
+		if (requestConsumer == null //
+				&& CACHE != null)
+			return CACHE.getAsync(uri,
+					validator -> exchangeAsync(uri, IuException.unchecked(() -> buildRequest(uri, validator))),
+					HttpDestination.RESPONSE_EXECUTOR);
+		else
+			return exchangeAsync(uri, IuException.checked(exceptionClass, () -> buildRequest(uri, requestConsumer)));
+	}
+
+	/**
+	 * Sends an asynchronous HTTP request.
+	 * 
+	 * @param <T>             response type
+	 * 
+	 * @param uri             request URI
+	 * @param requestConsumer receives the {@link HttpRequest.Builder} before
+	 *                        sending to the server.
+	 * @param responseHandler function that converts HTTP response data to the
+	 *                        response type.
+	 * 
+	 * @return {@link CompletableFuture} that completes with the response value
+	 */
+	public static <T> CompletableFuture<T> sendAsync(URI uri, UnsafeConsumer<HttpRequest.Builder> requestConsumer,
+			HttpResponseHandler<T> responseHandler) {
+		return IuException.unchecked(() -> sendAsync(RuntimeException.class, uri, requestConsumer, responseHandler));
+	}
+
+	/**
+	 * Sends an asynchronous HTTP request.
+	 * 
+	 * @param <T>             response type
+	 * @param <E>             additional exception type
+	 * 
+	 * @param exceptionClass  additional checked exception type to allow thrown from
+	 *                        requestConsumer
+	 * @param uri             request URI
+	 * @param requestConsumer receives the {@link HttpRequest.Builder} before
+	 *                        sending to the server.
+	 * @param responseHandler function that converts HTTP response data to the
+	 *                        response type.
+	 * 
+	 * @return {@link CompletableFuture} that completes with the response value
+	 * @throws E from requestConsumer
+	 */
+	public static <T, E extends Exception> CompletableFuture<T> sendAsync(Class<E> exceptionClass, URI uri,
+			UnsafeConsumer<HttpRequest.Builder> requestConsumer, HttpResponseHandler<T> responseHandler) throws E {
+		return sendAsync(exceptionClass, uri, requestConsumer).thenApplyAsync(response -> {
+			try {
+				return responseHandler.apply(response);
+			} catch (HttpException e) {
+				throw new CompletionException(e);
+			}
+		}, HttpDestination.RESPONSE_EXECUTOR);
+	}
+
+	/**
+	 * Sets a {@code gzip} compressed request body.
+	 * 
+	 * <p>
+	 * Only use with servers known to accept {@code Content-Encoding: gzip} on
+	 * requests.
+	 * </p>
+	 * 
+	 * @param requestBuilder {@link HttpRequest.Builder}
+	 * @param method         HTTP method, i.e., POST
+	 * @param body           uncompressed request body
+	 */
+	public static void gzip(HttpRequest.Builder requestBuilder, String method, byte[] body) {
+		requestBuilder.header("Content-Encoding", "gzip");
+		requestBuilder.method(method, BodyPublishers.ofByteArray(HttpCompression.gzip(body)));
+	}
+
+	/**
+	 * Verifies that a URI is allowed by the configured allow lists.
+	 * 
+	 * @param uri request URI
+	 * @throws IllegalArgumentException if the URI is not allowed
+	 */
+	private static void checkAllowed(URI uri) {
+		if (!"https".equals(uri.getScheme())) {
+			if (!isAllowed(ALLOWED_INSECURE_URI, uri))
+				throw new IllegalArgumentException(
+						"Insecure URI not allowed, must be relative to " + ALLOWED_INSECURE_URI);
+			else
+				LOG.info(() -> "Allowing insecure URI " + uri);
+		} else if (!isAllowed(ALLOWED_URI, uri))
+			throw new IllegalArgumentException("URI not allowed, must be relative to " + ALLOWED_URI);
+	}
+
+	/**
+	 * Builds an HTTP request.
+	 * 
+	 * @param uri             request URI
+	 * @param requestConsumer receives the {@link HttpRequest.Builder} before
+	 *                        building the request
+	 * @return {@link HttpRequest}
+	 * @throws Throwable from requestConsumer
+	 */
+	private static HttpRequest buildRequest(URI uri, UnsafeConsumer<HttpRequest.Builder> requestConsumer)
+			throws Throwable {
+		final var requestBuilder = HttpRequest.newBuilder(uri);
+		requestBuilder.setHeader("Accept-Encoding", HttpCompression.ACCEPT_ENCODING);
+		if (requestConsumer != null)
+			requestConsumer.accept(requestBuilder);
+		return requestBuilder.build();
+	}
+
+	/**
+	 * Sends a synchronous HTTP request.
+	 * 
+	 * @param uri             request URI
+	 * @param requestConsumer receives the {@link HttpRequest.Builder} before
+	 *                        sending to the server.
+	 * @return {@link HttpResponse}
+	 * @throws Throwable If the response has error status code, or from
+	 *                   requestConsumer
+	 */
+	private static HttpResponse<InputStream> exchange(URI uri, UnsafeConsumer<HttpRequest.Builder> requestConsumer)
+			throws Throwable {
+		final var exchange = new Exchange(buildRequest(uri, requestConsumer));
+
+		final var http = HttpDestination.select(DESTINATIONS, uri, HTTP);
+
+		final HttpResponse<InputStream> response;
+		try {
+			response = http.send(exchange.request, BodyHandlers.ofInputStream());
+		} catch (Throwable e) {
+			throw exchange.failed(e);
+		}
+
+		return exchange.received(response);
+	}
+
+	/**
+	 * Sends an asynchronous HTTP request.
+	 * 
+	 * @param uri     request URI
+	 * @param request {@link HttpRequest}
+	 * @return {@link CompletableFuture} that completes with the
+	 *         {@link HttpResponse}
+	 */
+	private static CompletableFuture<HttpResponse<InputStream>> exchangeAsync(URI uri, HttpRequest request) {
+		final var exchange = new Exchange(request);
+
+		final var http = HttpDestination.select(DESTINATIONS, uri, HTTP);
+
+		final CompletableFuture<HttpResponse<InputStream>> sent;
+		try {
+			sent = http.sendAsync(exchange.request, BodyHandlers.ofInputStream());
+		} catch (Throwable e) {
+			return CompletableFuture.failedFuture(exchange.failed(e));
+		}
+
+		return sent.handle((response, error) -> {
+			if (error != null)
+				throw exchange.failed(unwrap(error));
+
+			try {
+				return exchange.received(response);
+			} catch (HttpException e) {
+				throw new CompletionException(e);
+			}
+		});
+	}
+
+	/**
+	 * Unwraps the cause of an asynchronous failure.
+	 * 
+	 * @param error error passed to a completion stage
+	 * @return cause of {@link CompletionException}, or error as-is
+	 */
+	static Throwable unwrap(Throwable error) {
+		if (error instanceof CompletionException && error.getCause() != null)
+			return error.getCause();
+		else
+			return error;
+	}
+
+	/**
+	 * Tracks logging and {@link IuHttpClientEvent} state for a single request.
+	 */
+	private static class Exchange {
+		private final HttpRequest request;
+		private final StringBuilder sb = new StringBuilder();
+		private final IuHttpClientEvent event;
+		private final HttpClientMetrics.Sample sample;
+
+		private Exchange(HttpRequest request) {
+			this.request = request;
+			sample = METRICS.start(request);
+
+			sb.append(request.method());
+			sb.append(' ').append(request.uri());
+			final var requestHeaders = request.headers();
+			final var requestHeaderMap = requestHeaders.map();
+			if (!requestHeaderMap.isEmpty())
+				sb.append(' ').append(requestHeaderMap.keySet());
+
+			event = new IuHttpClientEvent(request.uri());
+			IuListener.observe(event);
+		}
+
+		private IllegalStateException failed(Throwable e) {
+			final var m = "HTTP connection failed " + sb;
+			LOG.log(Level.INFO, e, () -> m);
+
+			IuListener.observe(event.received(0));
+			sample.failed();
+
+			return new IllegalStateException(m, e);
+		}
+
+		private HttpResponse<InputStream> received(HttpResponse<InputStream> response) throws HttpException {
+			final var status = response.statusCode();
+			final var receivedEvent = event.received(status);
+			IuListener.observe(receivedEvent);
+			sample.received(status);
+
+			sb.append(" ").append(IuWebUtils.describeStatus(status));
+
+			final var responseHeaders = response.headers();
+			final var responseHeaderMap = responseHeaders.map();
+			if (!responseHeaderMap.isEmpty())
+				sb.append(' ').append(responseHeaderMap.keySet());
+
+			final var decoded = HttpCompression.decode(response, (compressedBytes, uncompressedBytes) -> {
+				sample.bytesIn(compressedBytes);
+				IuListener.observe(receivedEvent.decoded(compressedBytes, uncompressedBytes));
+			});
+			if (decoded == response)
+				sample.bytesIn(responseHeaders.firstValueAsLong("Content-Length").orElse(0L));
+
+			if (status >= 400) {
+				final var m = sb.toString();
+				final var e = new HttpException(decoded, m);
+				LOG.log(Level.INFO, m, e);
+				throw e;
+			} else
+				LOG.fine(sb::toString);
+
+			return decoded;
+		}
+	}
+
 	private IuHttp() {
 	}
 }
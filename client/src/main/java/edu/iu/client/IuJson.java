@@ -43,7 +43,10 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import edu.iu.IuException;
+import edu.iu.IuStream;
 import iu.client.JsonProxy;
+import iu.client.LazyJson;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonArrayBuilder;
 import jakarta.json.JsonBuilderFactory;
@@ -55,6 +58,7 @@ import jakarta.json.JsonObjectBuilder;
 import jakarta.json.JsonString;
 import jakarta.json.JsonValue;
 import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonParser;
 
 /**
  * JSON-P processing utilities.
@@ -100,6 +104,47 @@ public class IuJson {
 		return PROVIDER.createReader(serialized).readValue();
 	}
 
+	/**
+	 * Reads a JSON value from serialized form without building the full value
+	 * tree.
+	 * 
+	 * <p>
+	 * The input is read fully into memory as raw UTF-8, then objects and arrays
+	 * are returned as views over the raw data that locate and parse members only
+	 * as they are accessed. Well suited to large documents from which only a few
+	 * members are read. Malformed content is reported when first accessed, rather
+	 * than by this method.
+	 * </p>
+	 * 
+	 * @param serialized raw serialized JSON input stream
+	 * @return {@link JsonValue}
+	 */
+	public static JsonValue parseLazy(InputStream serialized) {
+		return LazyJson.parse(IuException.unchecked(() -> IuStream.read(serialized)));
+	}
+
+	/**
+	 * Parses a JSON value from serialized form and converts to its Java
+	 * equivalent.
+	 * 
+	 * <p>
+	 * Binds directly from {@link JsonParser} events via
+	 * {@link IuJsonAdapter#fromJsonParser(JsonParser)}, so an intermediate
+	 * {@link JsonValue} is not built for values the adapter handles natively.
+	 * </p>
+	 * 
+	 * @param <T>        target type
+	 * @param serialized raw serialized JSON input stream
+	 * @param adapter    JSON type adapter
+	 * @return Java equivalent
+	 */
+	public static <T> T parse(InputStream serialized, IuJsonAdapter<T> adapter) {
+		try (final var parser = PROVIDER.createParser(serialized)) {
+			parser.next();
+			return adapter.fromJsonParser(parser);
+		}
+	}
+
 	/**
 	 * Parses a JSON value from serialized form.
 	 * 
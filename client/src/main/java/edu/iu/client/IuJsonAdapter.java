@@ -92,6 +92,8 @@ import jakarta.json.JsonObjectBuilder;
 import jakarta.json.JsonString;
 import jakarta.json.JsonStructure;
 import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
 
 /**
  * Adapts JSON values to equivalent Java types.
@@ -201,8 +203,8 @@ public interface IuJsonAdapter<T> {
 	 */
 	static <T> IuJsonAdapter<T> from(Class<T> type, IuJsonPropertyNameFormat propertyNameFormat,
 			Function<Type, IuJsonAdapter<?>> valueAdapter) {
-		return from(v -> v == null ? null : IuJson.wrap(v.asJsonObject(), type, valueAdapter),
-				v -> JsonSerializer.serialize(type, v, propertyNameFormat, valueAdapter));
+		final var serializer = JsonSerializer.serializer(type, propertyNameFormat, valueAdapter);
+		return from(v -> v == null ? null : IuJson.wrap(v.asJsonObject(), type, valueAdapter), serializer::apply);
 	}
 
 	/**
@@ -433,6 +435,32 @@ public interface IuJsonAdapter<T> {
 	 */
 	T fromJson(JsonValue jsonValue);
 
+	/**
+	 * Converts a JSON value to its Java equivalent directly from
+	 * {@link JsonParser} events.
+	 * 
+	 * <p>
+	 * The parser <em>must</em> be positioned at the first event of the value,
+	 * i.e., {@link Event#START_OBJECT}, {@link Event#START_ARRAY}, or a scalar
+	 * value event. On return, the parser is positioned at the last event of the
+	 * value.
+	 * </p>
+	 * 
+	 * <p>
+	 * The default implementation reads the value from the parser as
+	 * {@link JsonValue} and delegates to {@link #fromJson(JsonValue)}. Adapters
+	 * provided by {@link #of(Type)} bind from parser events without building an
+	 * intermediate {@link JsonValue}, except where a nested value requires one,
+	 * i.e., for a {@link IuJson#wrap(JsonObject, Class) wrapped interface}.
+	 * </p>
+	 * 
+	 * @param parser {@link JsonParser}
+	 * @return Java equivalent
+	 */
+	default T fromJsonParser(JsonParser parser) {
+		return fromJson(parser.getValue());
+	}
+
 	/**
 	 * Converts a value to its JSON equivalent.
 	 * 
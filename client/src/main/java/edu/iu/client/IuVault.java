@@ -64,7 +64,16 @@ import jakarta.json.JsonObject;
  * <dt>iu.vault.secretId (IU_VAULT_SECRET_ID)</dt>
  * <dd>Vault approle Secret ID, for use when iu.vault.token is not set.</dd>
  * <dt>iu.vault.cacheTtl (IU_VAULT_CACHE_TTL)</dt>
- * <dd>Secrets cache time to live; by default, secrets are not cached.</dd>
+ * <dd>Secrets cache time to live; by default, secrets are not cached. A
+ * shorter lease duration returned with a secret takes precedence. Once cached,
+ * the last good value of a secret is returned if Vault fails to respond on
+ * reload.</dd>
+ * <dt>iu.vault.refreshInterval (IU_VAULT_REFRESH_INTERVAL)</dt>
+ * <dd>Interval for renewing the login token and reloading cached secrets in
+ * the background, ahead of expiration; by default, tokens and secrets are
+ * renewed on access after expiration. When set with iu.vault.cacheTtl, all
+ * configured secrets are also {@link #prefetch() prefetched} in the background
+ * at startup.</dd>
  * </dl>
  */
 public interface IuVault {
@@ -141,6 +150,23 @@ public interface IuVault {
 	 */
 	Iterable<IuVaultKeyedValue<?>> list();
 
+	/**
+	 * Loads all configured secrets into the cache.
+	 * 
+	 * <p>
+	 * Secrets not already cached are requested concurrently, so the call
+	 * completes in about the time it takes to read the slowest secret. Has no
+	 * effect if iu.vault.cacheTtl is not set. If any secret can't be read, the
+	 * secrets that were read are still cached before the failure is thrown.
+	 * </p>
+	 * 
+	 * <p>
+	 * The default implementation does nothing.
+	 * </p>
+	 */
+	default void prefetch() {
+	}
+
 	/**
 	 * Reads a property value.
 	 * 
@@ -33,25 +33,102 @@ package edu.iu.client;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.net.URI;
 import java.net.http.HttpRequest;
 import java.net.http.HttpRequest.BodyPublishers;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.logging.Logger;
 
 import edu.iu.IuObject;
 import edu.iu.IuStream;
 import edu.iu.IuText;
 import edu.iu.UnsafeConsumer;
+import edu.iu.UnsafeRunnable;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonValue;
 
 /**
- * May be extended for synchronous client=side remote invocation of a Java
- * interface via HTTP POST.
+ * May be extended for client-side remote invocation of a Java interface via
+ * HTTP POST.
+ * 
+ * <p>
+ * Methods that return {@link CompletionStage} or {@link CompletableFuture} are
+ * invoked asynchronously. All other methods block until the remote call
+ * completes.
+ * </p>
+ * 
+ * <p>
+ * Asynchronous calls made within a {@link #batch(UnsafeRunnable) batch scope}
+ * are sent together as a single request to {@link #batchUri()}, if supplied.
+ * The request body is a JSON array with one object per call, in call order:
+ * </p>
+ * 
+ * <pre>
+ * [ { "uri": "{@link #uri(Method)}", "args": [ ... ] }, ... ]
+ * </pre>
+ * 
+ * <p>
+ * The response is expected to be a JSON array of the same length, in the same
+ * order. Each element holds either the call's return value as {@code "result"}
+ * or a {@link RemoteInvocationFailure} as {@code "error"}.
+ * </p>
+ * 
+ * <p>
+ * Per-call arguments are encoded by {@link #arguments(Method, Object[])} for
+ * both direct and batched calls, so overriding that method affects both. A
+ * subclass that overrides {@link #payload(HttpRequest.Builder, Method, Object[])
+ * payload(...)} controls the full request body, which cannot be represented in
+ * a batch envelope; batch scopes have no effect on such a handler and each call
+ * is sent individually.
+ * </p>
  */
 public abstract class RemoteInvocationHandler implements InvocationHandler {
 
 	private static final Logger LOG = Logger.getLogger(RemoteInvocationHandler.class.getName());
 
+	/**
+	 * Asynchronous call pending completion of a batch scope.
+	 */
+	private static class PendingCall {
+		private final Method method;
+		private final Object[] args;
+		private final Type resultType;
+		private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+		private PendingCall(Method method, Object[] args, Type resultType) {
+			this.method = method;
+			this.args = args;
+			this.resultType = resultType;
+		}
+	}
+
+	/**
+	 * Detects subclasses that override
+	 * {@link #payload(HttpRequest.Builder, Method, Object[])}.
+	 */
+	private static final ClassValue<Boolean> PAYLOAD_OVERRIDDEN = new ClassValue<>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			for (var c = type; c != RemoteInvocationHandler.class; c = c.getSuperclass())
+				try {
+					c.getDeclaredMethod("payload", HttpRequest.Builder.class, Method.class, Object[].class);
+					return true;
+				} catch (NoSuchMethodException e) {
+					// continue to superclass
+				}
+			return false;
+		}
+	};
+
+	private final ThreadLocal<Queue<PendingCall>> batch = new ThreadLocal<>();
+
 	/**
 	 * Default constructor.
 	 */
@@ -73,12 +150,25 @@ public abstract class RemoteInvocationHandler implements InvocationHandler {
 	 */
 	protected abstract void authorize(HttpRequest.Builder requestBuilder);
 
+	/**
+	 * Supplies the URI for sending batched calls.
+	 * 
+	 * <p>
+	 * Default behavior returns null, to disable batching.
+	 * </p>
+	 * 
+	 * @return {@link URI}; null if batching is not supported
+	 */
+	protected URI batchUri() {
+		return null;
+	}
+
 	/**
 	 * Adds request payload to a pending remote call request.
 	 * 
 	 * <p>
-	 * Default behavior is to POST arguments as a JSON array, using
-	 * {@link #adapt(Type)} for conversion.
+	 * Default behavior is to POST {@link #arguments(Method, Object[])} as JSON.
+	 * Overriding this method disables batching for this handler.
 	 * </p>
 	 * 
 	 * @param requestBuilder pending remote call request
@@ -86,18 +176,34 @@ public abstract class RemoteInvocationHandler implements InvocationHandler {
 	 * @param args           arguments
 	 */
 	protected void payload(HttpRequest.Builder requestBuilder, Method method, Object[] args) {
-		final var parameters = method.getParameters();
-		final var requestBody = IuJson.array();
-		for (var i = 0; i < parameters.length; i++)
-			requestBody.add(adapt(parameters[i].getParameterizedType()).toJson(args[i]));
-
-		final var request = requestBody.build().toString();
+		final var request = arguments(method, args).toString();
 		LOG.finer(() -> method + " " + request);
 
 		requestBuilder.header("Content-Type", "application/json");
 		requestBuilder.POST(BodyPublishers.ofString(request));
 	}
 
+	/**
+	 * Converts arguments to a JSON array, using {@link #adapt(Type)} for
+	 * conversion.
+	 * 
+	 * <p>
+	 * Used for both the default {@link #payload(HttpRequest.Builder, Method,
+	 * Object[]) payload} and for each {@code "args"} entry in a batch request.
+	 * </p>
+	 * 
+	 * @param method method
+	 * @param args   arguments
+	 * @return {@link JsonValue}
+	 */
+	protected JsonValue arguments(Method method, Object[] args) {
+		final var parameters = method.getParameters();
+		final var arguments = IuJson.array();
+		for (var i = 0; i < parameters.length; i++)
+			arguments.add(adapt(parameters[i].getParameterizedType()).toJson(args[i]));
+		return arguments.build();
+	}
+
 	/**
 	 * Get a {@link IuJsonAdapter} for converting to a generic type.
 	 * 
@@ -138,6 +244,41 @@ public abstract class RemoteInvocationHandler implements InvocationHandler {
 		return null;
 	}
 
+	/**
+	 * Runs a batch scope.
+	 * 
+	 * <p>
+	 * Asynchronous calls made by the current thread while the scope is running
+	 * are held, then sent together in a single request when the scope ends. The
+	 * scope <em>must not</em> wait for completion of its own asynchronous calls.
+	 * Synchronous calls are sent immediately. Has no effect on calls made if
+	 * {@link #batchUri()} returns null, if
+	 * {@link #payload(HttpRequest.Builder, Method, Object[])} is overridden, or
+	 * if a batch scope is already active.
+	 * </p>
+	 * 
+	 * @param scope batch scope
+	 * @throws Throwable from the scope
+	 */
+	public void batch(UnsafeRunnable scope) throws Throwable {
+		final var batchUri = batchUri();
+		if (batchUri == null //
+				|| PAYLOAD_OVERRIDDEN.get(getClass()) //
+				|| batch.get() != null) {
+			scope.run();
+			return;
+		}
+
+		final Queue<PendingCall> pending = new ArrayDeque<>();
+		batch.set(pending);
+		try {
+			scope.run();
+		} finally {
+			batch.remove();
+			send(batchUri, pending);
+		}
+	}
+
 	@Override
 	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
 		{
@@ -146,6 +287,11 @@ public abstract class RemoteInvocationHandler implements InvocationHandler {
 				return rv;
 		}
 
+		final var returnType = method.getReturnType();
+		if (returnType == CompletionStage.class //
+				|| returnType == CompletableFuture.class)
+			return invokeAsync(method, args);
+
 		final UnsafeConsumer<HttpRequest.Builder> request = builder -> {
 			authorize(builder);
 			payload(builder, method, args);
@@ -162,19 +308,142 @@ public abstract class RemoteInvocationHandler implements InvocationHandler {
 				return adapt(type).fromJson(responseJson);
 			}
 		} catch (HttpException e) {
-			Throwable remoteError;
-			String body = null;
+			throw remoteError(e);
+		}
+	}
+
+	/**
+	 * Invokes a method that returns {@link CompletionStage}.
+	 * 
+	 * @param method method
+	 * @param args   arguments
+	 * @return {@link CompletableFuture} that completes with the converted
+	 *         response
+	 */
+	private CompletableFuture<Object> invokeAsync(Method method, Object[] args) {
+		final Type type;
+		final var genericReturnType = method.getGenericReturnType();
+		if (genericReturnType instanceof ParameterizedType)
+			type = ((ParameterizedType) genericReturnType).getActualTypeArguments()[0];
+		else
+			type = Object.class;
+
+		final var pending = batch.get();
+		if (pending != null) {
+			final var call = new PendingCall(method, args, type);
+			pending.offer(call);
+			return call.result;
+		}
+
+		final UnsafeConsumer<HttpRequest.Builder> request = builder -> {
+			authorize(builder);
+			payload(builder, method, args);
+		};
+
+		final CompletableFuture<JsonValue> response;
+		if (type == Void.class)
+			response = IuHttp.sendAsync(uri(method), request, IuHttp.NO_CONTENT).thenApply(a -> null);
+		else
+			response = IuHttp.sendAsync(uri(method), request, IuHttp.READ_JSON);
+
+		return response.handle((responseJson, error) -> {
+			if (error != null)
+				throw new CompletionException(remoteError(IuHttp.unwrap(error)));
+
+			if (type == Void.class)
+				return null;
+
+			LOG.finer(() -> method + " " + responseJson);
+			return adapt(type).fromJson(responseJson);
+		});
+	}
+
+	/**
+	 * Sends batched calls.
+	 * 
+	 * @param batchUri batch {@link URI}
+	 * @param pending  pending calls
+	 */
+	private void send(URI batchUri, Queue<PendingCall> pending) {
+		if (pending.isEmpty())
+			return;
+
+		CompletableFuture<JsonValue> response;
+		try {
+			final var envelope = IuJson.array();
+			for (final var call : pending)
+				envelope.add(IuJson.object() //
+						.add("uri", uri(call.method).toString()) //
+						.add("args", arguments(call.method, call.args)));
+
+			final var request = envelope.build().toString();
+			LOG.finer(() -> batchUri + " " + request);
+
+			response = IuHttp.sendAsync(batchUri, builder -> {
+				authorize(builder);
+				builder.header("Content-Type", "application/json");
+				builder.POST(BodyPublishers.ofString(request));
+			}, IuHttp.READ_JSON);
+		} catch (Throwable e) {
+			response = CompletableFuture.failedFuture(e);
+		}
+
+		response.whenComplete((responseJson, error) -> {
+			final JsonArray results;
 			try {
-				body = IuText.utf8(IuStream.read(e.getResponse().body()));
-				remoteError = new RemoteInvocationException(
-						(RemoteInvocationFailure) adapt(RemoteInvocationFailure.class).fromJson(IuJson.parse(body)));
-				remoteError.addSuppressed(e);
-			} catch (Throwable errorHandlingFailure) {
-				remoteError = new IllegalStateException(body, e);
-				remoteError.addSuppressed(errorHandlingFailure);
+				if (error != null)
+					throw remoteError(IuHttp.unwrap(error));
+
+				LOG.finer(() -> batchUri + " " + responseJson);
+				results = Objects.requireNonNull(responseJson, "Missing batch response").asJsonArray();
+			} catch (Throwable e) {
+				for (final var call : pending)
+					call.result.completeExceptionally(e);
+				return;
 			}
-			throw remoteError;
+
+			var i = 0;
+			for (final var call : pending)
+				try {
+					final var result = results.getJsonObject(i++);
+					if (result.containsKey("error"))
+						call.result.completeExceptionally(new RemoteInvocationException((RemoteInvocationFailure) adapt(
+								RemoteInvocationFailure.class).fromJson(result.get("error"))));
+					else if (call.resultType == Void.class)
+						call.result.complete(null);
+					else
+						call.result.complete(adapt(call.resultType).fromJson(result.get("result")));
+				} catch (Throwable e) {
+					call.result.completeExceptionally(e);
+				}
+		});
+	}
+
+	/**
+	 * Converts an error response to the error to throw from the proxy.
+	 * 
+	 * @param error error from a remote call
+	 * @return {@link RemoteInvocationException} if the error response describes
+	 *         a {@link RemoteInvocationFailure}; {@link IllegalStateException} if
+	 *         the error response is not understood; else the error as-is
+	 */
+	private Throwable remoteError(Throwable error) {
+		if (!(error instanceof HttpException))
+			return error;
+
+		final var e = (HttpException) error;
+		Throwable remoteError;
+		String body = null;
+		try {
+			body = IuText.utf8(IuStream.read(e.getResponse().body()));
+			remoteError = new RemoteInvocationException(
+					(RemoteInvocationFailure) adapt(RemoteInvocationFailure.class).fromJson(IuJson.parse(body)));
+			remoteError.addSuppressed(e);
+		} catch (Throwable errorHandlingFailure) {
+			remoteError = new IllegalStateException(body, e);
+			remoteError.addSuppressed(errorHandlingFailure);
 		}
+		return remoteError;
 	}
 
 }
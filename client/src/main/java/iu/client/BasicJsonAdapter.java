@@ -50,6 +50,8 @@ import jakarta.json.JsonObject;
 import jakarta.json.JsonObjectBuilder;
 import jakarta.json.JsonString;
 import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
 
 /**
  * Implements {@link IuJsonAdapter#basic()}
@@ -94,6 +96,25 @@ class BasicJsonAdapter implements IuJsonAdapter<Object> {
 			return null;
 	}
 
+	@Override
+	public Object fromJsonParser(JsonParser parser) {
+		final var event = parser.currentEvent();
+		if (event == Event.START_ARRAY)
+			return listAdapter.fromJsonParser(parser);
+		else if (event == Event.START_OBJECT)
+			return mapAdapter.fromJsonParser(parser);
+		else if (event == Event.VALUE_STRING)
+			return parser.getString();
+		else if (event == Event.VALUE_NUMBER)
+			return parser.getBigDecimal();
+		else if (event == Event.VALUE_TRUE)
+			return Boolean.TRUE;
+		else if (event == Event.VALUE_FALSE)
+			return Boolean.FALSE;
+		else // (event == Event.VALUE_NULL)
+			return null;
+	}
+
 	@Override
 	@SuppressWarnings({ "unchecked", "rawtypes" })
 	public JsonValue toJson(Object value) {
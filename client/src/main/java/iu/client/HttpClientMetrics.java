@@ -0,0 +1,295 @@
+/*
+ * Copyright © 2026 Indiana University
+ * All rights reserved.
+ *
+ * BSD 3-Clause License
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ * 
+ * - Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package iu.client;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import edu.iu.IuListener;
+import edu.iu.IuObservableEvent;
+import edu.iu.IuRuntimeEnvironment;
+
+/**
+ * Aggregates outbound HTTP request metrics by host and path template.
+ * 
+ * <p>
+ * Enabled by the {@code iu.http.metricsInterval} runtime property, as an
+ * {@link Duration#parse(CharSequence) ISO-8601 duration}. At each interval, a
+ * {@link HttpClientMetricsEvent} snapshot for each host and path template with
+ * activity since the last snapshot is published via
+ * {@link IuListener#observe(edu.iu.IuObservableEvent)}.
+ * </p>
+ * 
+ * <p>
+ * Path segments that are numeric, include two or more digits, or are longer
+ * than 20 characters are assumed to be identifiers, and are replaced by
+ * {@code *} in the path template. Query strings are not included.
+ * </p>
+ * 
+ * <p>
+ * Counters are {@link LongAdder striped} to avoid contention between threads
+ * sending requests to the same destination.
+ * </p>
+ */
+public final class HttpClientMetrics {
+
+	/**
+	 * Upper bounds, in milliseconds, of time to response histogram buckets; the
+	 * last bucket counts all longer times.
+	 */
+	static final long[] BUCKETS = { 1L, 2L, 5L, 10L, 20L, 50L, 100L, 200L, 500L, 1000L, 2000L, 5000L, 10000L };
+
+	private static final int MAX_TEMPLATES = 1000;
+
+	private static final Timer TIMER = new Timer("iu-http-metrics", true);
+
+	/**
+	 * Aggregate metrics for a host and path template.
+	 */
+	static class Aggregate {
+		private final URI template;
+		private final LongAdder inFlight = new LongAdder();
+		private final LongAdder failed = new LongAdder();
+		private final LongAdder bytesOut = new LongAdder();
+		private final LongAdder bytesIn = new LongAdder();
+		private final Map<Integer, LongAdder> status = new ConcurrentHashMap<>();
+		private final LongAdder[] timeToResponse = new LongAdder[BUCKETS.length + 1];
+		private volatile Instant since = Instant.now();
+
+		private Aggregate(URI template) {
+			this.template = template;
+			for (var i = 0; i < timeToResponse.length; i++)
+				timeToResponse[i] = new LongAdder();
+		}
+
+		private HttpClientMetricsEvent snapshot() {
+			final var now = Instant.now();
+			final var snapshot = new HttpClientMetricsEvent(template, since, now, inFlight.sum(),
+					failed.sumThenReset(), bytesOut.sumThenReset(), bytesIn.sumThenReset(), status,
+					timeToResponse);
+			since = now;
+			return snapshot;
+		}
+	}
+
+	/**
+	 * Records metrics for a single request.
+	 */
+	public static final class Sample {
+		private final Aggregate aggregate;
+		private final long start = System.nanoTime();
+		private boolean done;
+
+		private Sample(Aggregate aggregate, HttpRequest request) {
+			this.aggregate = aggregate;
+			if (aggregate == null)
+				return;
+
+			aggregate.inFlight.increment();
+			final var contentLength = request.bodyPublisher().map(BodyPublisher::contentLength).orElse(0L);
+			if (contentLength > 0L)
+				aggregate.bytesOut.add(contentLength);
+		}
+
+		/**
+		 * Records receipt of response headers.
+		 * 
+		 * @param statusCode HTTP status code
+		 */
+		public void received(int statusCode) {
+			if (aggregate == null //
+					|| !complete())
+				return;
+
+			final var elapsed = (System.nanoTime() - start) / 1_000_000L;
+			var bucket = 0;
+			while (bucket < BUCKETS.length //
+					&& elapsed > BUCKETS[bucket])
+				bucket++;
+			aggregate.timeToResponse[bucket].increment();
+			aggregate.status.computeIfAbsent(statusCode, a -> new LongAdder()).increment();
+		}
+
+		/**
+		 * Records a failure to send the request or receive a response.
+		 */
+		public void failed() {
+			if (aggregate == null //
+					|| !complete())
+				return;
+
+			aggregate.failed.increment();
+		}
+
+		/**
+		 * Records response body bytes received.
+		 * 
+		 * @param bytes number of bytes received
+		 */
+		public void bytesIn(long bytes) {
+			if (aggregate != null //
+					&& bytes > 0L)
+				aggregate.bytesIn.add(bytes);
+		}
+
+		private synchronized boolean complete() {
+			if (done)
+				return false;
+
+			done = true;
+			aggregate.inFlight.decrement();
+			return true;
+		}
+	}
+
+	private final Map<URI, Aggregate> aggregates;
+	private final Consumer<IuObservableEvent> observer;
+
+	/**
+	 * Creates request metrics from the {@code iu.http.metricsInterval} runtime
+	 * property.
+	 * 
+	 * @return {@link HttpClientMetrics}; disabled if
+	 *         {@code iu.http.metricsInterval} is not set
+	 */
+	public static HttpClientMetrics configure() {
+		return new HttpClientMetrics(IuRuntimeEnvironment.envOptional("iu.http.metricsInterval", Duration::parse));
+	}
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param interval snapshot interval; null to disable metrics
+	 */
+	HttpClientMetrics(Duration interval) {
+		this(interval, IuListener::observe);
+	}
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param interval snapshot interval; null to disable metrics
+	 * @param observer receives published snapshots
+	 */
+	HttpClientMetrics(Duration interval, Consumer<IuObservableEvent> observer) {
+		this.observer = observer;
+		if (interval == null)
+			aggregates = null;
+		else {
+			aggregates = new ConcurrentHashMap<>();
+			TIMER.schedule(new TimerTask() {
+				@Override
+				public void run() {
+					publish();
+				}
+			}, interval.toMillis(), interval.toMillis());
+		}
+	}
+
+	/**
+	 * Starts recording metrics for a request.
+	 * 
+	 * @param request {@link HttpRequest}
+	 * @return {@link Sample}
+	 */
+	public Sample start(HttpRequest request) {
+		if (aggregates == null)
+			return new Sample(null, request);
+
+		var template = template(request.uri());
+		if (aggregates.size() >= MAX_TEMPLATES //
+				&& !aggregates.containsKey(template))
+			template = URI.create(template.getScheme() + "://" + template.getRawAuthority() + "/**");
+
+		return new Sample(aggregates.computeIfAbsent(template, Aggregate::new), request);
+	}
+
+	/**
+	 * Publishes a snapshot of each host and path template with activity since
+	 * the last snapshot.
+	 */
+	void publish() {
+		for (final var aggregate : aggregates.values()) {
+			final var snapshot = aggregate.snapshot();
+			if (snapshot.getRequests() > 0L //
+					|| snapshot.getInFlight() > 0L)
+				observer.accept(snapshot);
+		}
+	}
+
+	/**
+	 * Gets the host and path template for a request URI.
+	 * 
+	 * @param uri request URI
+	 * @return {@link URI} with scheme, authority, and path template
+	 */
+	static URI template(URI uri) {
+		final var sb = new StringBuilder();
+		sb.append(uri.getScheme()).append("://").append(uri.getRawAuthority());
+
+		final var path = uri.getRawPath();
+		if (path != null //
+				&& path.startsWith("/"))
+			for (final var segment : path.substring(1).split("/", -1)) {
+				sb.append('/');
+				if (isIdentifier(segment))
+					sb.append('*');
+				else
+					sb.append(segment);
+			}
+
+		return URI.create(sb.toString());
+	}
+
+	private static boolean isIdentifier(String segment) {
+		if (segment.length() > 20)
+			return true;
+
+		var digits = 0;
+		for (var i = 0; i < segment.length(); i++)
+			if (Character.isDigit(segment.charAt(i)))
+				digits++;
+
+		return digits > 0 //
+				&& (digits >= 2 || digits == segment.length());
+	}
+
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright © 2026 Indiana University
+ * All rights reserved.
+ *
+ * BSD 3-Clause License
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ * 
+ * - Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package iu.client;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import edu.iu.IdGenerator;
+import edu.iu.IuObservableEvent;
+
+/**
+ * Observable snapshot of outbound HTTP request metrics for a host and path
+ * template.
+ * 
+ * @see HttpClientMetrics
+ */
+public class HttpClientMetricsEvent implements IuObservableEvent {
+
+	private final String id = IdGenerator.generateId();
+	private final URI uri;
+	private final Instant startTime;
+	private final Instant time;
+	private final long inFlight;
+	private final long failed;
+	private final long bytesOut;
+	private final long bytesIn;
+	private final Map<Integer, Long> statusCounts;
+	private final long[] timeToResponse;
+	private final long requests;
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param uri            host and path template
+	 * @param startTime      start of the snapshot interval
+	 * @param time           end of the snapshot interval
+	 * @param inFlight       requests in flight at the end of the interval
+	 * @param failed         requests failed without a response
+	 * @param bytesOut       request body bytes sent
+	 * @param bytesIn        response body bytes received
+	 * @param statusCounts   response counts by status code; reset after copying
+	 * @param timeToResponse time to response histogram; reset after copying
+	 */
+	HttpClientMetricsEvent(URI uri, Instant startTime, Instant time, long inFlight, long failed, long bytesOut,
+			long bytesIn, Map<Integer, LongAdder> statusCounts, LongAdder[] timeToResponse) {
+		this.uri = uri;
+		this.startTime = startTime;
+		this.time = time;
+		this.inFlight = inFlight;
+		this.failed = failed;
+		this.bytesOut = bytesOut;
+		this.bytesIn = bytesIn;
+
+		var requests = failed;
+		final Map<Integer, Long> counts = new TreeMap<>();
+		for (final var statusCount : statusCounts.entrySet()) {
+			final var count = statusCount.getValue().sumThenReset();
+			if (count > 0L)
+				counts.put(statusCount.getKey(), count);
+			requests += count;
+		}
+		this.statusCounts = Collections.unmodifiableMap(counts);
+		this.requests = requests;
+
+		this.timeToResponse = new long[timeToResponse.length];
+		for (var i = 0; i < timeToResponse.length; i++)
+			this.timeToResponse[i] = timeToResponse[i].sumThenReset();
+	}
+
+	@Override
+	public String getId() {
+		return id;
+	}
+
+	@Override
+	public Instant getStartTime() {
+		return startTime;
+	}
+
+	@Override
+	public Instant getTime() {
+		return time;
+	}
+
+	@Override
+	public String getType() {
+		return "http.client.metrics";
+	}
+
+	@Override
+	public URI getUri() {
+		return uri;
+	}
+
+	@Override
+	public String getAction() {
+		return "snapshot";
+	}
+
+	/**
+	 * Gets the number of requests completed during the interval.
+	 * 
+	 * @return requests that received a response or failed
+	 */
+	public long getRequests() {
+		return requests;
+	}
+
+	/**
+	 * Gets the number of requests in flight at the end of the interval.
+	 * 
+	 * @return requests sent without a response
+	 */
+	public long getInFlight() {
+		return inFlight;
+	}
+
+	/**
+	 * Gets the number of requests that failed without a response.
+	 * 
+	 * @return failed requests
+	 */
+	public long getFailed() {
+		return failed;
+	}
+
+	/**
+	 * Gets the number of request body bytes sent, when known in advance.
+	 * 
+	 * @return bytes sent
+	 */
+	public long getBytesOut() {
+		return bytesOut;
+	}
+
+	/**
+	 * Gets the number of response body bytes received, as reported by
+	 * {@code Content-Length} or counted while decoding a compressed response.
+	 * 
+	 * @return bytes received
+	 */
+	public long getBytesIn() {
+		return bytesIn;
+	}
+
+	/**
+	 * Gets response counts by status code.
+	 * 
+	 * @return status code to count
+	 */
+	public Map<Integer, Long> getStatusCounts() {
+		return statusCounts;
+	}
+
+	/**
+	 * Gets the time to response histogram.
+	 * 
+	 * @return count of responses received within each
+	 *         {@link #getTimeToResponseBuckets() bucket}; the last element counts
+	 *         responses received after the last bucket
+	 */
+	public long[] getTimeToResponse() {
+		return timeToResponse.clone();
+	}
+
+	/**
+	 * Gets time to response histogram bucket upper bounds, in milliseconds.
+	 * 
+	 * @return bucket upper bounds
+	 */
+	public long[] getTimeToResponseBuckets() {
+		return HttpClientMetrics.BUCKETS.clone();
+	}
+
+	@Override
+	public String toString() {
+		final var sb = new StringBuilder();
+		sb.append("HttpClientMetricsEvent [id=").append(id);
+		sb.append(", uri=").append(uri);
+		sb.append(", startTime=").append(startTime);
+		sb.append(", time=").append(time);
+		sb.append(", requests=").append(requests);
+		sb.append(", inFlight=").append(inFlight);
+		sb.append(", failed=").append(failed);
+		sb.append(", bytesOut=").append(bytesOut);
+		sb.append(", bytesIn=").append(bytesIn);
+		sb.append(", statusCounts=").append(statusCounts);
+		sb.append(", timeToResponse={");
+		for (var i = 0; i < timeToResponse.length; i++) {
+			if (timeToResponse[i] == 0L)
+				continue;
+			if (sb.charAt(sb.length() - 1) != '{')
+				sb.append(", ");
+			if (i < HttpClientMetrics.BUCKETS.length)
+				sb.append("<=").append(HttpClientMetrics.BUCKETS[i]).append("ms");
+			else
+				sb.append(">").append(HttpClientMetrics.BUCKETS[i - 1]).append("ms");
+			sb.append('=').append(timeToResponse[i]);
+		}
+		sb.append("}]");
+		return sb.toString();
+	}
+
+}
@@ -0,0 +1,381 @@
+/*
+ * Copyright © 2026 Indiana University
+ * All rights reserved.
+ *
+ * BSD 3-Clause License
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ * 
+ * - Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package iu.client;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient.Version;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+
+import javax.net.ssl.SSLSession;
+
+/**
+ * Compresses HTTP request bodies and decodes compressed HTTP responses.
+ * 
+ * <p>
+ * Supports the {@code gzip} and {@code deflate} content codings. Native zlib
+ * state is expensive to create, so {@link Inflater} and {@link Deflater}
+ * instances are pooled and reused across requests.
+ * </p>
+ */
+public final class HttpCompression {
+
+	/**
+	 * {@code Accept-Encoding} header value for supported content codings.
+	 */
+	public static final String ACCEPT_ENCODING = "gzip, deflate";
+
+	private static final int POOL_SIZE = 16;
+	private static final Queue<Inflater> GZIP_INFLATERS = new ArrayBlockingQueue<>(POOL_SIZE);
+	private static final Queue<Inflater> ZLIB_INFLATERS = new ArrayBlockingQueue<>(POOL_SIZE);
+	private static final Queue<Deflater> DEFLATERS = new ArrayBlockingQueue<>(POOL_SIZE);
+
+	private static final int FHCRC = 2;
+	private static final int FEXTRA = 4;
+	private static final int FNAME = 8;
+	private static final int FCOMMENT = 16;
+
+	/**
+	 * Receives compressed and uncompressed byte counts when a decoded response
+	 * body has been fully read or closed.
+	 */
+	@FunctionalInterface
+	public interface ByteCounts {
+		/**
+		 * Receives byte counts.
+		 * 
+		 * @param compressed   bytes read from the response
+		 * @param uncompressed bytes read after decoding
+		 */
+		void accept(long compressed, long uncompressed);
+	}
+
+	/**
+	 * Counts bytes read from a compressed response body.
+	 */
+	private static class CountingInputStream extends FilterInputStream {
+		private long count;
+
+		private CountingInputStream(InputStream in) {
+			super(in);
+		}
+
+		@Override
+		public int read() throws IOException {
+			final var b = super.read();
+			if (b != -1)
+				count++;
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			final var n = super.read(b, off, len);
+			if (n > 0)
+				count += n;
+			return n;
+		}
+	}
+
+	/**
+	 * Decodes a compressed response body using a pooled {@link Inflater}.
+	 */
+	private static class DecodingInputStream extends InflaterInputStream {
+		private final boolean gzip;
+		private final CountingInputStream counter;
+		private final ByteCounts byteCounts;
+		private final CRC32 crc = new CRC32();
+		private boolean started;
+		private boolean completed;
+		private boolean released;
+
+		private DecodingInputStream(CountingInputStream in, boolean gzip, ByteCounts byteCounts) {
+			super(in, borrow(gzip ? GZIP_INFLATERS : ZLIB_INFLATERS, () -> new Inflater(gzip)));
+			this.gzip = gzip;
+			this.counter = in;
+			this.byteCounts = byteCounts;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (!started) {
+				started = true;
+				if (gzip)
+					readHeader();
+			}
+
+			final var n = super.read(b, off, len);
+			if (n > 0)
+				crc.update(b, off, n);
+			else if (n == -1 //
+					&& !completed) {
+				if (gzip)
+					readTrailer();
+				complete();
+			}
+			return n;
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (released)
+				return;
+			released = true;
+
+			try {
+				super.close();
+			} finally {
+				complete();
+				release(gzip ? GZIP_INFLATERS : ZLIB_INFLATERS, inf, Inflater::reset, Inflater::end);
+			}
+		}
+
+		private void complete() {
+			if (completed)
+				return;
+			completed = true;
+			byteCounts.accept(counter.count, inf.getBytesWritten());
+		}
+
+		private void readHeader() throws IOException {
+			if (in.read() != 0x1f //
+					|| in.read() != 0x8b //
+					|| in.read() != Deflater.DEFLATED)
+				throw new ZipException("Not in GZIP format");
+
+			final var flags = readByte();
+			skip(6); // MTIME, XFL, OS
+			if ((flags & FEXTRA) == FEXTRA)
+				skip(readByte() | (readByte() << 8));
+			if ((flags & FNAME) == FNAME)
+				while (readByte() != 0)
+					;
+			if ((flags & FCOMMENT) == FCOMMENT)
+				while (readByte() != 0)
+					;
+			if ((flags & FHCRC) == FHCRC)
+				skip(2);
+		}
+
+		private void readTrailer() throws IOException {
+			final var remaining = inf.getRemaining();
+			final var trailer = new byte[8];
+			final var buffered = Math.min(remaining, 8);
+			System.arraycopy(buf, len - remaining, trailer, 0, buffered);
+			for (var i = buffered; i < 8; i++)
+				trailer[i] = (byte) readByte();
+
+			if (readInt(trailer, 0) != (int) crc.getValue() //
+					|| readInt(trailer, 4) != (int) inf.getBytesWritten())
+				throw new ZipException("Corrupt GZIP trailer");
+		}
+
+		private int readByte() throws IOException {
+			final var b = in.read();
+			if (b == -1)
+				throw new EOFException();
+			return b;
+		}
+
+		private void skip(int n) throws IOException {
+			for (var i = 0; i < n; i++)
+				readByte();
+		}
+	}
+
+	/**
+	 * Response with a decoded body.
+	 */
+	private static class DecodedResponse implements HttpResponse<InputStream> {
+		private final HttpResponse<InputStream> response;
+		private final HttpHeaders headers;
+		private final InputStream body;
+
+		private DecodedResponse(HttpResponse<InputStream> response, InputStream body) {
+			this.response = response;
+			this.headers = HttpHeaders.of(response.headers().map(),
+					(name, value) -> !name.equalsIgnoreCase("Content-Encoding") //
+							&& !name.equalsIgnoreCase("Content-Length"));
+			this.body = body;
+		}
+
+		@Override
+		public int statusCode() {
+			return response.statusCode();
+		}
+
+		@Override
+		public HttpRequest request() {
+			return response.request();
+		}
+
+		@Override
+		public Optional<HttpResponse<InputStream>> previousResponse() {
+			return response.previousResponse();
+		}
+
+		@Override
+		public HttpHeaders headers() {
+			return headers;
+		}
+
+		@Override
+		public InputStream body() {
+			return body;
+		}
+
+		@Override
+		public Optional<SSLSession> sslSession() {
+			return response.sslSession();
+		}
+
+		@Override
+		public URI uri() {
+			return response.uri();
+		}
+
+		@Override
+		public Version version() {
+			return response.version();
+		}
+	}
+
+	/**
+	 * Decodes a response body according to its {@code Content-Encoding} header.
+	 * 
+	 * @param response   HTTP response
+	 * @param byteCounts receives compressed and uncompressed byte counts once the
+	 *                   decoded body has been fully read or closed
+	 * @return response with decoded body, without {@code Content-Encoding} or
+	 *         {@code Content-Length} headers; the response as-is if not encoded
+	 *         with a supported content coding
+	 */
+	public static HttpResponse<InputStream> decode(HttpResponse<InputStream> response, ByteCounts byteCounts) {
+		final var contentEncoding = response.headers().firstValue("Content-Encoding");
+		if (contentEncoding.isEmpty())
+			return response;
+
+		final boolean gzip;
+		switch (contentEncoding.get().trim().toLowerCase()) {
+		case "gzip":
+		case "x-gzip":
+			gzip = true;
+			break;
+
+		case "deflate":
+			gzip = false;
+			break;
+
+		default:
+			return response;
+		}
+
+		return new DecodedResponse(response,
+				new DecodingInputStream(new CountingInputStream(response.body()), gzip, byteCounts));
+	}
+
+	/**
+	 * Compresses data in {@code gzip} format.
+	 * 
+	 * @param data uncompressed data
+	 * @return compressed data
+	 */
+	public static byte[] gzip(byte[] data) {
+		final var deflater = borrow(DEFLATERS, () -> new Deflater(Deflater.DEFAULT_COMPRESSION, true));
+		try {
+			final var out = new ByteArrayOutputStream();
+			out.write(new byte[] { 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff }, 0, 10);
+
+			deflater.setInput(data);
+			deflater.finish();
+			final var buf = new byte[8192];
+			while (!deflater.finished())
+				out.write(buf, 0, deflater.deflate(buf));
+
+			final var crc = new CRC32();
+			crc.update(data);
+			writeInt(out, (int) crc.getValue());
+			writeInt(out, data.length);
+			return out.toByteArray();
+		} finally {
+			release(DEFLATERS, deflater, Deflater::reset, Deflater::end);
+		}
+	}
+
+	private static <T> T borrow(Queue<T> pool, Supplier<T> factory) {
+		final var pooled = pool.poll();
+		if (pooled == null)
+			return factory.get();
+		else
+			return pooled;
+	}
+
+	private static <T> void release(Queue<T> pool, T pooled, Consumer<T> reset, Consumer<T> end) {
+		reset.accept(pooled);
+		if (!pool.offer(pooled))
+			end.accept(pooled);
+	}
+
+	private static int readInt(byte[] b, int off) {
+		return (b[off] & 0xff) //
+				| ((b[off + 1] & 0xff) << 8) //
+				| ((b[off + 2] & 0xff) << 16) //
+				| ((b[off + 3] & 0xff) << 24);
+	}
+
+	private static void writeInt(ByteArrayOutputStream out, int i) {
+		out.write(i);
+		out.write(i >>> 8);
+		out.write(i >>> 16);
+		out.write(i >>> 24);
+	}
+
+	private HttpCompression() {
+	}
+
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright © 2026 Indiana University
+ * All rights reserved.
+ *
+ * BSD 3-Clause License
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ * 
+ * - Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package iu.client;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpClient.Redirect;
+import java.net.http.HttpClient.Version;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import edu.iu.IuRuntimeEnvironment;
+import edu.iu.IuWebUtils;
+
+/**
+ * Holds a tuned {@link HttpClient} instance for requests relative to a
+ * configured root URI.
+ * 
+ * <p>
+ * Destinations are named by the {@code iu.http.destinations} runtime property,
+ * as a comma-separated list. Each named destination is configured by
+ * {@link IuRuntimeEnvironment} properties with the prefix
+ * {@code iu.http.destination.<name>.}:
+ * </p>
+ * <dl>
+ * <dt>uri</dt>
+ * <dd>Required root URI; requests relative to this URI use the destination's
+ * client</dd>
+ * <dt>version</dt>
+ * <dd>{@link Version} preferred, i.e., {@code HTTP_2}</dd>
+ * <dt>connectTimeout</dt>
+ * <dd>{@link Duration#parse(CharSequence) ISO-8601 duration} to wait for a
+ * connection to be established</dd>
+ * <dt>followRedirects</dt>
+ * <dd>{@link Redirect} policy</dd>
+ * <dt>threads</dt>
+ * <dd>Number of threads in a dedicated executor for sending requests and
+ * handling asynchronous responses</dd>
+ * </dl>
+ * 
+ * <p>
+ * Connections are pooled per {@link HttpClient}, so each destination keeps its
+ * own connections, and its own executor when configured with {@code threads}.
+ * Idle connection keep-alive time is JVM-wide, controlled by the
+ * {@code jdk.httpclient.keepalive.timeout} system property.
+ * </p>
+ * 
+ * <p>
+ * Response bodies are read by blocking {@link java.io.InputStream}s, which
+ * <em>must not</em> wait on a client's executor: with a bounded executor, the
+ * thread waiting for body data can be the only one available to deliver it.
+ * Asynchronous responses are instead handed off to the
+ * {@link #RESPONSE_EXECUTOR shared response executor} before reading.
+ * </p>
+ */
+public final class HttpDestination {
+
+	private static final String PREFIX = "iu.http.destination.";
+
+	/**
+	 * Executor for handling asynchronous responses, independent of all
+	 * {@link HttpClient} executors.
+	 */
+	public static final Executor RESPONSE_EXECUTOR = Executors.newCachedThreadPool(threadFactory("iu-http-response"));
+
+	private final String name;
+	private final URI uri;
+	private final HttpClient client;
+
+	private HttpDestination(String name, URI uri, HttpClient client) {
+		this.name = name;
+		this.uri = uri;
+		this.client = client;
+	}
+
+	/**
+	 * Reads all configured destinations from runtime properties.
+	 * 
+	 * @return configured destinations; empty if {@code iu.http.destinations} is
+	 *         not set
+	 */
+	public static Collection<HttpDestination> configure() {
+		final var names = IuRuntimeEnvironment.envOptional("iu.http.destinations",
+				a -> Stream.of(a.split(",")).map(String::trim).collect(Collectors.toUnmodifiableList()));
+		if (names == null)
+			return List.of();
+		else
+			return names.stream().map(HttpDestination::configure).collect(Collectors.toUnmodifiableList());
+	}
+
+	/**
+	 * Selects the {@link HttpClient} to use for a request URI.
+	 * 
+	 * @param destinations  configured destinations
+	 * @param uri           request URI
+	 * @param defaultClient client to use if no destination is configured for the
+	 *                      URI
+	 * @return {@link HttpClient} for the destination with the longest root URI
+	 *         that is a root of the request URI; defaultClient if none match
+	 */
+	public static HttpClient select(Collection<HttpDestination> destinations, URI uri, HttpClient defaultClient) {
+		HttpDestination selected = null;
+		for (final var destination : destinations)
+			if (IuWebUtils.isRootOf(destination.uri, uri) //
+					&& (selected == null //
+							|| destination.uri.toString().length() > selected.uri.toString().length()))
+				selected = destination;
+
+		if (selected == null)
+			return defaultClient;
+		else
+			return selected.client;
+	}
+
+	/**
+	 * Gets the destination name.
+	 * 
+	 * @return destination name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Gets the root URI.
+	 * 
+	 * @return root URI
+	 */
+	public URI getUri() {
+		return uri;
+	}
+
+	/**
+	 * Gets the {@link HttpClient} configured for this destination.
+	 * 
+	 * @return {@link HttpClient}
+	 */
+	public HttpClient getClient() {
+		return client;
+	}
+
+	@Override
+	public String toString() {
+		return "HttpDestination [name=" + name + ", uri=" + uri + "]";
+	}
+
+	private static HttpDestination configure(String name) {
+		final var prefix = PREFIX + name + '.';
+		final var uri = IuRuntimeEnvironment.env(prefix + "uri", URI::create);
+
+		final var builder = HttpClient.newBuilder();
+
+		final var version = IuRuntimeEnvironment.envOptional(prefix + "version", Version::valueOf);
+		if (version != null)
+			builder.version(version);
+
+		final var connectTimeout = IuRuntimeEnvironment.envOptional(prefix + "connectTimeout", Duration::parse);
+		if (connectTimeout != null)
+			builder.connectTimeout(connectTimeout);
+
+		final var followRedirects = IuRuntimeEnvironment.envOptional(prefix + "followRedirects", Redirect::valueOf);
+		if (followRedirects != null)
+			builder.followRedirects(followRedirects);
+
+		final var threads = IuRuntimeEnvironment.envOptional(prefix + "threads", Integer::parseInt);
+		if (threads != null)
+			builder.executor(Executors.newFixedThreadPool(threads, threadFactory("iu-http-" + name)));
+
+		return new HttpDestination(name, uri, builder.build());
+	}
+
+	private static ThreadFactory threadFactory(String name) {
+		final var threadGroup = new ThreadGroup(name);
+		return new ThreadFactory() {
+			private int c;
+
+			@Override
+			public synchronized Thread newThread(Runnable r) {
+				final var thread = new Thread(threadGroup, r, name + "/" + ++c);
+				thread.setDaemon(true);
+				return thread;
+			}
+		};
+	}
+
+}
@@ -0,0 +1,453 @@
+/*
+ * Copyright © 2026 Indiana University
+ * All rights reserved.
+ *
+ * BSD 3-Clause License
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ * 
+ * - Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package iu.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient.Version;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import javax.net.ssl.SSLSession;
+
+import edu.iu.IuException;
+import edu.iu.IuRuntimeEnvironment;
+import edu.iu.IuStream;
+import edu.iu.UnsafeConsumer;
+import edu.iu.UnsafeFunction;
+
+/**
+ * Shared HTTP response cache for GET requests, as described by
+ * <a href="https://datatracker.ietf.org/doc/html/rfc9111">RFC-9111 HTTP
+ * Caching</a>.
+ * 
+ * <p>
+ * Only 200 OK responses are stored. Responses marked {@code no-store},
+ * {@code private}, or {@code Vary: *} are not stored, nor are responses that
+ * are neither fresh nor include a validator. Freshness is determined
+ * by {@code s-maxage}, {@code max-age}, or {@code Expires}, in that order,
+ * falling back to a heuristic of 10% of the time since {@code Last-Modified},
+ * limited to one day. Stale responses, and responses marked {@code no-cache},
+ * are revalidated by a conditional request using {@code If-None-Match} and
+ * {@code If-Modified-Since}; a 304 NOT MODIFIED response refreshes the stored
+ * response.
+ * </p>
+ * 
+ * <p>
+ * Response bodies are held in memory. The total size of all stored bodies is
+ * bounded; least recently used responses are evicted first.
+ * </p>
+ */
+public final class HttpResponseCache {
+
+	private static final long HEURISTIC_LIMIT = Duration.ofDays(1L).toMillis();
+
+	private static final Set<String> NOT_UPDATED = Set.of("content-length", "content-encoding", "transfer-encoding");
+
+	private final long maxSize;
+	private final Map<URI, CachedResponse> cache = new LinkedHashMap<>(16, .75f, true);
+	private long size;
+
+	/**
+	 * Creates a response cache from the {@code iu.http.cacheSize} runtime
+	 * property.
+	 * 
+	 * @return {@link HttpResponseCache}; null if {@code iu.http.cacheSize} is not
+	 *         set
+	 */
+	public static HttpResponseCache configure() {
+		final var maxSize = IuRuntimeEnvironment.envOptional("iu.http.cacheSize", Long::parseLong);
+		if (maxSize == null)
+			return null;
+		else
+			return new HttpResponseCache(maxSize);
+	}
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param maxSize maximum total size, in bytes, of all stored response bodies
+	 */
+	public HttpResponseCache(long maxSize) {
+		if (maxSize <= 0L)
+			throw new IllegalArgumentException("Cache size must be positive");
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Gets a response from the cache, or from the server if not stored or stale.
+	 * 
+	 * @param uri  request URI
+	 * @param send sends the request to the server; receives a request consumer
+	 *             that adds validation headers, or null if none are required
+	 * @return {@link HttpResponse}
+	 * @throws Throwable from send, or if an error occurs reading the response
+	 */
+	public HttpResponse<InputStream> get(URI uri,
+			UnsafeFunction<UnsafeConsumer<HttpRequest.Builder>, HttpResponse<InputStream>> send) throws Throwable {
+		final var cached = lookup(uri);
+		final var requestTime = System.currentTimeMillis();
+		if (cached != null //
+				&& cached.isFresh(requestTime))
+			return cached;
+
+		return store(uri, cached, requestTime, send.apply(validator(cached)));
+	}
+
+	/**
+	 * Gets a response from the cache, or from the server if not stored or stale.
+	 * 
+	 * @param uri      request URI
+	 * @param send     sends the request to the server; receives a request
+	 *                 consumer that adds validation headers, or null if none are
+	 *                 required
+	 * @param executor reads and stores the response body; <em>must not</em> be
+	 *                 the executor that completes the future returned by send
+	 * @return {@link CompletableFuture} that completes with the
+	 *         {@link HttpResponse}
+	 */
+	public CompletableFuture<HttpResponse<InputStream>> getAsync(URI uri,
+			Function<UnsafeConsumer<HttpRequest.Builder>, CompletableFuture<HttpResponse<InputStream>>> send,
+			Executor executor) {
+		final var cached = lookup(uri);
+		final var requestTime = System.currentTimeMillis();
+		if (cached != null //
+				&& cached.isFresh(requestTime))
+			return CompletableFuture.completedFuture(cached);
+
+		return send.apply(validator(cached))
+				.thenApplyAsync(response -> IuException.unchecked(() -> store(uri, cached, requestTime, response)),
+						executor);
+	}
+
+	/**
+	 * Gets the total size of all stored response bodies.
+	 * 
+	 * @return size, in bytes
+	 */
+	public synchronized long size() {
+		return size;
+	}
+
+	/**
+	 * Removes all stored responses.
+	 */
+	public synchronized void clear() {
+		cache.clear();
+		size = 0L;
+	}
+
+	private synchronized CachedResponse lookup(URI uri) {
+		return cache.get(uri);
+	}
+
+	private synchronized void put(URI uri, CachedResponse response) {
+		final var replaced = cache.put(uri, response);
+		if (replaced != null)
+			size -= replaced.body.length;
+		size += response.body.length;
+
+		final var i = cache.values().iterator();
+		while (size > maxSize) {
+			final var evicted = i.next();
+			size -= evicted.body.length;
+			i.remove();
+		}
+	}
+
+	private synchronized void remove(URI uri) {
+		final var removed = cache.remove(uri);
+		if (removed != null)
+			size -= removed.body.length;
+	}
+
+	private HttpResponse<InputStream> store(URI uri, CachedResponse cached, long requestTime,
+			HttpResponse<InputStream> response) throws IOException {
+		final var status = response.statusCode();
+		if (status == 304 //
+				&& cached != null) {
+			response.body().close();
+			final var revalidated = new CachedResponse(cached, response, requestTime);
+			put(uri, revalidated);
+			return revalidated;
+		}
+
+		if (status != 200)
+			return response;
+
+		final var headers = response.headers();
+		final var cacheControl = cacheControl(headers);
+		if (cacheControl.containsKey("no-store") //
+				|| cacheControl.containsKey("private") //
+				|| headers.allValues("Vary").stream().anyMatch(a -> a.trim().equals("*")) //
+				|| (freshnessLifetime(headers) == 0L //
+						&& headers.firstValue("ETag").isEmpty() //
+						&& headers.firstValue("Last-Modified").isEmpty())) {
+			remove(uri);
+			return response;
+		}
+
+		final byte[] body;
+		try (final var in = response.body()) {
+			body = IuStream.read(in);
+		}
+
+		final var stored = new CachedResponse(response, body, requestTime);
+		if (body.length <= maxSize)
+			put(uri, stored);
+		else
+			remove(uri);
+		return stored;
+	}
+
+	private static UnsafeConsumer<HttpRequest.Builder> validator(CachedResponse cached) {
+		if (cached == null)
+			return null;
+
+		final var etag = cached.headers.firstValue("ETag");
+		final var lastModified = cached.headers.firstValue("Last-Modified");
+		if (etag.isEmpty() //
+				&& lastModified.isEmpty())
+			return null;
+
+		return rb -> {
+			if (etag.isPresent())
+				rb.header("If-None-Match", etag.get());
+			if (lastModified.isPresent())
+				rb.header("If-Modified-Since", lastModified.get());
+		};
+	}
+
+	/**
+	 * Parses Cache-Control directives.
+	 * 
+	 * @param headers response headers
+	 * @return directive names, lower case, mapped to unquoted values; empty string
+	 *         for directives without a value
+	 */
+	static Map<String, String> cacheControl(HttpHeaders headers) {
+		final Map<String, String> directives = new LinkedHashMap<>();
+		for (final var value : headers.allValues("Cache-Control"))
+			for (final var directive : value.split(",")) {
+				final var eq = directive.indexOf('=');
+				if (eq == -1)
+					directives.put(directive.trim().toLowerCase(), "");
+				else {
+					var argument = directive.substring(eq + 1).trim();
+					if (argument.length() >= 2 //
+							&& argument.charAt(0) == '"' //
+							&& argument.charAt(argument.length() - 1) == '"')
+						argument = argument.substring(1, argument.length() - 1);
+					directives.put(directive.substring(0, eq).trim().toLowerCase(), argument);
+				}
+			}
+		directives.remove("");
+		return directives;
+	}
+
+	/**
+	 * Parses an HTTP-date header value.
+	 * 
+	 * @param headers response headers
+	 * @param name    header name
+	 * @return parsed time; {@link Instant#EPOCH} if invalid; null if missing
+	 */
+	static Instant date(HttpHeaders headers, String name) {
+		final var value = headers.firstValue(name);
+		if (value.isEmpty())
+			return null;
+		try {
+			return ZonedDateTime.parse(value.get().trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+		} catch (RuntimeException e) {
+			return Instant.EPOCH;
+		}
+	}
+
+	/**
+	 * Parses a delta-seconds directive or header value.
+	 * 
+	 * @param value delta-seconds
+	 * @return milliseconds; null if missing or invalid
+	 */
+	static Long deltaSeconds(String value) {
+		if (value == null)
+			return null;
+		try {
+			return Math.max(0L, Long.parseLong(value.trim())) * 1000L;
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Determines the freshness lifetime of a response.
+	 * 
+	 * @param headers response headers
+	 * @return freshness lifetime, in milliseconds
+	 */
+	static long freshnessLifetime(HttpHeaders headers) {
+		final var cacheControl = cacheControl(headers);
+		if (cacheControl.containsKey("no-cache"))
+			return 0L;
+
+		var lifetime = deltaSeconds(cacheControl.get("s-maxage"));
+		if (lifetime == null)
+			lifetime = deltaSeconds(cacheControl.get("max-age"));
+		if (lifetime != null)
+			return lifetime;
+
+		final var date = date(headers, "Date");
+		final var expires = date(headers, "Expires");
+		if (expires != null)
+			return Math.max(0L, expires.toEpochMilli() //
+					- (date == null ? System.currentTimeMillis() : date.toEpochMilli()));
+
+		final var lastModified = date(headers, "Last-Modified");
+		if (date != null //
+				&& lastModified != null)
+			return Math.min(HEURISTIC_LIMIT, Math.max(0L, date.toEpochMilli() - lastModified.toEpochMilli()) / 10L);
+
+		return 0L;
+	}
+
+	/**
+	 * Stored response.
+	 */
+	private static class CachedResponse implements HttpResponse<InputStream> {
+		private final HttpRequest request;
+		private final URI uri;
+		private final Version version;
+		private final HttpHeaders headers;
+		private final byte[] body;
+		private final long responseTime;
+		private final long initialAge;
+		private final long freshnessLifetime;
+
+		private CachedResponse(HttpResponse<InputStream> response, byte[] body, long requestTime) {
+			this(response.request(), response.uri(), response.version(), response.headers(), body, requestTime);
+		}
+
+		private CachedResponse(CachedResponse cached, HttpResponse<InputStream> notModified, long requestTime) {
+			this(cached.request, cached.uri, cached.version, merge(cached.headers, notModified.headers()),
+					cached.body, requestTime);
+		}
+
+		private CachedResponse(HttpRequest request, URI uri, Version version, HttpHeaders headers, byte[] body,
+				long requestTime) {
+			this.request = request;
+			this.uri = uri;
+			this.version = version;
+			this.headers = headers;
+			this.body = body;
+			responseTime = System.currentTimeMillis();
+
+			// RFC-9111 Section 4.2.3
+			final var date = date(headers, "Date");
+			final var apparentAge = date == null ? 0L : Math.max(0L, responseTime - date.toEpochMilli());
+			final var ageValue = headers.firstValue("Age").map(HttpResponseCache::deltaSeconds).orElse(0L);
+			initialAge = Math.max(apparentAge, ageValue + responseTime - requestTime);
+
+			freshnessLifetime = freshnessLifetime(headers);
+		}
+
+		private boolean isFresh(long now) {
+			return freshnessLifetime > initialAge + now - responseTime;
+		}
+
+		private static HttpHeaders merge(HttpHeaders stored, HttpHeaders notModified) {
+			final Map<String, List<String>> merged = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+			merged.putAll(stored.map());
+			notModified.map().forEach((name, values) -> {
+				if (!NOT_UPDATED.contains(name.toLowerCase()))
+					merged.put(name, values);
+			});
+			return HttpHeaders.of(merged, (a, b) -> true);
+		}
+
+		@Override
+		public int statusCode() {
+			return 200;
+		}
+
+		@Override
+		public HttpRequest request() {
+			return request;
+		}
+
+		@Override
+		public Optional<HttpResponse<InputStream>> previousResponse() {
+			return Optional.empty();
+		}
+
+		@Override
+		public HttpHeaders headers() {
+			return headers;
+		}
+
+		@Override
+		public InputStream body() {
+			return new ByteArrayInputStream(body);
+		}
+
+		@Override
+		public Optional<SSLSession> sslSession() {
+			return Optional.empty();
+		}
+
+		@Override
+		public URI uri() {
+			return uri;
+		}
+
+		@Override
+		public Version version() {
+			return version;
+		}
+	}
+
+}
@@ -49,6 +49,8 @@ public class IuHttpClientEvent implements IuObservableEvent {
 	private final String context;
 	private final Instant responseTime;
 	private final int statusCode;
+	private final long compressedBytes;
+	private final long uncompressedBytes;
 
 	/**
 	 * Constructor.
@@ -62,6 +64,8 @@ public class IuHttpClientEvent implements IuObservableEvent {
 		this.context = IuClassLoaderContext.getContext().getName();
 		this.responseTime = null;
 		this.statusCode = 0;
+		this.compressedBytes = 0L;
+		this.uncompressedBytes = 0L;
 	}
 
 	private IuHttpClientEvent(IuHttpClientEvent startEvent, int statusCode) {
@@ -71,6 +75,19 @@ public class IuHttpClientEvent implements IuObservableEvent {
 		this.context = startEvent.context;
 		this.responseTime = Instant.now();
 		this.statusCode = statusCode;
+		this.compressedBytes = 0L;
+		this.uncompressedBytes = 0L;
+	}
+
+	private IuHttpClientEvent(IuHttpClientEvent receivedEvent, long compressedBytes, long uncompressedBytes) {
+		this.id = receivedEvent.id;
+		this.startTime = receivedEvent.startTime;
+		this.uri = receivedEvent.uri;
+		this.context = receivedEvent.context;
+		this.responseTime = receivedEvent.responseTime;
+		this.statusCode = receivedEvent.statusCode;
+		this.compressedBytes = compressedBytes;
+		this.uncompressedBytes = uncompressedBytes;
 	}
 
 	/**
@@ -83,6 +100,35 @@ public class IuHttpClientEvent implements IuObservableEvent {
 		return new IuHttpClientEvent(this, statusCode);
 	}
 
+	/**
+	 * Updates the event to indicate a compressed response body was decoded
+	 * 
+	 * @param compressedBytes   bytes read from the response
+	 * @param uncompressedBytes bytes read after decoding
+	 * @return updated event
+	 */
+	public IuHttpClientEvent decoded(long compressedBytes, long uncompressedBytes) {
+		return new IuHttpClientEvent(this, compressedBytes, uncompressedBytes);
+	}
+
+	/**
+	 * Gets the number of compressed response body bytes read.
+	 * 
+	 * @return compressed bytes; 0 if the response was not compressed
+	 */
+	public long getCompressedBytes() {
+		return compressedBytes;
+	}
+
+	/**
+	 * Gets the number of response body bytes read after decoding.
+	 * 
+	 * @return uncompressed bytes; 0 if the response was not compressed
+	 */
+	public long getUncompressedBytes() {
+		return uncompressedBytes;
+	}
+
 	@Override
 	public String getId() {
 		return id;
@@ -127,7 +173,8 @@ public class IuHttpClientEvent implements IuObservableEvent {
 	@Override
 	public String toString() {
 		return "IuHttpClientEvent [id=" + id + ", startTime=" + startTime + ", uri=" + uri + ", context=" + context
-				+ ", responseTime=" + responseTime + ", statusCode=" + statusCode + "]";
+				+ ", responseTime=" + responseTime + ", statusCode=" + statusCode + ", compressedBytes="
+				+ compressedBytes + ", uncompressedBytes=" + uncompressedBytes + "]";
 	}
 
 }
@@ -79,6 +79,7 @@ import java.util.TimeZone;
 import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.IntFunction;
 import java.util.regex.Pattern;
@@ -94,15 +95,62 @@ public final class JsonAdapters {
 
 	private static final Map<Class<?>, Class<?>> ARRAY_TYPES = new WeakHashMap<>();
 
+	/**
+	 * Resolved adapters for raw classes.
+	 */
+	private static final ClassValue<IuJsonAdapter<?>> CLASS_ADAPTERS = new ClassValue<>() {
+		@Override
+		protected IuJsonAdapter<?> computeValue(Class<?> type) {
+			return resolve(type, null);
+		}
+	};
+
+	/**
+	 * Resolved adapters for parameterized types, held by the most specific class
+	 * the type refers to so entries are released with its class loader.
+	 */
+	private static final ClassValue<Map<Type, IuJsonAdapter<?>>> TYPE_ADAPTERS = new ClassValue<>() {
+		@Override
+		protected Map<Type, IuJsonAdapter<?>> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
 	/**
 	 * {@link IuJsonAdapter} factory method.
 	 * 
+	 * <p>
+	 * Adapters resolved without a value type adapter are cached: by
+	 * {@link ClassValue} for raw classes, and for parameterized types with class
+	 * arguments from related class loaders.
+	 * </p>
+	 * 
 	 * @param type         Java type
 	 * @param valueAdapter value type adapter
 	 * @return {@link IuJsonAdapter}
 	 */
-	@SuppressWarnings({ "unchecked", "rawtypes" })
+	@SuppressWarnings("rawtypes")
 	public static IuJsonAdapter adapt(Type type, Function<Class<?>, IuJsonAdapter<?>> valueAdapter) {
+		if (valueAdapter != null)
+			return resolve(type, valueAdapter);
+		if (type instanceof Class)
+			return CLASS_ADAPTERS.get((Class<?>) type);
+
+		final var anchor = anchor(type);
+		if (anchor == null)
+			return resolve(type, null);
+
+		final var adapters = TYPE_ADAPTERS.get(anchor);
+		var adapter = adapters.get(type);
+		if (adapter == null) {
+			adapter = resolve(type, null);
+			adapters.put(type, adapter);
+		}
+		return adapter;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static IuJsonAdapter resolve(Type type, Function<Class<?>, IuJsonAdapter<?>> valueAdapter) {
 		Class erased = erase(type);
 
 		if (erased == Object.class)
@@ -307,6 +355,42 @@ public final class JsonAdapters {
 			return erase(((WildcardType) type).getUpperBounds()[0]);
 	}
 
+	/**
+	 * Selects the class a parameterized type's cached adapter is held by.
+	 * 
+	 * @param type generic type
+	 * @return class whose loader delegates to the loaders of all classes
+	 *         referred to by the type; null if the type has non-class arguments
+	 *         or refers to classes from unrelated loaders
+	 */
+	private static Class<?> anchor(Type type) {
+		if (!(type instanceof ParameterizedType))
+			return null;
+
+		final var p = (ParameterizedType) type;
+		var anchor = (Class<?>) p.getRawType();
+		for (final var arg : p.getActualTypeArguments()) {
+			if (!(arg instanceof Class))
+				return null;
+
+			final var c = (Class<?>) arg;
+			if (delegatesTo(c.getClassLoader(), anchor.getClassLoader()))
+				anchor = c;
+			else if (!delegatesTo(anchor.getClassLoader(), c.getClassLoader()))
+				return null;
+		}
+		return anchor;
+	}
+
+	private static boolean delegatesTo(ClassLoader loader, ClassLoader ancestor) {
+		if (ancestor == null)
+			return true;
+		for (var l = loader; l != null; l = l.getParent())
+			if (l == ancestor)
+				return true;
+		return false;
+	}
+
 	private static Class<?> item(Type type) {
 		if (type instanceof Class) {
 			return ((Class<?>) type).getComponentType();
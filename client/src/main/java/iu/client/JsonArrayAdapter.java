@@ -31,6 +31,7 @@
  */
 package iu.client;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 
 import edu.iu.IuIterable;
@@ -38,6 +39,8 @@ import edu.iu.client.IuJson;
 import edu.iu.client.IuJsonAdapter;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
 
 /**
  * Adapts to/from {@link JsonArray} values.
@@ -89,6 +92,21 @@ abstract class JsonArrayAdapter<T, E> implements IuJsonAdapter<T> {
 		}
 	}
 
+	@Override
+	public T fromJsonParser(JsonParser parser) {
+		final var event = parser.currentEvent();
+		if (event == Event.VALUE_NULL)
+			return null;
+
+		final var items = new ArrayList<E>();
+		if (event == Event.START_ARRAY)
+			while (parser.next() != Event.END_ARRAY)
+				items.add(itemAdapter.fromJsonParser(parser));
+		else
+			items.add(itemAdapter.fromJsonParser(parser));
+		return collect(items);
+	}
+
 	@Override
 	public JsonValue toJson(T javaValue) {
 		if (javaValue == null)
@@ -38,6 +38,8 @@ import edu.iu.client.IuJson;
 import edu.iu.client.IuJsonAdapter;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
 
 /**
  * Adapts to/from {@link JsonObject} values.
@@ -77,6 +79,20 @@ class JsonObjectAdapter<T extends Map<K, V>, K, V> implements IuJsonAdapter<T> {
 		return map;
 	}
 
+	@Override
+	public T fromJsonParser(JsonParser parser) {
+		if (parser.currentEvent() != Event.START_OBJECT)
+			return fromJson(parser.getValue());
+
+		final var map = factory.get();
+		while (parser.next() != Event.END_OBJECT) {
+			final var key = fromString(parser.getString());
+			parser.next();
+			map.put(key, valueAdapter.fromJsonParser(parser));
+		}
+		return map;
+	}
+
 	@Override
 	public JsonValue toJson(T javaValue) {
 		if (javaValue == null)
@@ -32,13 +32,16 @@
 package iu.client;
 
 import java.io.StringWriter;
+import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Proxy;
 import java.lang.reflect.Type;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Function;
 
 import edu.iu.IuObject;
@@ -51,6 +54,16 @@ import jakarta.json.stream.JsonGenerator;
 
 /**
  * Thin invocation handler for wrapping JSON objects in a Java interface.
+ * 
+ * <p>
+ * <strong>Implementation Note:</strong> Wrappers are {@link Proxy} instances
+ * rather than generated implementation classes. This module targets Java 11,
+ * which predates {@code Lookup.defineHiddenClass}, and has no bytecode
+ * generation dependency. Property reads are dispatched through a table
+ * computed once per interface and memoized per wrapper by slot, so a repeated
+ * read costs one table lookup and one array load beyond the proxy call.
+ * Zero-argument getters are invoked with a null argument array.
+ * </p>
  */
 public final class JsonProxy implements InvocationHandler {
 	static {
@@ -59,6 +72,76 @@ public final class JsonProxy implements InvocationHandler {
 
 	private static final Object NULL = new Object();
 
+	/**
+	 * Property dispatch tables, by target interface.
+	 */
+	private static final ClassValue<Map<Method, Property>> DISPATCH = new ClassValue<>() {
+		@Override
+		protected Map<Method, Property> computeValue(Class<?> targetInterface) {
+			final Map<Method, Property> dispatch = new HashMap<>();
+			for (final var method : targetInterface.getMethods()) {
+				final var methodName = method.getName();
+				if (method.getParameterCount() > 0 //
+						|| Modifier.isStatic(method.getModifiers()))
+					continue;
+
+				final String propertyName;
+				if (methodName.startsWith("get") //
+						&& methodName.length() > 3)
+					propertyName = Character.toLowerCase(methodName.charAt(3)) + methodName.substring(4);
+				else if (methodName.startsWith("is") //
+						&& methodName.length() > 2)
+					propertyName = Character.toLowerCase(methodName.charAt(2)) + methodName.substring(3);
+				else
+					continue;
+
+				dispatch.put(method, new Property(targetInterface, method, dispatch.size(), propertyName));
+			}
+			return dispatch;
+		}
+	};
+
+	/**
+	 * Dispatch table entry for a property read method.
+	 */
+	private static class Property {
+		private final Class<?> targetInterface;
+		private final Method method;
+		private final int slot;
+		private final String propertyName;
+		private final String lowerSnakeCasePropertyName;
+		private final String upperSnakeCasePropertyName;
+		private final Type type;
+		private volatile MethodHandle defaultMethod;
+
+		private Property(Class<?> targetInterface, Method method, int slot, String propertyName) {
+			this.targetInterface = targetInterface;
+			this.method = method;
+			this.slot = slot;
+			this.propertyName = propertyName;
+			lowerSnakeCasePropertyName = convertToSnakeCase(propertyName).toLowerCase();
+			upperSnakeCasePropertyName = lowerSnakeCasePropertyName.toUpperCase();
+			type = method.getGenericReturnType();
+		}
+
+		private JsonValue get(JsonObject value) {
+			if (value.containsKey(propertyName))
+				return value.get(propertyName);
+			if (value.containsKey(lowerSnakeCasePropertyName))
+				return value.get(lowerSnakeCasePropertyName);
+			return value.get(upperSnakeCasePropertyName);
+		}
+
+		private MethodHandle defaultMethod() throws IllegalAccessException {
+			var defaultMethod = this.defaultMethod;
+			if (defaultMethod == null)
+				this.defaultMethod = defaultMethod = MethodHandles
+						.privateLookupIn(targetInterface, MethodHandles.lookup())
+						.unreflectSpecial(method, targetInterface);
+			return defaultMethod;
+		}
+	}
+
 	/**
 	 * Wraps a JSON object in a java interface.
 	 * 
@@ -75,7 +158,7 @@ public final class JsonProxy implements InvocationHandler {
 		JsonProxy.class.getModule().addReads(targetInterface.getModule());
 
 		return targetInterface.cast(Proxy.newProxyInstance(targetInterface.getClassLoader(),
-				new Class<?>[] { targetInterface }, new JsonProxy(value, valueAdapter)));
+				new Class<?>[] { targetInterface }, new JsonProxy(value, DISPATCH.get(targetInterface), valueAdapter)));
 	}
 
 	/**
@@ -89,25 +172,50 @@ public final class JsonProxy implements InvocationHandler {
 	}
 
 	private final JsonObject value;
+	private final Map<Method, Property> dispatch;
 	private final Function<Type, IuJsonAdapter<?>> valueAdapter;
-	private final Map<String, Object> resolved;
+	private final AtomicReferenceArray<Object> resolved;
+	private volatile String toString;
 
-	private JsonProxy(JsonObject value, Function<Type, IuJsonAdapter<?>> valueAdapter) {
+	private JsonProxy(JsonObject value, Map<Method, Property> dispatch,
+			Function<Type, IuJsonAdapter<?>> valueAdapter) {
 		this.value = value;
+		this.dispatch = dispatch;
 		this.valueAdapter = valueAdapter;
-		this.resolved = new HashMap<>();
+		this.resolved = new AtomicReferenceArray<>(dispatch.size());
 	}
 
 	@Override
 	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-		final var methodName = method.getName();
-		if (resolved.containsKey(methodName)) {
-			final var resolved = this.resolved.get(methodName);
+		final var property = dispatch.get(method);
+		if (property == null)
+			return invokeObjectMethod(method, args);
+
+		final var resolved = this.resolved.get(property.slot);
+		if (resolved != null)
 			return resolved == NULL //
 					? null //
 					: resolved;
+
+		final var jsonValue = property.get(value);
+		if (jsonValue == null && method.isDefault())
+			return checkResolvedValue(property, property.defaultMethod().bindTo(proxy).invokeWithArguments(args));
+
+		try {
+			return checkResolvedValue(property, valueAdapter.apply(property.type).fromJson(jsonValue));
+		} catch (UnsupportedOperationException e) {
+			if (jsonValue == null)
+				return checkResolvedValue(property, null);
+			else
+				throw e;
+		} catch (Throwable e) {
+			throw new IllegalArgumentException("Invalid JSON value for return type " + property.type
+					+ " in property " + property.propertyName, e);
 		}
+	}
 
+	private Object invokeObjectMethod(Method method, Object[] args) {
+		final var methodName = method.getName();
 		final var paramTypes = method.getParameterTypes();
 
 		if (methodName.equals("equals") //
@@ -131,59 +239,24 @@ public final class JsonProxy implements InvocationHandler {
 			return value.hashCode();
 
 		if (methodName.equals("toString")) {
-			final var writer = new StringWriter();
-			IuJson.PROVIDER.createWriterFactory(Map.of(JsonGenerator.PRETTY_PRINTING, true)).createWriter(writer)
-					.write(value);
-			return checkResolvedValue(methodName, writer.toString());
-		}
-
-		final String propertyName;
-		if (methodName.startsWith("get"))
-			propertyName = Character.toLowerCase(methodName.charAt(3)) + methodName.substring(4);
-		else if (methodName.startsWith("is"))
-			propertyName = Character.toLowerCase(methodName.charAt(2)) + methodName.substring(3);
-		else
-			throw new UnsupportedOperationException();
-
-		final var jsonValue = returnValueWithCaseConversion(propertyName);
-		if (jsonValue == null && method.isDefault()) {
-			final var type = proxy.getClass().getInterfaces()[0];
-			return checkResolvedValue(methodName, MethodHandles.privateLookupIn(type, MethodHandles.lookup())
-					.unreflectSpecial(method, type).bindTo(proxy).invokeWithArguments(args));
+			var toString = this.toString;
+			if (toString == null) {
+				final var writer = new StringWriter();
+				IuJson.PROVIDER.createWriterFactory(Map.of(JsonGenerator.PRETTY_PRINTING, true)).createWriter(writer)
+						.write(value);
+				this.toString = toString = writer.toString();
+			}
+			return toString;
 		}
 
-		final var genericReturnType = method.getGenericReturnType();
-		try {
-			return checkResolvedValue(methodName, valueAdapter.apply(genericReturnType).fromJson(jsonValue));
-		} catch (UnsupportedOperationException e) {
-			if (jsonValue == null)
-				return checkResolvedValue(methodName, null);
-			else
-				throw e;
-		} catch (Throwable e) {
-			throw new IllegalArgumentException(
-					"Invalid JSON value for return type " + genericReturnType + " in property " + propertyName, e);
-		}
+		throw new UnsupportedOperationException();
 	}
 
-	private <T> T checkResolvedValue(String methodName, T value) {
-		synchronized (resolved) {
-			resolved.put(methodName, value == null ? NULL : value);
-		}
+	private Object checkResolvedValue(Property property, Object value) {
+		resolved.set(property.slot, value == null ? NULL : value);
 		return value;
 	}
 
-	private JsonValue returnValueWithCaseConversion(String propertyName) {
-		if (value.containsKey(propertyName))
-			return value.get(propertyName);
-
-		String lowerSnakeCasePropertyName = convertToSnakeCase(propertyName).toLowerCase();
-		if (value.containsKey(lowerSnakeCasePropertyName))
-			return value.get(lowerSnakeCasePropertyName);
-
-		return value.get(lowerSnakeCasePropertyName.toUpperCase());
-	}
-
 	/**
 	 * Converts a camel case property name to
 	 * {@link IuJsonPropertyNameFormat#LOWER_CASE_WITH_UNDERSCORES}.
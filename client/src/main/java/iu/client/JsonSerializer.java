@@ -32,12 +32,19 @@
 package iu.client;
 
 import java.beans.Introspector;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.lang.reflect.Type;
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import edu.iu.IuException;
@@ -55,6 +62,47 @@ public final class JsonSerializer {
 		IuObject.assertNotOpen(JsonSerializer.class);
 	}
 
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	/**
+	 * Compiled serialization plans, by type and property name format.
+	 */
+	private static final ClassValue<Map<IuJsonPropertyNameFormat, Property[]>> PLANS = new ClassValue<>() {
+		@Override
+		protected Map<IuJsonPropertyNameFormat, Property[]> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	/**
+	 * Compiled JavaBeans property reader.
+	 */
+	private static class Property {
+		private final String name;
+		private final MethodHandle getter;
+		private final Type type;
+
+		private Property(String name, Method readMethod) {
+			this.name = name;
+			JsonSerializer.class.getModule().addReads(readMethod.getDeclaringClass().getModule());
+			getter = IuException.unchecked(() -> MethodHandles.lookup().unreflect(readMethod)).asType(GETTER_TYPE);
+			type = readMethod.getGenericReturnType();
+		}
+	}
+
+	/**
+	 * Compiled properties and resolved adapters held by a serialization function.
+	 */
+	private static class Plan {
+		private final Property[] properties;
+		private final IuJsonAdapter<?>[] adapters;
+
+		private Plan(Property[] properties) {
+			this.properties = properties;
+			adapters = new IuJsonAdapter<?>[properties.length];
+		}
+	}
+
 	private JsonSerializer() {
 	}
 
@@ -89,19 +137,67 @@ public final class JsonSerializer {
 	 * @param adapt              adapter function
 	 * @return {@link JsonObject}
 	 */
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	public static <T> JsonObject serialize(Class<T> type, T value, IuJsonPropertyNameFormat propertyNameFormat,
 			Function<Type, IuJsonAdapter<?>> adapt) {
+		return serializer(type, propertyNameFormat, adapt).apply(value);
+	}
 
-		final var valueClass = value.getClass();
-		if (Proxy.isProxyClass(valueClass)) {
-			final var invocationHandler = Proxy.getInvocationHandler(value);
-			if (invocationHandler instanceof JsonProxy)
-				return JsonProxy.unwrap(value);
-		}
+	/**
+	 * Gets a function that serializes business objects as JSON.
+	 * 
+	 * <p>
+	 * Property names and getters are introspected once per type and property
+	 * name format, on first use. Property adapters are resolved on first use by
+	 * the function returned, then reused for the life of the function.
+	 * </p>
+	 * 
+	 * @param <T>                value type
+	 * @param type               value type for introspection
+	 * @param propertyNameFormat property name format
+	 * @param adapt              adapter function
+	 * @return serialization function
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public static <T> Function<T, JsonObject> serializer(Class<T> type, IuJsonPropertyNameFormat propertyNameFormat,
+			Function<Type, IuJsonAdapter<?>> adapt) {
+		return new Function<T, JsonObject>() {
+			private Plan plan;
+
+			@Override
+			public JsonObject apply(T value) {
+				final var valueClass = value.getClass();
+				if (Proxy.isProxyClass(valueClass)) {
+					final var invocationHandler = Proxy.getInvocationHandler(value);
+					if (invocationHandler instanceof JsonProxy)
+						return JsonProxy.unwrap(value);
+				}
+
+				var plan = this.plan;
+				if (plan == null)
+					this.plan = plan = new Plan(
+							PLANS.get(type).computeIfAbsent(propertyNameFormat, f -> compile(type, f)));
+
+				final var builder = IuJson.object();
+				final var properties = plan.properties;
+				final var adapters = plan.adapters;
+				for (var i = 0; i < properties.length; i++) {
+					final var property = properties[i];
+					final var propertyValue = IuException
+							.unchecked(() -> (Object) property.getter.invokeExact(value));
+
+					var adapter = adapters[i];
+					if (adapter == null)
+						adapters[i] = adapter = adapt.apply(property.type);
+
+					IuJson.add(builder, property.name, () -> propertyValue, (IuJsonAdapter) adapter);
+				}
+				return builder.build();
+			}
+		};
+	}
 
-		final var builder = IuJson.object();
-		
+	private static Property[] compile(Class<?> type, IuJsonPropertyNameFormat propertyNameFormat) {
+		final Queue<Property> properties = new ArrayDeque<>();
 		final Deque<Class<?>> todo = new ArrayDeque<>();
 		final Set<String> seen = new HashSet<>();
 		todo.push(type);
@@ -117,16 +213,14 @@ public final class JsonSerializer {
 				if (!seen.add(propertyName))
 					continue;
 
-				final var propertyValue = IuException.uncheckedInvocation(() -> readMethod.invoke(value));
-				final var adapter = adapt.apply(readMethod.getGenericReturnType());
-				IuJson.add(builder, propertyName, () -> propertyValue, (IuJsonAdapter) adapter);
+				properties.offer(new Property(propertyName, readMethod));
 			}
 
 			for (final var i : next.getInterfaces())
 				todo.push(i);
 		}
 
-		return builder.build();
+		return properties.toArray(Property[]::new);
 	}
 
 }
@@ -0,0 +1,268 @@
+/*
+ * Copyright © 2026 Indiana University
+ * All rights reserved.
+ *
+ * BSD 3-Clause License
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ * 
+ * - Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package iu.client;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import edu.iu.client.IuJson;
+import jakarta.json.JsonException;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+
+/**
+ * Lazy {@link JsonValue} views over a serialized UTF-8 JSON buffer.
+ * 
+ * <p>
+ * Objects and arrays are not parsed up front. Each container builds a
+ * structural index of its members as they are requested, scanning only as far
+ * into the buffer as needed to locate the member, and materializes member
+ * values on first access. Nested containers are lazy views over the same
+ * buffer.
+ * </p>
+ * 
+ * <p>
+ * Structural scanning only verifies the syntax of the members it passes over.
+ * Malformed content is reported by {@link JsonException} when first reached,
+ * rather than at parse time. Only the extent of the top-level value is located
+ * up front, so that non-whitespace content following it can be rejected. When
+ * an object contains duplicate names, the first occurrence is used.
+ * </p>
+ */
+public final class LazyJson {
+
+	/**
+	 * Creates a lazy {@link JsonValue} view over a serialized JSON buffer.
+	 * 
+	 * @param serialized UTF-8 JSON data; <em>must not</em> be modified after
+	 *                   calling this method
+	 * @return {@link JsonValue}
+	 * @throws JsonException if the top-level value is malformed or followed by
+	 *                       non-whitespace content
+	 */
+	public static JsonValue parse(byte[] serialized) {
+		final var start = skipWhitespace(serialized, 0);
+		final var value = value(serialized, start);
+
+		final var end = skipWhitespace(serialized, skipValue(serialized, start));
+		if (end < serialized.length)
+			throw malformed(end);
+
+		return value;
+	}
+
+	/**
+	 * Materializes the value that starts at a position in the buffer.
+	 * 
+	 * @param buf   buffer
+	 * @param start position of the first byte of the value
+	 * @return {@link JsonValue}; {@link LazyJsonObject} or {@link LazyJsonArray}
+	 *         for containers
+	 */
+	static JsonValue value(byte[] buf, int start) {
+		if (start >= buf.length)
+			throw malformed(start);
+
+		final var b = buf[start];
+		if (b == '{')
+			return new LazyJsonObject(buf, start);
+		else if (b == '[')
+			return new LazyJsonArray(buf, start);
+		else if (b == '"')
+			return IuJson.PROVIDER.createValue(string(buf, start));
+		else if (matches(buf, start, "true"))
+			return JsonValue.TRUE;
+		else if (matches(buf, start, "false"))
+			return JsonValue.FALSE;
+		else if (matches(buf, start, "null"))
+			return JsonValue.NULL;
+		else if (b != '-' //
+				&& (b < '0' || b > '9'))
+			throw malformed(start);
+
+		final var end = skipValue(buf, start);
+		try {
+			return IuJson.PROVIDER
+					.createValue(new BigDecimal(new String(buf, start, end - start, StandardCharsets.US_ASCII)));
+		} catch (NumberFormatException e) {
+			throw malformed(start);
+		}
+	}
+
+	/**
+	 * Decodes the string that starts at a position in the buffer.
+	 * 
+	 * @param buf   buffer
+	 * @param start position of the opening quote
+	 * @return decoded string
+	 */
+	static String string(byte[] buf, int start) {
+		final var end = skipString(buf, start);
+		for (var i = start + 1; i < end - 1; i++)
+			if (buf[i] == '\\')
+				return ((JsonString) IuJson.parse(new String(buf, start, end - start, StandardCharsets.UTF_8)))
+						.getString();
+		return new String(buf, start + 1, end - start - 2, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Skips whitespace.
+	 * 
+	 * @param buf buffer
+	 * @param pos starting position
+	 * @return position of the first non-whitespace byte at or after pos
+	 */
+	static int skipWhitespace(byte[] buf, int pos) {
+		while (pos < buf.length) {
+			final var b = buf[pos];
+			if (b != ' ' //
+					&& b != '\t' //
+					&& b != '\n' //
+					&& b != '\r')
+				break;
+			pos++;
+		}
+		return pos;
+	}
+
+	/**
+	 * Skips a value without materializing it.
+	 * 
+	 * @param buf   buffer
+	 * @param start position of the first byte of the value
+	 * @return position immediately following the value
+	 */
+	static int skipValue(byte[] buf, int start) {
+		if (start >= buf.length)
+			throw malformed(start);
+
+		final var b = buf[start];
+		if (b == '"')
+			return skipString(buf, start);
+
+		var pos = start;
+		if (b == '{' //
+				|| b == '[') {
+			var depth = 0;
+			while (pos < buf.length) {
+				final var c = buf[pos];
+				if (c == '"') {
+					pos = skipString(buf, pos);
+					continue;
+				} else if (c == '{' //
+						|| c == '[')
+					depth++;
+				else if ((c == '}' //
+						|| c == ']') //
+						&& --depth == 0)
+					return pos + 1;
+				pos++;
+			}
+			throw malformed(pos);
+		}
+
+		while (pos < buf.length) {
+			final var c = buf[pos];
+			if (c == ',' //
+					|| c == '}' //
+					|| c == ']' //
+					|| c == ' ' //
+					|| c == '\t' //
+					|| c == '\n' //
+					|| c == '\r')
+				break;
+			pos++;
+		}
+		if (pos == start)
+			throw malformed(start);
+		return pos;
+	}
+
+	/**
+	 * Verifies the byte at a position in the buffer.
+	 * 
+	 * @param buf      buffer
+	 * @param pos      position
+	 * @param expected expected byte
+	 * @return pos
+	 */
+	static int expect(byte[] buf, int pos, char expected) {
+		if (!at(buf, pos, expected))
+			throw malformed(pos);
+		return pos;
+	}
+
+	/**
+	 * Checks the byte at a position in the buffer.
+	 * 
+	 * @param buf      buffer
+	 * @param pos      position
+	 * @param expected expected byte
+	 * @return true if the byte at pos is the expected byte
+	 */
+	static boolean at(byte[] buf, int pos, char expected) {
+		return pos < buf.length //
+				&& buf[pos] == expected;
+	}
+
+	private static int skipString(byte[] buf, int start) {
+		var pos = start + 1;
+		while (pos < buf.length) {
+			final var b = buf[pos];
+			if (b == '"')
+				return pos + 1;
+			else if (b == '\\')
+				pos += 2;
+			else
+				pos++;
+		}
+		throw malformed(start);
+	}
+
+	private static boolean matches(byte[] buf, int start, String literal) {
+		final var end = start + literal.length();
+		if (end > buf.length)
+			return false;
+		for (var i = 0; i < literal.length(); i++)
+			if (buf[start + i] != literal.charAt(i))
+				return false;
+		return skipValue(buf, start) == end;
+	}
+
+	private static JsonException malformed(int pos) {
+		return new JsonException("Malformed JSON at offset " + pos);
+	}
+
+	private LazyJson() {
+	}
+
+}
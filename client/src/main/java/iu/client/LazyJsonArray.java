@@ -0,0 +1,226 @@
+/*
+ * Copyright © 2026 Indiana University
+ * All rights reserved.
+ *
+ * BSD 3-Clause License
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ * 
+ * - Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package iu.client;
+
+import java.io.StringWriter;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+
+import edu.iu.client.IuJson;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+
+/**
+ * Lazy {@link JsonArray} view over a serialized UTF-8 JSON buffer.
+ * 
+ * @see LazyJson
+ */
+final class LazyJsonArray extends AbstractList<JsonValue> implements JsonArray {
+
+	private final byte[] buf;
+
+	/**
+	 * Element value start positions, or materialized {@link JsonValue}s.
+	 */
+	private final List<Object> elements = new ArrayList<>();
+
+	/**
+	 * Position of the next element to index; -1 when fully indexed.
+	 */
+	private int pos;
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param buf   buffer
+	 * @param start position of the opening bracket
+	 */
+	LazyJsonArray(byte[] buf, int start) {
+		this.buf = buf;
+		pos = LazyJson.skipWhitespace(buf, start + 1);
+		if (LazyJson.at(buf, pos, ']'))
+			pos = -1;
+	}
+
+	@Override
+	public ValueType getValueType() {
+		return ValueType.ARRAY;
+	}
+
+	@Override
+	public JsonValue get(int index) {
+		final var value = opt(index);
+		if (value == null)
+			throw new IndexOutOfBoundsException(Integer.toString(index));
+		else
+			return value;
+	}
+
+	@Override
+	public synchronized int size() {
+		while (pos >= 0)
+			next();
+		return elements.size();
+	}
+
+	@Override
+	public JsonObject getJsonObject(int index) {
+		return (JsonObject) get(index);
+	}
+
+	@Override
+	public JsonArray getJsonArray(int index) {
+		return (JsonArray) get(index);
+	}
+
+	@Override
+	public JsonNumber getJsonNumber(int index) {
+		return (JsonNumber) get(index);
+	}
+
+	@Override
+	public JsonString getJsonString(int index) {
+		return (JsonString) get(index);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T extends JsonValue> List<T> getValuesAs(Class<T> clazz) {
+		return (List<T>) this;
+	}
+
+	@Override
+	public String getString(int index) {
+		return getJsonString(index).getString();
+	}
+
+	@Override
+	public String getString(int index, String defaultValue) {
+		final var value = opt(index);
+		if (value instanceof JsonString)
+			return ((JsonString) value).getString();
+		else
+			return defaultValue;
+	}
+
+	@Override
+	public int getInt(int index) {
+		return getJsonNumber(index).intValue();
+	}
+
+	@Override
+	public int getInt(int index, int defaultValue) {
+		final var value = opt(index);
+		if (value instanceof JsonNumber)
+			return ((JsonNumber) value).intValue();
+		else
+			return defaultValue;
+	}
+
+	@Override
+	public boolean getBoolean(int index) {
+		final var value = get(index);
+		if (value == JsonValue.TRUE)
+			return true;
+		else if (value == JsonValue.FALSE)
+			return false;
+		else
+			throw new ClassCastException();
+	}
+
+	@Override
+	public boolean getBoolean(int index, boolean defaultValue) {
+		final var value = opt(index);
+		if (value == JsonValue.TRUE)
+			return true;
+		else if (value == JsonValue.FALSE)
+			return false;
+		else
+			return defaultValue;
+	}
+
+	@Override
+	public boolean isNull(int index) {
+		return get(index).equals(JsonValue.NULL);
+	}
+
+	@Override
+	public String toString() {
+		final var writer = new StringWriter();
+		IuJson.PROVIDER.createWriter(writer).write(this);
+		return writer.toString();
+	}
+
+	/**
+	 * Gets an element, indexing as far as needed to reach it.
+	 * 
+	 * @param index element index
+	 * @return {@link JsonValue}; null if index is out of bounds
+	 */
+	private synchronized JsonValue opt(int index) {
+		if (index < 0)
+			return null;
+
+		while (index >= elements.size() //
+				&& pos >= 0)
+			next();
+		if (index >= elements.size())
+			return null;
+
+		final var element = elements.get(index);
+		if (element instanceof Integer) {
+			final var value = LazyJson.value(buf, (Integer) element);
+			elements.set(index, value);
+			return value;
+		} else
+			return (JsonValue) element;
+	}
+
+	/**
+	 * Indexes the next element.
+	 */
+	private void next() {
+		final var end = LazyJson.skipWhitespace(buf, LazyJson.skipValue(buf, pos));
+		elements.add(pos);
+		if (LazyJson.at(buf, end, ','))
+			pos = LazyJson.skipWhitespace(buf, end + 1);
+		else {
+			LazyJson.expect(buf, end, ']');
+			pos = -1;
+		}
+	}
+
+}
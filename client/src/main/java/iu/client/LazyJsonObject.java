@@ -0,0 +1,234 @@
+/*
+ * Copyright © 2026 Indiana University
+ * All rights reserved.
+ *
+ * BSD 3-Clause License
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ * 
+ * - Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package iu.client;
+
+import java.io.StringWriter;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import edu.iu.client.IuJson;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+
+/**
+ * Lazy {@link JsonObject} view over a serialized UTF-8 JSON buffer.
+ * 
+ * @see LazyJson
+ */
+final class LazyJsonObject extends AbstractMap<String, JsonValue> implements JsonObject {
+
+	private final byte[] buf;
+
+	/**
+	 * Member name to value start position, or materialized {@link JsonValue}.
+	 */
+	private final Map<String, Object> members = new LinkedHashMap<>();
+
+	/**
+	 * Position of the next member to index; -1 when fully indexed.
+	 */
+	private int pos;
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param buf   buffer
+	 * @param start position of the opening brace
+	 */
+	LazyJsonObject(byte[] buf, int start) {
+		this.buf = buf;
+		pos = LazyJson.skipWhitespace(buf, start + 1);
+		if (LazyJson.at(buf, pos, '}'))
+			pos = -1;
+	}
+
+	@Override
+	public ValueType getValueType() {
+		return ValueType.OBJECT;
+	}
+
+	@Override
+	public synchronized JsonValue get(Object key) {
+		var member = members.get(key);
+		while (member == null //
+				&& pos >= 0) {
+			final var name = next();
+			if (name.equals(key))
+				member = members.get(key);
+		}
+
+		if (member instanceof Integer) {
+			final var value = LazyJson.value(buf, (Integer) member);
+			members.put((String) key, value);
+			return value;
+		} else
+			return (JsonValue) member;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return get(key) != null;
+	}
+
+	@Override
+	public synchronized int size() {
+		while (pos >= 0)
+			next();
+		return members.size();
+	}
+
+	@Override
+	public Set<Entry<String, JsonValue>> entrySet() {
+		final Map<String, JsonValue> values = new LinkedHashMap<>();
+		synchronized (this) {
+			while (pos >= 0)
+				next();
+			for (final var name : members.keySet())
+				values.put(name, get(name));
+		}
+		return Collections.unmodifiableMap(values).entrySet();
+	}
+
+	@Override
+	public JsonArray getJsonArray(String name) {
+		return (JsonArray) get(name);
+	}
+
+	@Override
+	public JsonObject getJsonObject(String name) {
+		return (JsonObject) get(name);
+	}
+
+	@Override
+	public JsonNumber getJsonNumber(String name) {
+		return (JsonNumber) get(name);
+	}
+
+	@Override
+	public JsonString getJsonString(String name) {
+		return (JsonString) get(name);
+	}
+
+	@Override
+	public String getString(String name) {
+		return getJsonString(name).getString();
+	}
+
+	@Override
+	public String getString(String name, String defaultValue) {
+		final var value = get(name);
+		if (value instanceof JsonString)
+			return ((JsonString) value).getString();
+		else
+			return defaultValue;
+	}
+
+	@Override
+	public int getInt(String name) {
+		return getJsonNumber(name).intValue();
+	}
+
+	@Override
+	public int getInt(String name, int defaultValue) {
+		final var value = get(name);
+		if (value instanceof JsonNumber)
+			return ((JsonNumber) value).intValue();
+		else
+			return defaultValue;
+	}
+
+	@Override
+	public boolean getBoolean(String name) {
+		final var value = get(name);
+		if (value == null)
+			throw new NullPointerException();
+		else if (value == JsonValue.TRUE)
+			return true;
+		else if (value == JsonValue.FALSE)
+			return false;
+		else
+			throw new ClassCastException();
+	}
+
+	@Override
+	public boolean getBoolean(String name, boolean defaultValue) {
+		final var value = get(name);
+		if (value == JsonValue.TRUE)
+			return true;
+		else if (value == JsonValue.FALSE)
+			return false;
+		else
+			return defaultValue;
+	}
+
+	@Override
+	public boolean isNull(String name) {
+		return get(name).equals(JsonValue.NULL);
+	}
+
+	@Override
+	public String toString() {
+		final var writer = new StringWriter();
+		IuJson.PROVIDER.createWriter(writer).write(this);
+		return writer.toString();
+	}
+
+	/**
+	 * Indexes the next member.
+	 * 
+	 * @return member name
+	 */
+	private String next() {
+		final var nameStart = LazyJson.expect(buf, pos, '"');
+		final var name = LazyJson.string(buf, nameStart);
+		final var valueStart = LazyJson.skipWhitespace(buf,
+				LazyJson.expect(buf, LazyJson.skipWhitespace(buf, LazyJson.skipValue(buf, nameStart)), ':') + 1);
+		final var valueEnd = LazyJson.skipValue(buf, valueStart);
+		members.putIfAbsent(name, valueStart);
+
+		final var end = LazyJson.skipWhitespace(buf, valueEnd);
+		if (LazyJson.at(buf, end, ','))
+			pos = LazyJson.skipWhitespace(buf, end + 1);
+		else {
+			LazyJson.expect(buf, end, '}');
+			pos = -1;
+		}
+		return name;
+	}
+
+}
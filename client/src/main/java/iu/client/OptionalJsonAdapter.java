@@ -36,6 +36,7 @@ import java.util.Optional;
 
 import edu.iu.client.IuJsonAdapter;
 import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParser;
 
 /**
  * Implements {@link IuJsonAdapter} for {@link Date}
@@ -65,6 +66,11 @@ class OptionalJsonAdapter<T> implements IuJsonAdapter<Optional<T>> {
 		return Optional.ofNullable(adapter.fromJson(value));
 	}
 
+	@Override
+	public Optional<T> fromJsonParser(JsonParser parser) {
+		return Optional.ofNullable(adapter.fromJsonParser(parser));
+	}
+
 	@Override
 	public JsonValue toJson(Optional<T> value) {
 		if (value == null)
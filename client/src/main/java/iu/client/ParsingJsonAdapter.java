@@ -37,6 +37,7 @@ import java.util.function.Function;
 
 import edu.iu.client.IuJsonAdapter;
 import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParser;
 
 /**
  * Implements {@link IuJsonAdapter} for types that provide a mechanism for
@@ -91,6 +92,15 @@ public class ParsingJsonAdapter<T> implements IuJsonAdapter<T> {
 			return parser.apply(text);
 	}
 
+	@Override
+	public T fromJsonParser(JsonParser jsonParser) {
+		final var text = TextJsonAdapter.INSTANCE.fromJsonParser(jsonParser);
+		if (text == null)
+			return null;
+		else
+			return parser.apply(text);
+	}
+
 	@Override
 	public JsonValue toJson(T value) {
 		if (value == null)
@@ -38,6 +38,8 @@ import jakarta.json.JsonArray;
 import jakarta.json.JsonNumber;
 import jakarta.json.JsonString;
 import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
 
 /**
  * Implements {@link IuJsonAdapter} for {@link CharSequence}
@@ -70,6 +72,14 @@ class TextJsonAdapter implements IuJsonAdapter<CharSequence> {
 			return null;
 	}
 
+	@Override
+	public String fromJsonParser(JsonParser parser) {
+		if (parser.currentEvent() == Event.VALUE_STRING)
+			return parser.getString();
+		else
+			return fromJson(parser.getValue());
+	}
+
 	@Override
 	public JsonValue toJson(CharSequence value) {
 		if (value == null)
@@ -31,6 +31,8 @@
  */
 package iu.client;
 
+import java.io.IOException;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Type;
 import java.net.URI;
 import java.net.URLEncoder;
@@ -44,17 +46,29 @@ import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import edu.iu.IuCacheMap;
 import edu.iu.IuException;
 import edu.iu.IuRuntimeEnvironment;
+import edu.iu.IuUtilityTaskController;
 import edu.iu.UnsafeConsumer;
 import edu.iu.client.HttpException;
 import edu.iu.client.HttpResponseHandler;
@@ -85,6 +99,84 @@ public final class Vault implements IuVault {
 		KUBERNETES
 	}
 
+	/**
+	 * Cached secret.
+	 */
+	private static class CachedSecret {
+		private final JsonObject data;
+		private final Instant expires;
+		private volatile Instant accessed;
+
+		private CachedSecret(JsonObject data, Instant expires, Instant accessed) {
+			this.data = data;
+			this.expires = expires;
+			this.accessed = accessed;
+		}
+	}
+
+	/**
+	 * Periodically refreshes a {@link Vault} instance; cancels once the instance
+	 * is no longer in use.
+	 * 
+	 * <p>
+	 * The shared scheduler thread only dispatches; each refresh runs as a
+	 * <strong>utility task</strong>, so a slow or failing refresh of one instance
+	 * doesn't delay or stop refreshes of others. A refresh is skipped while the
+	 * previous refresh of the same instance is still running.
+	 * </p>
+	 */
+	static class Refresher implements Runnable {
+		private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(r -> {
+			final var thread = new Thread(r, "iu-vault-refresh");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		private final WeakReference<Vault> vault;
+		private final AtomicBoolean running = new AtomicBoolean();
+		private volatile ScheduledFuture<?> schedule;
+
+		Refresher(Vault vault) {
+			this.vault = new WeakReference<>(vault);
+		}
+
+		private static void schedule(Vault vault) {
+			final var refresher = new Refresher(vault);
+			refresher.schedule = SCHEDULER.scheduleWithFixedDelay(refresher, 0L, vault.refreshInterval.toMillis(),
+					TimeUnit.MILLISECONDS);
+		}
+
+		@Override
+		public void run() {
+			final var vault = this.vault.get();
+			if (vault == null) {
+				final var schedule = this.schedule;
+				if (schedule != null)
+					schedule.cancel(false);
+				return;
+			}
+
+			if (!running.compareAndSet(false, true))
+				return;
+
+			try {
+				new IuUtilityTaskController<>(() -> {
+					try {
+						vault.refresh();
+					} catch (Throwable e) {
+						LOG.log(Level.WARNING, e, () -> "vault:refresh failed:" + vault.endpoint);
+					} finally {
+						running.set(false);
+					}
+					return null;
+				}, Instant.now().plus(vault.refreshInterval));
+			} catch (Throwable e) {
+				running.set(false);
+				LOG.log(Level.WARNING, e, () -> "vault:refresh rejected:" + vault.endpoint);
+			}
+		}
+	}
+
 	/**
 	 * Implements {@link IuVault#of(Properties, Function)}.
 	 * 
@@ -102,17 +194,14 @@ public final class Vault implements IuVault {
 		}
 
 		final var cacheTtl = prop(properties, "iu.vault.cacheTtl", Duration::parse);
-		final Map<String, JsonObject> secretCache;
-		if (cacheTtl == null)
-			secretCache = null;
-		else
-			secretCache = new IuCacheMap<>(cacheTtl);
-
+		final var refreshInterval = prop(properties, "iu.vault.refreshInterval", Duration::parse);
 		final var secretNames = prop(properties, "iu.vault.secrets", a -> a.split(","));
 		final var token = prop(properties, "iu.vault.token", a -> a);
 		final var cubbyhole = "true".equals(prop(properties, "iu.vault.cubbyhole", a -> a));
+
+		final Vault vault;
 		if (token != null)
-			return new Vault(endpoint, secretNames, token, cubbyhole, valueAdapter, secretCache);
+			vault = new Vault(endpoint, secretNames, token, cubbyhole, valueAdapter, cacheTtl, refreshInterval);
 		else {
 			final var loginEndpoint = Objects.requireNonNull( //
 					prop(properties, "iu.vault.loginEndpoint", URI::create),
@@ -126,8 +215,8 @@ public final class Vault implements IuVault {
 				// Use Kubernetes authentication
 				final var effectiveTokenPath = tokenPath != null ? tokenPath
 						: "/var/run/secrets/tokens/vault-jwt";
-				return new Vault(endpoint, secretNames, loginEndpoint, AuthType.KUBERNETES, kubeRole,
-						effectiveTokenPath, cubbyhole, valueAdapter, secretCache);
+				vault = new Vault(endpoint, secretNames, loginEndpoint, AuthType.KUBERNETES, kubeRole,
+						effectiveTokenPath, cubbyhole, valueAdapter, cacheTtl, refreshInterval);
 			} else {
 				// Use AppRole authentication
 				final var roleId = Objects.requireNonNull( //
@@ -135,10 +224,15 @@ public final class Vault implements IuVault {
 				final var secretId = Objects.requireNonNull( //
 						prop(properties, "iu.vault.secretId", a -> a), "Missing iu.vault.secretId");
 
-				return new Vault(endpoint, secretNames, loginEndpoint, AuthType.APPROLE, roleId, secretId, cubbyhole,
-						valueAdapter, secretCache);
+				vault = new Vault(endpoint, secretNames, loginEndpoint, AuthType.APPROLE, roleId, secretId, cubbyhole,
+						valueAdapter, cacheTtl, refreshInterval);
 			}
 		}
+
+		if (refreshInterval != null)
+			Refresher.schedule(vault);
+
+		return vault;
 	}
 
 	/**
@@ -177,13 +271,21 @@ public final class Vault implements IuVault {
 	private final String tokenInfo;
 	private final boolean cubbyhole;
 	private final Function<Type, IuJsonAdapter<?>> valueAdapter;
-	private final Map<String, JsonObject> secretCache;
+	private final Duration cacheTtl;
+	private final Duration refreshInterval;
+	private final Map<String, CachedSecret> secretCache;
+	private final Map<String, CompletableFuture<JsonObject>> reloading = new ConcurrentHashMap<>();
 
-	private String token;
-	private Instant tokenExpires;
+	private volatile String token;
+	private volatile Instant tokenExpires;
+
+	/**
+	 * Supplies the current time for secret cache expiration; replaced by tests.
+	 */
+	volatile Supplier<Instant> clock = Instant::now;
 
 	private Vault(URI endpoint, String[] secretNames, String token, boolean cubbyhole,
-			Function<Type, IuJsonAdapter<?>> valueAdapter, Map<String, JsonObject> secretCache) {
+			Function<Type, IuJsonAdapter<?>> valueAdapter, Duration cacheTtl, Duration refreshInterval) {
 		this.endpoint = endpoint;
 		this.secretNames = secretNames;
 		this.token = token;
@@ -193,12 +295,14 @@ public final class Vault implements IuVault {
 		this.tokenInfo = null;
 		this.cubbyhole = cubbyhole;
 		this.valueAdapter = valueAdapter;
-		this.secretCache = secretCache;
+		this.cacheTtl = cacheTtl;
+		this.refreshInterval = refreshInterval;
+		this.secretCache = cacheTtl == null ? null : new ConcurrentHashMap<>();
 	}
 
 	private Vault(URI endpoint, String[] secretNames, URI loginEndpoint, AuthType authType, String roleInfo,
-			String tokenInfo, boolean cubbyhole, Function<Type, IuJsonAdapter<?>> valueAdapter,
-			Map<String, JsonObject> secretCache) {
+			String tokenInfo, boolean cubbyhole, Function<Type, IuJsonAdapter<?>> valueAdapter, Duration cacheTtl,
+			Duration refreshInterval) {
 		this.endpoint = endpoint;
 		this.secretNames = secretNames;
 		this.token = null;
@@ -208,7 +312,9 @@ public final class Vault implements IuVault {
 		this.tokenInfo = tokenInfo;
 		this.cubbyhole = cubbyhole;
 		this.valueAdapter = valueAdapter;
-		this.secretCache = secretCache;
+		this.cacheTtl = cacheTtl;
+		this.refreshInterval = refreshInterval;
+		this.secretCache = cacheTtl == null ? null : new ConcurrentHashMap<>();
 	}
 
 	@Override
@@ -216,9 +322,20 @@ public final class Vault implements IuVault {
 		if (secretNames == null)
 			throw new UnsupportedOperationException();
 
+		final Map<String, IuVaultSecret> secrets = new LinkedHashMap<>();
+		if (secretCache == null)
+			for (final var response : readAsync(Arrays.asList(secretNames)).entrySet()) {
+				final var secretName = response.getKey();
+				secrets.put(secretName, secret(secretName, join(response.getValue()).getJsonObject("data")));
+			}
+		else {
+			prefetch();
+			for (final var secretName : secretNames)
+				secrets.put(secretName, getSecret(secretName));
+		}
+
 		final Map<String, IuVaultKeyedValue<?>> values = new LinkedHashMap<>();
-		for (final var secretName : secretNames) {
-			final var secret = getSecret(secretName);
+		for (final var secret : secrets.values()) {
 			for (final var key : secret.getData().keySet())
 				if (!values.containsKey(key))
 					values.put(key, secret.get(key, Object.class));
@@ -227,6 +344,37 @@ public final class Vault implements IuVault {
 		return values.values();
 	}
 
+	@Override
+	public void prefetch() {
+		if (secretNames == null)
+			throw new UnsupportedOperationException();
+		if (secretCache == null)
+			return;
+
+		final var now = clock.get();
+		final Set<String> pending = new LinkedHashSet<>();
+		for (final var secretName : secretNames) {
+			final var cached = secretCache.get(secretName);
+			if (cached == null //
+					|| !now.isBefore(cached.expires))
+				pending.add(secretName);
+		}
+
+		RuntimeException failure = null;
+		for (final var response : readAsync(pending).entrySet())
+			try {
+				secretCache.put(response.getKey(), cache(join(response.getValue())));
+			} catch (RuntimeException e) {
+				if (failure == null)
+					failure = e;
+				else
+					failure.addSuppressed(e);
+			}
+
+		if (failure != null)
+			throw failure;
+	}
+
 	@Override
 	public IuVaultKeyedValue<String> get(String name) {
 		return get(name, String.class);
@@ -249,6 +397,17 @@ public final class Vault implements IuVault {
 
 	@Override
 	public IuVaultSecret getSecret(String secret) {
+		return secret(secret, secretCache == null ? readSecret(secret) : null);
+	}
+
+	/**
+	 * Gets a full K/V secret.
+	 * 
+	 * @param secret secret name
+	 * @param data   secret data already read from Vault; null if cached
+	 * @return {@link IuVaultSecret}
+	 */
+	private IuVaultSecret secret(String secret, JsonObject data) {
 		class Ref {
 			JsonObject data;
 		}
@@ -271,7 +430,7 @@ public final class Vault implements IuVault {
 
 		if (secretCache == null) {
 			ref = new Ref();
-			ref.data = readSecret(secret);
+			ref.data = data;
 			dataSupplier = () -> convertData.apply(ref.data);
 			metadataSupplier = () -> convertMetadata.apply(ref.data);
 		} else {
@@ -283,10 +442,10 @@ public final class Vault implements IuVault {
 		final Consumer<JsonObject> mergePatchConsumer;
 
 		mergePatchConsumer = mergePatch -> IuException.unchecked(() -> {
-			final var data = dataSupplier.get();
-			final var metadata = metadataSupplier.get();
-
-			final var updatedData = IuJson.PROVIDER.createMergePatch(mergePatch).apply(data).asJsonObject();
+			final var current = ref == null ? readSecretUsingCache(secret) : ref.data;
+			final var metadata = convertMetadata.apply(current);
+			final var updatedData = IuJson.PROVIDER.createMergePatch(mergePatch).apply(convertData.apply(current))
+					.asJsonObject();
 
 			final String dataRequestPayload;
 			if (cubbyhole)
@@ -318,21 +477,152 @@ public final class Vault implements IuVault {
 			final var delete = mergePatch.values().stream().allMatch(JsonValue.NULL::equals);
 			LOG.config(() -> "vault:" + (delete ? "delete:" : "set:") + dataUri + ":" + mergePatch.keySet());
 
-			final var updated = readSecret(secret);
 			if (secretCache == null)
-				ref.data = updated;
+				ref.data = readSecret(secret);
 			else
-				secretCache.put(secret, updated);
+				secretCache.put(secret, fetch(secret));
 		});
 
 		return new VaultSecret(secret, dataUri, dataSupplier, metadataSupplier, mergePatchConsumer, valueAdapter);
 	}
 
 	private JsonObject readSecretUsingCache(String secret) {
-		var data = secretCache.get(secret);
-		if (data == null)
-			secretCache.put(secret, data = readSecret(secret));
-		return data;
+		final var now = clock.get();
+		final var cached = secretCache.get(secret);
+		if (cached != null //
+				&& now.isBefore(cached.expires)) {
+			cached.accessed = now;
+			return cached.data;
+		} else
+			return reload(secret);
+	}
+
+	/**
+	 * Reloads a cached secret.
+	 * 
+	 * <p>
+	 * Concurrent reloads of the same secret are coalesced. If the secret was
+	 * previously loaded and Vault is {@link #isTransient(Throwable) temporarily
+	 * unavailable}, the last good value is returned for up to one cache time to
+	 * live past its expiration, and the secret will be reloaded on next access.
+	 * Any other failure discards the cached value.
+	 * </p>
+	 * 
+	 * @param secret secret name
+	 * @return secret data
+	 */
+	private JsonObject reload(String secret) {
+		final var future = new CompletableFuture<JsonObject>();
+		final var inFlight = reloading.putIfAbsent(secret, future);
+		if (inFlight != null)
+			return join(inFlight);
+
+		try {
+			final var cached = secretCache.get(secret);
+			JsonObject data;
+			try {
+				final var fetched = fetch(secret);
+				secretCache.put(secret, fetched);
+				data = fetched.data;
+			} catch (RuntimeException e) {
+				if (cached == null)
+					throw e;
+
+				if (!isTransient(e) //
+						|| !clock.get().isBefore(cached.expires.plus(cacheTtl))) {
+					secretCache.remove(secret, cached);
+					throw e;
+				}
+
+				LOG.log(Level.WARNING, e, () -> "vault:stale:" + dataUri(secret));
+				cached.accessed = clock.get();
+				data = cached.data;
+			}
+
+			future.complete(data);
+			return data;
+		} catch (RuntimeException | Error e) {
+			future.completeExceptionally(e);
+			throw e;
+		} finally {
+			reloading.remove(secret, future);
+		}
+	}
+
+	/**
+	 * Determines whether or not a failure to read from Vault is temporary, i.e.,
+	 * a transport error, timeout, or 5xx server error.
+	 * 
+	 * @param e failure to read from Vault
+	 * @return true if the request may succeed on retry; false if Vault responded
+	 *         definitively, e.g., 403 FORBIDDEN
+	 */
+	static boolean isTransient(Throwable e) {
+		boolean transport = false;
+		for (var cause = e; cause != null; cause = cause.getCause())
+			if (cause instanceof HttpException) {
+				final var response = ((HttpException) cause).getResponse();
+				return response != null //
+						&& response.statusCode() >= 500;
+			} else if (cause instanceof IOException //
+					|| cause instanceof TimeoutException)
+				transport = true;
+		return transport;
+	}
+
+	/**
+	 * Refreshes the Vault token, configured secrets not yet cached, and cached
+	 * secrets due to expire before the next refresh interval.
+	 * 
+	 * <p>
+	 * Secrets not configured by name and not accessed within the cache time to
+	 * live are discarded instead of refreshed.
+	 * </p>
+	 */
+	void refresh() {
+		final var now = clock.get();
+		final var horizon = now.plus(refreshInterval);
+
+		final var tokenExpires = this.tokenExpires;
+		if (tokenExpires != null //
+				&& tokenExpires.isBefore(horizon))
+			try {
+				login(token);
+			} catch (RuntimeException e) {
+				LOG.log(Level.WARNING, e, () -> "vault:login failed:" + loginEndpoint);
+			}
+
+		if (secretCache == null)
+			return;
+
+		final Set<String> configured = new LinkedHashSet<>();
+		if (secretNames != null)
+			configured.addAll(Arrays.asList(secretNames));
+
+		final var idleSince = now.minus(cacheTtl);
+		secretCache.entrySet().removeIf(cachedSecret -> !configured.contains(cachedSecret.getKey()) //
+				&& cachedSecret.getValue().accessed.isBefore(idleSince));
+
+		final Set<String> pending = new LinkedHashSet<>();
+		for (final var secretName : configured)
+			if (!secretCache.containsKey(secretName))
+				pending.add(secretName);
+		for (final var cachedSecret : secretCache.entrySet())
+			if (cachedSecret.getValue().expires.isBefore(horizon))
+				pending.add(cachedSecret.getKey());
+
+		for (final var response : readAsync(pending).entrySet()) {
+			final var secret = response.getKey();
+			try {
+				final var refreshed = cache(join(response.getValue()));
+				final var cached = secretCache.get(secret);
+				if (cached != null)
+					refreshed.accessed = cached.accessed;
+				secretCache.put(secret, refreshed);
+			} catch (RuntimeException e) {
+				LOG.log(Level.WARNING, e, () -> "vault:refresh failed:" + secret);
+			}
+		}
 	}
 
 	/**
@@ -342,21 +632,106 @@ public final class Vault implements IuVault {
 	 * @return parsed secret
 	 */
 	JsonObject readSecret(String secret) {
+		return read(secret).getJsonObject("data");
+	}
+
+	/**
+	 * Reads a secret for caching, honoring the lease duration if shorter than the
+	 * cache time to live.
+	 * 
+	 * @param secret secret name
+	 * @return {@link CachedSecret}
+	 */
+	private CachedSecret fetch(String secret) {
+		return cache(read(secret));
+	}
+
+	/**
+	 * Prepares a secret for caching, honoring the lease duration if shorter than
+	 * the cache time to live.
+	 * 
+	 * @param response Vault API response
+	 * @return {@link CachedSecret}
+	 */
+	private CachedSecret cache(JsonObject response) {
+		final var leaseDuration = Duration.ofSeconds(response.getInt("lease_duration", 0));
+
+		var ttl = cacheTtl;
+		if (!leaseDuration.isZero() //
+				&& leaseDuration.compareTo(ttl) < 0)
+			ttl = leaseDuration;
+
+		final var now = clock.get();
+		return new CachedSecret(response.getJsonObject("data"), now.plus(ttl), now);
+	}
+
+	private JsonObject read(String secret) {
 		return IuException.unchecked(() -> {
 			try {
-				return IuHttp.send(dataUri(secret), this::authorize, IuHttp.READ_JSON_OBJECT).getJsonObject("data");
+				return IuHttp.send(dataUri(secret), this::authorize, IuHttp.READ_JSON_OBJECT);
 			} catch (HttpException e) {
 				if (e.getResponse().statusCode() == 404)
-					if (cubbyhole)
-						return IuJson.object().build();
-					else
-						return IuJson.object().add("data", IuJson.object()).build();
+					return notFound();
 				else
 					throw e;
 			}
 		});
 	}
 
+	/**
+	 * Reads secrets concurrently using the Vault API.
+	 * 
+	 * @param secrets secret names
+	 * @return pending response by secret name, in iteration order
+	 */
+	private Map<String, CompletableFuture<JsonObject>> readAsync(Iterable<String> secrets) {
+		final Map<String, CompletableFuture<JsonObject>> responses = new LinkedHashMap<>();
+		for (final var secret : secrets) {
+			CompletableFuture<JsonObject> response;
+			try {
+				response = IuHttp.sendAsync(dataUri(secret), this::authorize, IuHttp.READ_JSON_OBJECT);
+			} catch (RuntimeException e) {
+				response = CompletableFuture.failedFuture(e);
+			}
+
+			responses.put(secret, response.exceptionally(e -> {
+				final var cause = e instanceof CompletionException ? e.getCause() : e;
+				if (cause instanceof HttpException //
+						&& ((HttpException) cause).getResponse().statusCode() == 404)
+					return notFound();
+				else
+					throw new CompletionException(cause);
+			}));
+		}
+		return responses;
+	}
+
+	/**
+	 * Waits for a pending response.
+	 * 
+	 * @param response pending response
+	 * @return response value
+	 */
+	private static JsonObject join(CompletableFuture<JsonObject> response) {
+		try {
+			return response.join();
+		} catch (CompletionException e) {
+			throw IuException.unchecked(e.getCause());
+		}
+	}
+
+	/**
+	 * Gets the response to use in place of a secret that does not exist.
+	 * 
+	 * @return empty secret response
+	 */
+	private JsonObject notFound() {
+		if (cubbyhole)
+			return IuJson.object().add("data", IuJson.object()).build();
+		else
+			return IuJson.object().add("data", IuJson.object().add("data", IuJson.object())).build();
+	}
+
 	/**
 	 * Creates a data URI for calling the Vault API.
 	 * 
@@ -395,28 +770,40 @@ public final class Vault implements IuVault {
 	}
 
 	private void authorize(HttpRequest.Builder requestBuilder) {
-		if (tokenExpires != null //
-				&& Instant.now().isAfter(tokenExpires))
-			token = null;
-
-		if (token == null) {
-			// Determine which authentication method to use
-			final UnsafeConsumer<HttpRequest.Builder> authMethod;
-			if (authType == AuthType.KUBERNETES)
-				authMethod = this::kubeauth;
-			else
-				authMethod = this::approle;
+		var token = this.token;
+		final var tokenExpires = this.tokenExpires;
+		if (token == null //
+				|| (tokenExpires != null //
+						&& Instant.now().isAfter(tokenExpires)))
+			token = login(token);
 
-			final var authResponse = IuException.unchecked( //
-					() -> IuHttp.send(loginEndpoint, authMethod, IuHttp.READ_JSON_OBJECT) //
-							.getJsonObject("auth"));
+		requestBuilder.header("X-Vault-Token", token);
+	}
 
-			tokenExpires = Instant.now().truncatedTo(ChronoUnit.SECONDS)
-					.plusSeconds(authResponse.getInt("lease_duration", 0));
-			token = authResponse.getString("client_token");
-		}
+	/**
+	 * Logs in to Vault, unless the token has already been replaced.
+	 * 
+	 * @param expiredToken token to replace
+	 * @return current token
+	 */
+	private synchronized String login(String expiredToken) {
+		if (token != expiredToken)
+			return token;
+
+		// Determine which authentication method to use
+		final UnsafeConsumer<HttpRequest.Builder> authMethod;
+		if (authType == AuthType.KUBERNETES)
+			authMethod = this::kubeauth;
+		else
+			authMethod = this::approle;
 
-		requestBuilder.header("X-Vault-Token", token);
+		final var authResponse = IuException.unchecked( //
+				() -> IuHttp.send(loginEndpoint, authMethod, IuHttp.READ_JSON_OBJECT) //
+						.getJsonObject("auth"));
+
+		tokenExpires = Instant.now().truncatedTo(ChronoUnit.SECONDS)
+				.plusSeconds(authResponse.getInt("lease_duration", 0));
+		return token = authResponse.getString("client_token");
 	}
 
 }
@@ -34,6 +34,8 @@ package edu.iu.client;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -41,6 +43,7 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -52,8 +55,13 @@ import java.net.http.HttpHeaders;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.net.http.HttpResponse.BodyHandler;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.logging.Handler;
 import java.util.logging.Level;
@@ -64,9 +72,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import edu.iu.IdGenerator;
+import edu.iu.IuException;
 import edu.iu.IuListener;
 import edu.iu.IuText;
 import edu.iu.UnsafeConsumer;
+import edu.iu.UnsafeSupplier;
+import iu.client.HttpCompression;
+import iu.client.IuHttpClientEvent;
 
 @SuppressWarnings("javadoc")
 public class IuHttpTest extends IuHttpTestCase {
@@ -115,6 +127,30 @@ public class IuHttpTest extends IuHttpTestCase {
 		assertEquals("bar", o.getString("foo"));
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testLazyJsonObject() throws HttpException {
+		final var resp = mock(HttpResponse.class);
+		when(resp.statusCode()).thenReturn(200);
+		when(resp.body()).thenReturn(new ByteArrayInputStream(
+				IuJson.object().add("foo", "bar").add("baz", IuJson.array().add(1)).build().toString().getBytes()));
+		final var o = IuHttp.READ_LAZY_JSON_OBJECT.apply(resp);
+		assertEquals("bar", o.getString("foo"));
+		assertEquals(IuJson.object().add("foo", "bar").add("baz", IuJson.array().add(1)).build(), o);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testReadJson() throws HttpException {
+		final var resp = mock(HttpResponse.class);
+		when(resp.statusCode()).thenReturn(200);
+		when(resp.body()).thenReturn(new ByteArrayInputStream(
+				IuJson.object().add("foo", IuJson.array().add(1).add(2)).build().toString().getBytes()));
+		final var o = IuHttp.readJson(IuJsonAdapter.<Map<String, List<Integer>>>of(Map.class,
+				IuJsonAdapter.of(List.class, IuJsonAdapter.of(Integer.class)))).apply(resp);
+		assertEquals(Map.of("foo", List.of(1, 2)), o);
+	}
+
 	@SuppressWarnings("unchecked")
 	@Test
 	public void testReadUtf8() throws HttpException {
@@ -232,6 +268,46 @@ public class IuHttpTest extends IuHttpTestCase {
 		}
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testCompressedResponse() throws Throwable {
+		try (final var mockRequest = mockStatic(HttpRequest.class);
+				final var mockListener = mockStatic(IuListener.class)) {
+			final var request = mock(HttpRequest.class);
+			when(request.method()).thenReturn("GET");
+			when(request.headers()).thenReturn(HttpHeaders.of(Map.of(), (a, b) -> true));
+			when(request.uri()).thenReturn(TEST_URI);
+
+			final var mockBuilder = mock(HttpRequest.Builder.class);
+			when(mockBuilder.build()).thenReturn(request);
+			mockRequest.when(() -> HttpRequest.newBuilder(TEST_URI)).thenReturn(mockBuilder);
+
+			final var text = IdGenerator.generateId().repeat(100);
+			final var compressed = HttpCompression.gzip(IuText.utf8(text));
+			final var response = mock(HttpResponse.class);
+			when(response.statusCode()).thenReturn(200);
+			when(response.headers())
+					.thenReturn(HttpHeaders.of(Map.of("Content-Encoding", List.of("gzip")), (a, b) -> true));
+			when(response.body()).thenReturn(new ByteArrayInputStream(compressed));
+			when(http.send(eq(request), any(BodyHandler.class))).thenReturn(response);
+
+			assertEquals(text, IuHttp.send(TEST_URI, null, IuHttp.READ_UTF8));
+			verify(mockBuilder).setHeader("Accept-Encoding", "gzip, deflate");
+			mockListener.verify(() -> IuListener.observe(argThat(a -> a instanceof IuHttpClientEvent //
+					&& ((IuHttpClientEvent) a).getCompressedBytes() == compressed.length //
+					&& ((IuHttpClientEvent) a).getUncompressedBytes() == text.length())));
+		}
+	}
+
+	@Test
+	public void testGzipRequest() {
+		final var body = IuText.utf8(IdGenerator.generateId());
+		final var requestBuilder = mock(HttpRequest.Builder.class);
+		IuHttp.gzip(requestBuilder, "PUT", body);
+		verify(requestBuilder).header("Content-Encoding", "gzip");
+		verify(requestBuilder).method(eq("PUT"), argThat(a -> a.contentLength() > 0));
+	}
+
 	@SuppressWarnings("unchecked")
 	@Test
 	public void testModifiedRequest() throws Throwable {
@@ -347,6 +423,397 @@ public class IuHttpTest extends IuHttpTestCase {
 		}
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testGetAsync() throws Throwable {
+		try (final var mockRequest = mockStatic(HttpRequest.class);
+				final var mockListener = mockStatic(IuListener.class)) {
+			final var request = mock(HttpRequest.class);
+			when(request.method()).thenReturn("GET");
+			when(request.headers()).thenReturn(HttpHeaders.of(Map.of(), (a, b) -> true));
+			when(request.uri()).thenReturn(TEST_URI);
+
+			final var mockBuilder = mock(HttpRequest.Builder.class);
+			when(mockBuilder.build()).thenReturn(request);
+			mockRequest.when(() -> HttpRequest.newBuilder(TEST_URI)).thenReturn(mockBuilder);
+
+			final var response = mock(HttpResponse.class);
+			when(response.statusCode()).thenReturn(200);
+			when(response.headers()).thenReturn(HttpHeaders.of(Map.of(), (a, b) -> true));
+			when(http.sendAsync(eq(request), any(BodyHandler.class)))
+					.thenReturn(CompletableFuture.completedFuture(response));
+
+			final var body = new Object();
+			final var handler = mock(HttpResponseHandler.class);
+			when(handler.apply(response)).thenReturn(body);
+			assertSame(body, IuHttp.getAsync(TEST_URI, handler).join());
+			assertSame(response, IuHttp.getAsync(TEST_URI).join());
+			final UnsafeConsumer<HttpRequest.Builder> consumer = mock(UnsafeConsumer.class);
+			assertSame(body, IuHttp.sendAsync(TEST_URI, consumer, handler).join());
+			verify(consumer).accept(mockBuilder);
+
+			mockListener.verify(() -> IuListener.observe(argThat(a -> "receive 200".equals(a.getAction()))),
+					times(3));
+			verify(logHandler, times(3)).publish(argThat(r -> Level.FINE.equals(r.getLevel())
+					&& r.getMessage().equals("GET " + TEST_URI + " 200 OK")));
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testSendAsyncRequestConsumerError() throws Exception {
+		try (final var mockRequest = mockStatic(HttpRequest.class)) {
+			mockRequest.when(() -> HttpRequest.newBuilder(TEST_URI)).thenReturn(mock(HttpRequest.Builder.class));
+
+			final var e = new IOException();
+			final UnsafeConsumer<HttpRequest.Builder> consumer = b -> {
+				throw e;
+			};
+			assertSame(e,
+					assertThrows(IOException.class, () -> IuHttp.sendAsync(IOException.class, TEST_URI, consumer)));
+			assertSame(e,
+					assertThrows(IllegalStateException.class, () -> IuHttp.sendAsync(TEST_URI, consumer)).getCause());
+			assertThrows(IllegalArgumentException.class,
+					() -> IuHttp.getAsync(URI.create("https://www.iu.edu/"), mock(HttpResponseHandler.class)));
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testAsyncConnectionError() throws Exception {
+		try (final var mockRequest = mockStatic(HttpRequest.class);
+				final var mockListener = mockStatic(IuListener.class)) {
+			final var request = mock(HttpRequest.class);
+			when(request.method()).thenReturn("GET");
+			when(request.headers()).thenReturn(HttpHeaders.of(Map.of(), (a, b) -> true));
+			when(request.uri()).thenReturn(TEST_URI);
+
+			final var mockBuilder = mock(HttpRequest.Builder.class);
+			when(mockBuilder.build()).thenReturn(request);
+			mockRequest.when(() -> HttpRequest.newBuilder(TEST_URI)).thenReturn(mockBuilder);
+
+			final var e = new IOException();
+			when(http.sendAsync(eq(request), any(BodyHandler.class))).thenReturn(CompletableFuture.failedFuture(e),
+					CompletableFuture.failedFuture(new CompletionException(e)));
+
+			for (var i = 0; i < 2; i++) {
+				final var t = assertThrows(CompletionException.class, () -> IuHttp.getAsync(TEST_URI).join());
+				final var cause = assertInstanceOf(IllegalStateException.class, t.getCause());
+				assertEquals("HTTP connection failed GET " + TEST_URI, cause.getMessage());
+				assertSame(e, cause.getCause());
+			}
+
+			final var r = new IllegalStateException();
+			when(http.sendAsync(eq(request), any(BodyHandler.class))).thenThrow(r);
+			final var t = assertThrows(CompletionException.class, () -> IuHttp.getAsync(TEST_URI).join());
+			assertSame(r, t.getCause().getCause());
+
+			mockListener.verify(() -> IuListener.observe(argThat(a -> "incomplete".equals(a.getAction()))),
+					times(3));
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testAsyncErrorResponse() throws Exception {
+		try (final var mockRequest = mockStatic(HttpRequest.class);
+				final var mockListener = mockStatic(IuListener.class)) {
+			final var request = mock(HttpRequest.class);
+			when(request.method()).thenReturn("GET");
+			when(request.headers()).thenReturn(HttpHeaders.of(Map.of(), (a, b) -> true));
+			when(request.uri()).thenReturn(TEST_URI);
+
+			final var mockBuilder = mock(HttpRequest.Builder.class);
+			when(mockBuilder.build()).thenReturn(request);
+			mockRequest.when(() -> HttpRequest.newBuilder(TEST_URI)).thenReturn(mockBuilder);
+
+			final var response = mock(HttpResponse.class);
+			when(response.statusCode()).thenReturn(404);
+			when(response.headers()).thenReturn(HttpHeaders.of(Map.of(), (a, b) -> true));
+			when(http.sendAsync(eq(request), any(BodyHandler.class)))
+					.thenReturn(CompletableFuture.completedFuture(response));
+
+			final var t = assertThrows(CompletionException.class,
+					() -> IuHttp.getAsync(TEST_URI, mock(HttpResponseHandler.class)).join());
+			final var e = assertInstanceOf(HttpException.class, t.getCause());
+			assertEquals("GET " + TEST_URI + " 404 NOT FOUND", e.getMessage());
+			assertSame(response, e.getResponse());
+
+			mockListener.verify(() -> IuListener.observe(argThat(a -> "error 404".equals(a.getAction()))));
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testAsyncHandlerError() throws Exception {
+		try (final var mockRequest = mockStatic(HttpRequest.class)) {
+			final var request = mock(HttpRequest.class);
+			when(request.method()).thenReturn("GET");
+			when(request.headers()).thenReturn(HttpHeaders.of(Map.of(), (a, b) -> true));
+			when(request.uri()).thenReturn(TEST_URI);
+
+			final var mockBuilder = mock(HttpRequest.Builder.class);
+			when(mockBuilder.build()).thenReturn(request);
+			mockRequest.when(() -> HttpRequest.newBuilder(TEST_URI)).thenReturn(mockBuilder);
+
+			final var response = mock(HttpResponse.class);
+			when(response.statusCode()).thenReturn(200);
+			when(response.headers()).thenReturn(HttpHeaders.of(Map.of(), (a, b) -> true));
+			when(http.sendAsync(eq(request), any(BodyHandler.class)))
+					.thenReturn(CompletableFuture.completedFuture(response));
+
+			final var e = new HttpException("invalid");
+			final var handler = mock(HttpResponseHandler.class);
+			when(handler.apply(response)).thenThrow(e);
+			final var t = assertThrows(CompletionException.class,
+					() -> IuHttp.sendAsync(TEST_URI, null, handler).join());
+			assertSame(e, t.getCause());
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testCachedGet() throws Exception {
+		final var uri = URI.create(TEST_URI + "/" + IdGenerator.generateId());
+		try (final var mockRequest = mockStatic(HttpRequest.class)) {
+			final var request = mock(HttpRequest.class);
+			when(request.method()).thenReturn("GET");
+			when(request.headers()).thenReturn(HttpHeaders.of(Map.of(), (a, b) -> true));
+			when(request.uri()).thenReturn(uri);
+
+			final var mockBuilder = mock(HttpRequest.Builder.class);
+			when(mockBuilder.build()).thenReturn(request);
+			mockRequest.when(() -> HttpRequest.newBuilder(uri)).thenReturn(mockBuilder);
+
+			final var body = IdGenerator.generateId();
+			final var response = mock(HttpResponse.class);
+			when(response.statusCode()).thenReturn(200);
+			when(response.headers())
+					.thenReturn(HttpHeaders.of(Map.of("Cache-Control", List.of("max-age=60")), (a, b) -> true));
+			when(response.body()).thenReturn(new ByteArrayInputStream(IuText.utf8(body)));
+			when(http.send(eq(request), any(BodyHandler.class))).thenReturn(response);
+
+			assertEquals(body, IuHttp.get(uri, IuHttp.READ_UTF8));
+			assertEquals(body, IuHttp.get(uri, IuHttp.READ_UTF8));
+			assertEquals(body, IuHttp.getAsync(uri, IuHttp.READ_UTF8).join());
+			verify(http).send(eq(request), any(BodyHandler.class));
+		}
+	}
+
+	private static Thread awaitFollower(UnsafeSupplier<?> follower, Object[] result) throws InterruptedException {
+		final var thread = new Thread(() -> {
+			try {
+				result[0] = follower.get();
+			} catch (Throwable e) {
+				result[0] = e;
+			}
+		});
+		thread.start();
+		while (thread.getState() != Thread.State.WAITING)
+			Thread.sleep(10L);
+		return thread;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testCoalescedGet() throws Throwable {
+		final var uri = URI.create(TEST_URI + "/" + IdGenerator.generateId());
+		try (final var mockRequest = mockStatic(HttpRequest.class)) {
+			final var request = mock(HttpRequest.class);
+			when(request.method()).thenReturn("GET");
+			when(request.headers()).thenReturn(HttpHeaders.of(Map.of(), (a, b) -> true));
+			when(request.uri()).thenReturn(uri);
+
+			final var mockBuilder = mock(HttpRequest.Builder.class);
+			when(mockBuilder.build()).thenReturn(request);
+			mockRequest.when(() -> HttpRequest.newBuilder(uri)).thenReturn(mockBuilder);
+
+			final var response = mock(HttpResponse.class);
+			when(response.statusCode()).thenReturn(200);
+			when(response.headers()).thenReturn(HttpHeaders.of(Map.of(), (a, b) -> true));
+			when(http.send(eq(request), any(BodyHandler.class))).thenReturn(response);
+
+			class Leader implements HttpResponseHandler<Object> {
+				final Object result = new Object();
+				final Object[] followerResult = new Object[1];
+				HttpException error;
+				Thread follower;
+				CompletableFuture<Object> asyncFollower;
+				Object other;
+
+				@Override
+				public Object apply(HttpResponse<InputStream> argument) throws HttpException {
+					follower = IuException.unchecked(() -> awaitFollower(() -> IuHttp.get(uri, this), followerResult));
+					asyncFollower = IuHttp.getAsync(uri, this);
+					assertFalse(asyncFollower.isDone());
+
+					// distinct handler is not coalesced
+					final var otherResult = new Object();
+					other = IuHttp.get(uri, a -> otherResult);
+					assertSame(otherResult, other);
+
+					if (error != null)
+						throw error;
+					else
+						return result;
+				}
+			}
+
+			final var leader = new Leader();
+			assertSame(leader.result, IuHttp.get(uri, leader));
+			leader.follower.join();
+			assertSame(leader.result, leader.followerResult[0]);
+			assertSame(leader.result, leader.asyncFollower.join());
+
+			final var failed = new Leader();
+			failed.error = new HttpException("failed");
+			assertSame(failed.error, assertThrows(HttpException.class, () -> IuHttp.get(uri, failed)));
+			failed.follower.join();
+			assertSame(failed.error, failed.followerResult[0]);
+			assertSame(failed.error,
+					assertThrows(CompletionException.class, () -> failed.asyncFollower.join()).getCause());
+
+			verify(http, times(4)).send(eq(request), any(BodyHandler.class));
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testMutableResultNotShared() throws Throwable {
+		final var uri = URI.create(TEST_URI + "/" + IdGenerator.generateId());
+		try (final var mockRequest = mockStatic(HttpRequest.class)) {
+			final var request = mock(HttpRequest.class);
+			when(request.method()).thenReturn("GET");
+			when(request.headers()).thenReturn(HttpHeaders.of(Map.of(), (a, b) -> true));
+			when(request.uri()).thenReturn(uri);
+
+			final var mockBuilder = mock(HttpRequest.Builder.class);
+			when(mockBuilder.build()).thenReturn(request);
+			mockRequest.when(() -> HttpRequest.newBuilder(uri)).thenReturn(mockBuilder);
+
+			final var response = mock(HttpResponse.class);
+			when(response.statusCode()).thenReturn(200);
+			when(response.headers()).thenReturn(HttpHeaders.of(Map.of(), (a, b) -> true));
+			when(http.send(eq(request), any(BodyHandler.class))).thenReturn(response);
+			when(http.sendAsync(eq(request), any(BodyHandler.class)))
+					.thenReturn((CompletableFuture) CompletableFuture.completedFuture(response));
+
+			class Mutable implements HttpResponseHandler<List<Object>> {
+				List<Object> overlapping;
+				List<Object> asyncResult;
+				boolean first = true;
+
+				@Override
+				public List<Object> apply(HttpResponse<InputStream> argument) throws HttpException {
+					if (first) {
+						first = false;
+						// overlapping requests while the first is in flight
+						overlapping = IuHttp.send(uri, null, this);
+						asyncResult = IuHttp.sendAsync(uri, null, this).join();
+					}
+					return new ArrayList<>();
+				}
+			}
+
+			final var handler = new Mutable();
+			final var result = IuHttp.send(uri, null, handler);
+			assertNotSame(result, handler.overlapping);
+			assertNotSame(result, handler.asyncResult);
+			assertNotSame(handler.overlapping, handler.asyncResult);
+			verify(http, times(2)).send(eq(request), any(BodyHandler.class));
+			verify(http).sendAsync(eq(request), any(BodyHandler.class));
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testCoalescedGetAsyncError() throws Exception {
+		final var uri = URI.create(TEST_URI + "/" + IdGenerator.generateId());
+		try (final var mockRequest = mockStatic(HttpRequest.class)) {
+			final var request = mock(HttpRequest.class);
+			when(request.method()).thenReturn("GET");
+			when(request.headers()).thenReturn(HttpHeaders.of(Map.of(), (a, b) -> true));
+			when(request.uri()).thenReturn(uri);
+
+			final var mockBuilder = mock(HttpRequest.Builder.class);
+			when(mockBuilder.build()).thenReturn(request);
+			mockRequest.when(() -> HttpRequest.newBuilder(uri)).thenReturn(mockBuilder);
+
+			final var sent = new CompletableFuture<HttpResponse<InputStream>>();
+			when(http.sendAsync(eq(request), any(BodyHandler.class))).thenReturn((CompletableFuture) sent);
+
+			final var handler = mock(HttpResponseHandler.class);
+			final var leader = IuHttp.getAsync(uri, handler);
+			final var follower = IuHttp.getAsync(uri, handler);
+			final var e = new IOException();
+			sent.completeExceptionally(e);
+
+			assertSame(e, assertThrows(CompletionException.class, leader::join).getCause().getCause());
+			assertSame(e, assertThrows(CompletionException.class, follower::join).getCause().getCause());
+			verify(http).sendAsync(eq(request), any(BodyHandler.class));
+		}
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	@Test
+	public void testAsyncBodyReadOffClientExecutor() throws Throwable {
+		// simulates iu.http.destination.<name>.threads=1: response headers and body
+		// data are delivered by the same single client thread
+		final var clientExecutor = Executors.newFixedThreadPool(1, r -> {
+			final var thread = new Thread(r, "iu-http-test/1");
+			thread.setDaemon(true);
+			return thread;
+		});
+		try (final var mockRequest = mockStatic(HttpRequest.class)) {
+			final List<String> bodies = new ArrayList<>();
+			final List<CompletableFuture<String>> results = new ArrayList<>();
+			for (var i = 0; i < 4; i++) {
+				final var uri = URI.create(TEST_URI + "/" + IdGenerator.generateId());
+				final var request = mock(HttpRequest.class);
+				when(request.method()).thenReturn("GET");
+				when(request.headers()).thenReturn(HttpHeaders.of(Map.of(), (a, b) -> true));
+				when(request.uri()).thenReturn(uri);
+
+				final var mockBuilder = mock(HttpRequest.Builder.class);
+				when(mockBuilder.build()).thenReturn(request);
+				mockRequest.when(() -> HttpRequest.newBuilder(uri)).thenReturn(mockBuilder);
+
+				final var body = IdGenerator.generateId();
+				bodies.add(body);
+				final var delivered = new CompletableFuture<byte[]>();
+				final var response = mock(HttpResponse.class);
+				when(response.statusCode()).thenReturn(200);
+				when(response.headers()).thenReturn(
+						HttpHeaders.of(Map.of("Cache-Control", List.of(i % 2 == 0 ? "max-age=60" : "no-store")),
+								(a, b) -> true));
+				when(response.body()).thenReturn(new InputStream() {
+					private InputStream in;
+
+					@Override
+					public int read() throws IOException {
+						if (in == null)
+							in = new ByteArrayInputStream(delivered.join());
+						return in.read();
+					}
+				});
+
+				final var sent = new CompletableFuture<HttpResponse<InputStream>>();
+				when(http.sendAsync(eq(request), any(BodyHandler.class))).thenReturn((CompletableFuture) sent);
+
+				results.add(IuHttp.getAsync(uri, IuHttp.READ_UTF8));
+				clientExecutor.execute(() -> {
+					clientExecutor.execute(() -> delivered.complete(IuText.utf8(body)));
+					sent.complete(response);
+				});
+			}
+
+			for (var i = 0; i < results.size(); i++)
+				assertEquals(bodies.get(i), results.get(i).get(5L, TimeUnit.SECONDS));
+		} finally {
+			clientExecutor.shutdownNow();
+		}
+	}
+
 	@Test
 	public void testExceptions() {
 		new HttpException("foo");
@@ -53,6 +53,8 @@ public class IuHttpTestCase {
 		try {
 			System.setProperty("iu.http.allowedUri", TEST_URI.toString());
 			System.setProperty("iu.http.allowedInsecureUri", TEST_INSECURE_URI.toString());
+			System.setProperty("iu.http.cacheSize", "1024");
+			System.setProperty("iu.http.metricsInterval", "PT1H");
 
 			http = mock(HttpClient.class);
 			try (final var mockHttpClient = mockStatic(HttpClient.class)) {
@@ -63,6 +65,8 @@ public class IuHttpTestCase {
 		} finally {
 			System.getProperties().remove("iu.http.allowedUri");
 			System.getProperties().remove("iu.http.allowedInsecureUri");
+			System.getProperties().remove("iu.http.cacheSize");
+			System.getProperties().remove("iu.http.metricsInterval");
 		}
 	}
 
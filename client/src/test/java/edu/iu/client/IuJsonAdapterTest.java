@@ -35,6 +35,7 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -46,12 +47,16 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayInputStream;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
+import java.net.URLClassLoader;
 import java.net.http.HttpResponse;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -652,6 +657,8 @@ public class IuJsonAdapterTest {
 		final var text = IuJson.string(value.get().toString());
 		assertEquals(text, adapter.toJson(value));
 		assertEquals(value, adapter.fromJson(text));
+		assertEquals(value, parse(adapter, text));
+		assertTrue(parse(adapter, JsonValue.NULL).isEmpty());
 	}
 
 	@Test
@@ -688,6 +695,8 @@ public class IuJsonAdapterTest {
 		final var text = IuJson.string(value.toString());
 		assertEquals(text, adapter.toJson(value));
 		assertEquals(value.toString(), adapter.fromJson(text).toString());
+		assertEquals(value.toString(), parse(adapter, text).toString());
+		assertNull(parse(adapter, JsonValue.NULL));
 	}
 
 	@Test
@@ -926,6 +935,88 @@ public class IuJsonAdapterTest {
 		assertNull(IuJsonAdapter.of(Set.class).fromJson(null));
 	}
 
+	@Test
+	public void testResolutionCache() throws NoSuchFieldException {
+		class A {
+			@SuppressWarnings("unused")
+			List<URI> a;
+			@SuppressWarnings("unused")
+			Map<String, TestEnum> b;
+			@SuppressWarnings("unused")
+			Map<TestEnum, String> c;
+			@SuppressWarnings("unused")
+			Map<TestEnum, TestEnum> d;
+		}
+		assertSame(IuJsonAdapter.of(URI.class), IuJsonAdapter.of(URI.class));
+		for (final var name : Set.of("a", "b", "c", "d")) {
+			final var type = A.class.getDeclaredField(name).getGenericType();
+			assertSame(IuJsonAdapter.of(type), IuJsonAdapter.of(type));
+		}
+		assertNotSame(IuJsonAdapter.of(List.class, IuJsonAdapter.of(URI.class)),
+				IuJsonAdapter.of(List.class, IuJsonAdapter.of(URI.class)));
+	}
+
+	@Test
+	public void testResolutionCacheUnrelatedLoaders() throws Exception {
+		final var location = new URL[] { Path.of("target", "test-classes").toUri().toURL() };
+		try (final var a = new URLClassLoader(location, null); //
+				final var b = new URLClassLoader(location, null)) {
+			final var ea = a.loadClass(TestEnum.class.getName());
+			final var eb = b.loadClass(TestEnum.class.getName());
+			final var type = new ParameterizedType() {
+				@Override
+				public Type getRawType() {
+					return Map.class;
+				}
+
+				@Override
+				public Type getOwnerType() {
+					return null;
+				}
+
+				@Override
+				public Type[] getActualTypeArguments() {
+					return new Type[] { ea, eb };
+				}
+			};
+			final var adapter = IuJsonAdapter.<Map<?, ?>>of(type);
+			assertNotSame(adapter, IuJsonAdapter.of(type));
+			assertEquals(IuJson.object().add("A", "B").build(),
+					adapter.toJson(Map.of(ea.getEnumConstants()[0], eb.getEnumConstants()[1])));
+		}
+	}
+
+	@Test
+	public void testStreamSingleAsArray() {
+		final var s = IuJson.string(IdGenerator.generateId());
+		assertEquals(Set.of(s.getString()), parse(IuJsonAdapter.of(Set.class), s));
+	}
+
+	@Test
+	public void testStreamTextFromNonString() {
+		final var adapter = IuJsonAdapter.of(String.class);
+		assertEquals("1,true", parse(adapter, IuJson.array().add(1).add(true).build()));
+		assertNull(parse(adapter, JsonValue.NULL));
+	}
+
+	@Test
+	public void testStreamObjectFromNonObject() {
+		assertNull(parse(IuJsonAdapter.of(Map.class), JsonValue.NULL));
+		assertThrows(ClassCastException.class, () -> parse(IuJsonAdapter.of(Map.class), JsonValue.TRUE));
+	}
+
+	@Test
+	public void testStreamBasic() {
+		final var value = IuJson.object() //
+				.add("a", IuJson.array().add(true).add(false).addNull().add(BigDecimal.ONE).add("b")) //
+				.add("c", IuJson.object().add("d", "e")) //
+				.build();
+		final var basic = IuJsonAdapter.basic();
+		assertEquals(basic.fromJson(value), parse(basic, value));
+		assertEquals(List.of(1, 2), parse(IuJsonAdapter.of(List.class, IuJsonAdapter.of(Integer.class)),
+				IuJson.array().add(1).add(2).build()));
+	}
+
 	private <T extends Number> void assertAdaptNumber(Class<T> c, Class<?> pc, Supplier<T> rand,
 			Function<JsonNumber, T> fromJson, Function<T, String> toString, T def) {
 		final var adapter = IuJsonAdapter.of(c);
@@ -997,8 +1088,20 @@ public class IuJsonAdapterTest {
 		assertEquals(controlArray.size(), arrayToCheck.size());
 		assertTrue(controlElements.containsAll(arrayToCheck));
 
-		final var a = factory.apply(controlValues);
-		final var b = adapter.fromJson(controlArray);
+		assertArrayEquals(factory.apply(controlValues), adapter.fromJson(controlArray));
+
+		// parser limits numeric values to 1100 characters
+		final var sample = new ArrayDeque<I>();
+		for (final var item : controlValues)
+			if (sample.size() < 16 //
+					&& itemAdapter.toJson(item).toString().length() < 1100)
+				sample.offer(item);
+		final var sampleArray = adapter.toJson(factory.apply(new ArrayDeque<>(sample)));
+		assertArrayEquals(factory.apply(sample), parse(adapter, sampleArray));
+		assertNull(parse(adapter, JsonValue.NULL));
+	}
+
+	private void assertArrayEquals(Object a, Object b) {
 		if (b instanceof Iterator)
 			assertTrue(IuIterable.remaindersAreEqual((Iterator<?>) a, (Iterator<?>) b));
 		else if (b instanceof Enumeration)
@@ -1039,6 +1142,11 @@ public class IuJsonAdapterTest {
 
 		assertEquals(object, adapter.toJson(m));
 		assertEquals(m, adapter.fromJson(object));
+		assertEquals(m, parse(adapter, object));
+	}
+
+	private <T> T parse(IuJsonAdapter<T> adapter, JsonValue value) {
+		return IuJson.parse(new ByteArrayInputStream(IuText.utf8(value.toString())), adapter);
 	}
 
 }
@@ -68,6 +68,14 @@ public class IuJsonTest {
 		assertNull(IuJson.parse((String) null));
 	}
 
+	@Test
+	public void testParseWithAdapter() {
+		final var serialized = "{\"a\":[true,false,null,1.5,\"b\"],\"c\":{}}";
+		final var parsed = IuJson.parse(new ByteArrayInputStream(serialized.getBytes()), IuJsonAdapter.basic());
+		assertEquals(IuJsonAdapter.basic().fromJson(IuJson.parse(serialized)), parsed);
+		assertNull(IuJson.parse(new ByteArrayInputStream("null".getBytes()), IuJsonAdapter.basic()));
+	}
+
 	@Test
 	public void testAddByValue() {
 		final var b = IuJson.PROVIDER.createObjectBuilder();
@@ -31,6 +31,8 @@
  */
 package edu.iu.client;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 
@@ -74,4 +76,9 @@ public class IuVaultTest {
 		vault.verify(() -> Vault.of(properties, valueAdapter));
 	}
 
+	@Test
+	public void testDefaultPrefetch() {
+		assertDoesNotThrow(mock(IuVault.class, CALLS_REAL_METHODS)::prefetch);
+	}
+
 }
@@ -33,14 +33,19 @@ package edu.iu.client;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -53,6 +58,9 @@ import java.net.http.HttpRequest.BodyPublisher;
 import java.net.http.HttpRequest.BodyPublishers;
 import java.net.http.HttpRequest.Builder;
 import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.LogManager;
@@ -72,6 +80,42 @@ public class RemoteInvocationHandlerTest extends IuHttpTestCase {
 		void b();
 
 		String echo(String message);
+
+		CompletableFuture<Void> bAsync();
+
+		CompletionStage<String> echoAsync(String message);
+
+		@SuppressWarnings("rawtypes")
+		CompletionStage raw();
+	}
+
+	private static class Handler extends RemoteInvocationHandler {
+		private final URI uri;
+		private final URI batchUri;
+
+		private Handler(URI uri, URI batchUri) {
+			this.uri = uri;
+			this.batchUri = batchUri;
+		}
+
+		@Override
+		protected void authorize(Builder requestBuilder) {
+			requestBuilder.header("Authorization", "Bearer " + uri);
+		}
+
+		@Override
+		protected URI uri(Method method) {
+			return URI.create(uri + "/" + method.getName());
+		}
+
+		@Override
+		protected URI batchUri() {
+			return batchUri;
+		}
+
+		private A proxy() {
+			return (A) Proxy.newProxyInstance(ClassLoader.getSystemClassLoader(), new Class<?>[] { A.class }, this);
+		}
 	}
 
 	private MockedStatic<IuHttp> mockIuHttp;
@@ -81,6 +125,7 @@ public class RemoteInvocationHandlerTest extends IuHttpTestCase {
 		LogManager.getLogManager().getLogger(Class.forName(RemoteInvocationHandler.class.getName()).getName())
 				.setLevel(Level.FINER);
 		mockIuHttp = mockStatic(IuHttp.class);
+		mockIuHttp.when(() -> IuHttp.unwrap(any())).thenCallRealMethod();
 	}
 
 	@AfterEach
@@ -114,7 +159,7 @@ public class RemoteInvocationHandlerTest extends IuHttpTestCase {
 			final var p = mock(BodyPublisher.class);
 			mockBodyPublishers.when(() -> BodyPublishers.ofString("[]")).thenReturn(p);
 
-			assertDoesNotThrow(a::b);
+			assertDoesNotThrow(() -> handler.batch(a::b));
 			mockIuHttp.verify(() -> IuHttp.send(eq(URI.create(uri + "/b")), argThat(c -> {
 				final var rb = mock(HttpRequest.Builder.class);
 				assertDoesNotThrow(() -> c.accept(rb));
@@ -269,4 +314,265 @@ public class RemoteInvocationHandlerTest extends IuHttpTestCase {
 		}
 	}
 
+	@Test
+	public void testAsyncCall() {
+		final var uri = URI.create(TEST_URI + "/" + IdGenerator.generateId());
+		final var handler = new Handler(uri, null);
+		final var a = handler.proxy();
+
+		final var message = IdGenerator.generateId();
+		mockIuHttp.when(() -> IuHttp.sendAsync(eq(URI.create(uri + "/echoAsync")), any(), eq(IuHttp.READ_JSON)))
+				.thenReturn(CompletableFuture.completedFuture(IuJson.string(message)));
+		mockIuHttp.when(() -> IuHttp.sendAsync(eq(URI.create(uri + "/raw")), any(), eq(IuHttp.READ_JSON)))
+				.thenReturn(CompletableFuture.completedFuture(IuJson.string(message)));
+		mockIuHttp.when(() -> IuHttp.sendAsync(eq(URI.create(uri + "/bAsync")), argThat(c -> {
+			final var rb = mock(HttpRequest.Builder.class);
+			assertDoesNotThrow(() -> c.accept(rb));
+			verify(rb).header("Authorization", "Bearer " + uri);
+			return true;
+		}), eq(IuHttp.NO_CONTENT))).thenReturn(CompletableFuture.completedFuture(null));
+
+		assertEquals(message, a.echoAsync(message).toCompletableFuture().join());
+		assertEquals(message, a.raw().toCompletableFuture().join());
+		assertNull(a.bAsync().join());
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testAsyncError() {
+		final var uri = URI.create(TEST_URI + "/" + IdGenerator.generateId());
+		final var handler = new Handler(uri, null);
+		final var a = handler.proxy();
+
+		final var errorMessage = IdGenerator.generateId();
+		final var resp = mock(HttpResponse.class);
+		when(resp.body()).thenReturn(new ByteArrayInputStream(handler.adapt(RemoteInvocationFailure.class)
+				.toJson(new ThrowableRemoteInvocationFailure(IdGenerator.generateId(), IdGenerator.generateId(),
+						new Exception(errorMessage)))
+				.toString().getBytes()));
+		final var ex = new HttpException(resp, IdGenerator.generateId());
+		mockIuHttp.when(() -> IuHttp.sendAsync(eq(URI.create(uri + "/bAsync")), any(), eq(IuHttp.NO_CONTENT)))
+				.thenReturn(CompletableFuture.failedFuture(new CompletionException(ex)));
+
+		final var error = assertInstanceOf(RemoteInvocationException.class,
+				assertThrows(CompletionException.class, () -> a.bAsync().join()).getCause());
+		assertEquals(errorMessage, error.getMessage());
+		assertSame(ex, error.getSuppressed()[0]);
+
+		final var other = new IllegalStateException();
+		mockIuHttp.when(() -> IuHttp.sendAsync(eq(URI.create(uri + "/echoAsync")), any(), eq(IuHttp.READ_JSON)))
+				.thenReturn(CompletableFuture.failedFuture(other));
+		assertSame(other, assertThrows(CompletionException.class,
+				() -> a.echoAsync(IdGenerator.generateId()).toCompletableFuture().join()).getCause());
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testBatch() throws Throwable {
+		final var uri = URI.create(TEST_URI + "/" + IdGenerator.generateId());
+		final var batchUri = URI.create(TEST_URI + "/" + IdGenerator.generateId());
+		final var handler = new Handler(uri, batchUri);
+		final var a = handler.proxy();
+
+		final var message = IdGenerator.generateId();
+		final var errorMessage = IdGenerator.generateId();
+		final var envelope = IuJson.array() //
+				.add(IuJson.object().add("uri", uri + "/echoAsync").add("args", IuJson.array().add(message))) //
+				.add(IuJson.object().add("uri", uri + "/bAsync").add("args", IuJson.array())) //
+				.add(IuJson.object().add("uri", uri + "/raw").add("args", IuJson.array())) //
+				.add(IuJson.object().add("uri", uri + "/echoAsync").add("args", IuJson.array().add(message))) //
+				.build().toString();
+		final var failure = handler.adapt(RemoteInvocationFailure.class).toJson(new ThrowableRemoteInvocationFailure(
+				IdGenerator.generateId(), IdGenerator.generateId(), new Exception(errorMessage)));
+
+		try (final var mockBodyPublishers = mockStatic(BodyPublishers.class)) {
+			final var p = mock(BodyPublisher.class);
+			mockBodyPublishers.when(() -> BodyPublishers.ofString(envelope)).thenReturn(p);
+			mockIuHttp.when(() -> IuHttp.sendAsync(eq(batchUri), argThat(c -> {
+				final var rb = mock(HttpRequest.Builder.class);
+				assertDoesNotThrow(() -> c.accept(rb));
+				verify(rb).header("Authorization", "Bearer " + uri);
+				verify(rb).header("Content-Type", "application/json");
+				verify(rb).POST(p);
+				return true;
+			}), eq(IuHttp.READ_JSON))).thenReturn(CompletableFuture.completedFuture(IuJson.array() //
+					.add(IuJson.object().add("result", message)) //
+					.add(IuJson.object()) //
+					.add(IuJson.object().add("error", failure)) //
+					.build()));
+
+			class Box {
+				CompletionStage<String> echo;
+				CompletableFuture<Void> b;
+				CompletionStage<?> raw;
+				CompletionStage<String> missing;
+			}
+			final var box = new Box();
+			handler.batch(() -> {
+				box.echo = a.echoAsync(message);
+				handler.batch(() -> box.b = a.bAsync());
+				box.raw = a.raw();
+				box.missing = a.echoAsync(message);
+				assertFalse(box.echo.toCompletableFuture().isDone());
+			});
+
+			assertEquals(message, box.echo.toCompletableFuture().join());
+			assertNull(box.b.join());
+			assertEquals(errorMessage, assertInstanceOf(RemoteInvocationException.class,
+					assertThrows(CompletionException.class, () -> box.raw.toCompletableFuture().join()).getCause())
+					.getMessage());
+			assertInstanceOf(IndexOutOfBoundsException.class,
+					assertThrows(CompletionException.class, () -> box.missing.toCompletableFuture().join())
+							.getCause());
+			mockIuHttp.verify(() -> IuHttp.sendAsync(eq(batchUri), any(), eq(IuHttp.READ_JSON)));
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testBatchError() throws Throwable {
+		final var uri = URI.create(TEST_URI + "/" + IdGenerator.generateId());
+		final var batchUri = URI.create(TEST_URI + "/" + IdGenerator.generateId());
+		final var handler = new Handler(uri, batchUri);
+		final var a = handler.proxy();
+
+		final var resp = mock(HttpResponse.class);
+		when(resp.body()).thenReturn(new ByteArrayInputStream("<!doctype html>".getBytes()));
+		final var ex = new HttpException(resp, IdGenerator.generateId());
+		mockIuHttp.when(() -> IuHttp.sendAsync(eq(batchUri), any(), eq(IuHttp.READ_JSON)))
+				.thenReturn(CompletableFuture.failedFuture(new CompletionException(ex)));
+
+		class Box {
+			CompletableFuture<Void> b1;
+			CompletableFuture<Void> b2;
+		}
+		final var box = new Box();
+		handler.batch(() -> {
+			box.b1 = a.bAsync();
+			box.b2 = a.bAsync();
+		});
+
+		final var error = assertInstanceOf(IllegalStateException.class,
+				assertThrows(CompletionException.class, box.b1::join).getCause());
+		assertSame(ex, error.getCause());
+		assertSame(error, assertThrows(CompletionException.class, box.b2::join).getCause());
+	}
+
+	@Test
+	public void testBatchInvalidResponse() throws Throwable {
+		final var uri = URI.create(TEST_URI + "/" + IdGenerator.generateId());
+		final var batchUri = URI.create(TEST_URI + "/" + IdGenerator.generateId());
+		final var handler = new Handler(uri, batchUri);
+		final var a = handler.proxy();
+
+		class Box {
+			CompletableFuture<Void> b1;
+			CompletableFuture<Void> b2;
+		}
+		final var box = new Box();
+
+		mockIuHttp.when(() -> IuHttp.sendAsync(eq(batchUri), any(), eq(IuHttp.READ_JSON)))
+				.thenReturn(CompletableFuture.completedFuture(IuJson.string(IdGenerator.generateId())));
+		handler.batch(() -> {
+			box.b1 = a.bAsync();
+			box.b2 = a.bAsync();
+		});
+		final var error = assertInstanceOf(ClassCastException.class,
+				assertThrows(CompletionException.class, box.b1::join).getCause());
+		assertSame(error, assertThrows(CompletionException.class, box.b2::join).getCause());
+
+		mockIuHttp.when(() -> IuHttp.sendAsync(eq(batchUri), any(), eq(IuHttp.READ_JSON)))
+				.thenReturn(CompletableFuture.completedFuture(null));
+		handler.batch(() -> {
+			box.b1 = a.bAsync();
+			box.b2 = a.bAsync();
+		});
+		assertEquals("Missing batch response", assertInstanceOf(NullPointerException.class,
+				assertThrows(CompletionException.class, box.b1::join).getCause()).getMessage());
+		assertInstanceOf(NullPointerException.class,
+				assertThrows(CompletionException.class, box.b2::join).getCause());
+	}
+
+	@Test
+	public void testBatchSendFailure() throws Throwable {
+		final var uri = URI.create(TEST_URI + "/" + IdGenerator.generateId());
+		final var batchUri = URI.create(TEST_URI + "/" + IdGenerator.generateId());
+		final var handler = new Handler(uri, batchUri);
+		final var a = handler.proxy();
+
+		final var ex = new IllegalArgumentException();
+		mockIuHttp.when(() -> IuHttp.sendAsync(eq(batchUri), any(), eq(IuHttp.READ_JSON))).thenThrow(ex);
+
+		class Box {
+			CompletableFuture<Void> b;
+		}
+		final var box = new Box();
+		final var scopeError = new IllegalStateException();
+		assertSame(scopeError, assertThrows(IllegalStateException.class, () -> handler.batch(() -> {
+			box.b = a.bAsync();
+			throw scopeError;
+		})));
+		assertSame(ex, assertThrows(CompletionException.class, box.b::join).getCause());
+	}
+
+	@Test
+	public void testBatchNotSupported() throws Throwable {
+		final var uri = URI.create(TEST_URI + "/" + IdGenerator.generateId());
+		final var handler = new Handler(uri, null);
+		final var a = handler.proxy();
+		mockIuHttp.when(() -> IuHttp.sendAsync(eq(URI.create(uri + "/bAsync")), any(), eq(IuHttp.NO_CONTENT)))
+				.thenReturn(CompletableFuture.completedFuture(null));
+
+		class Box {
+			CompletableFuture<Void> b;
+		}
+		final var box = new Box();
+		handler.batch(() -> {
+			box.b = a.bAsync();
+			assertTrue(box.b.isDone());
+		});
+		assertNull(box.b.join());
+	}
+
+	@Test
+	public void testBatchDisabledByPayloadOverride() throws Throwable {
+		final var uri = URI.create(TEST_URI + "/" + IdGenerator.generateId());
+		final var batchUri = URI.create(TEST_URI + "/" + IdGenerator.generateId());
+		final var body = IdGenerator.generateId();
+		class PayloadHandler extends Handler {
+			private PayloadHandler() {
+				super(uri, batchUri);
+			}
+
+			@Override
+			protected void payload(Builder requestBuilder, Method method, Object[] args) {
+				requestBuilder.POST(BodyPublishers.ofString(body));
+			}
+		}
+		final Handler handler = new PayloadHandler();
+		final var a = handler.proxy();
+		mockIuHttp.when(() -> IuHttp.sendAsync(eq(URI.create(uri + "/bAsync")), any(), eq(IuHttp.NO_CONTENT)))
+				.thenReturn(CompletableFuture.completedFuture(null));
+
+		class Box {
+			CompletableFuture<Void> b;
+		}
+		final var box = new Box();
+		handler.batch(() -> {
+			box.b = a.bAsync();
+			assertTrue(box.b.isDone());
+		});
+		assertNull(box.b.join());
+		mockIuHttp.verify(() -> IuHttp.sendAsync(eq(batchUri), any(), any()), never());
+	}
+
+	@Test
+	public void testEmptyBatch() throws Throwable {
+		final var handler = new Handler(URI.create(TEST_URI + "/" + IdGenerator.generateId()),
+				URI.create(TEST_URI + "/" + IdGenerator.generateId()));
+		handler.batch(() -> {
+		});
+		mockIuHttp.verifyNoInteractions();
+	}
+
 }
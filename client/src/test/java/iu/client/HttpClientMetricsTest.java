@@ -0,0 +1,240 @@
+/*
+ * Copyright © 2026 Indiana University
+ * All rights reserved.
+ *
+ * BSD 3-Clause License
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ * 
+ * - Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package iu.client;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.jupiter.api.Test;
+
+import edu.iu.IdGenerator;
+import edu.iu.IuListener;
+import edu.iu.IuObservableEvent;
+
+@SuppressWarnings("javadoc")
+public class HttpClientMetricsTest {
+
+	private static HttpRequest request(String uri, String body) {
+		final var request = mock(HttpRequest.class);
+		when(request.uri()).thenReturn(URI.create(uri));
+		if (body != null)
+			when(request.bodyPublisher()).thenReturn(Optional.of(BodyPublishers.ofString(body)));
+		return request;
+	}
+
+	private static List<HttpClientMetricsEvent> publish(HttpClientMetrics metrics) {
+		final List<HttpClientMetricsEvent> events = new ArrayList<>();
+		try (final var mockListener = mockStatic(IuListener.class)) {
+			mockListener.when(() -> IuListener.observe(any())).thenAnswer(a -> {
+				events.add(assertInstanceOf(HttpClientMetricsEvent.class, a.getArgument(0)));
+				return null;
+			});
+			metrics.publish();
+		}
+		return events;
+	}
+
+	@Test
+	public void testTemplate() {
+		assertEquals(URI.create("https://localhost"), HttpClientMetrics.template(URI.create("https://localhost")));
+		assertEquals(URI.create("https://localhost/"), HttpClientMetrics.template(URI.create("https://localhost/")));
+		assertEquals(URI.create("https://localhost/api/v1/users/*/roles"),
+				HttpClientMetrics.template(URI.create("https://localhost/api/v1/users/12345/roles?q=a")));
+		assertEquals(URI.create("https://localhost:8443/a/*/*/"), HttpClientMetrics
+				.template(URI.create("https://localhost:8443/a/" + IdGenerator.generateId() + "/ab12/")));
+		assertEquals(URI.create("test://null/a"), HttpClientMetrics.template(URI.create("test:/a")));
+		assertEquals(URI.create("test://null"), HttpClientMetrics.template(URI.create("test:a")));
+	}
+
+	@Test
+	public void testDisabled() {
+		final var metrics = new HttpClientMetrics(null);
+		final var sample = metrics.start(request("https://localhost/", "body"));
+		sample.bytesIn(10L);
+		sample.received(200);
+		sample.failed();
+		assertThrows(NullPointerException.class, metrics::publish);
+	}
+
+	@Test
+	public void testConfigureDisabled() {
+		assertThrows(NullPointerException.class, HttpClientMetrics.configure()::publish);
+	}
+
+	@Test
+	public void testRecordsStatusAndBytes() {
+		final var metrics = new HttpClientMetrics(Duration.ofHours(1L));
+
+		final var ok = metrics.start(request("https://localhost/users/1", "four"));
+		final var notFound = metrics.start(request("https://localhost/users/2", ""));
+		final var failed = metrics.start(request("https://localhost/users/3", null));
+		final var pending = metrics.start(request("https://localhost/users/4", null));
+		metrics.start(request("https://localhost/idle", null)).received(204);
+
+		ok.received(200);
+		ok.bytesIn(100L);
+		ok.bytesIn(0L);
+		ok.received(200);
+		ok.failed();
+		notFound.received(404);
+		failed.failed();
+		failed.received(200);
+
+		final var events = publish(metrics);
+		assertEquals(2, events.size());
+		final var users = events.stream().filter(a -> a.getUri().getPath().equals("/users/*")).findFirst().get();
+		assertEquals(URI.create("https://localhost/users/*"), users.getUri());
+		assertNotNull(users.getId());
+		assertEquals("http.client.metrics", users.getType());
+		assertEquals("snapshot", users.getAction());
+		assertTrue(!users.getStartTime().isAfter(users.getTime()));
+		assertEquals(3L, users.getRequests());
+		assertEquals(1L, users.getInFlight());
+		assertEquals(1L, users.getFailed());
+		assertEquals(4L, users.getBytesOut());
+		assertEquals(100L, users.getBytesIn());
+		assertEquals(Map.of(200, 1L, 404, 1L), users.getStatusCounts());
+
+		final var timeToResponse = users.getTimeToResponse();
+		assertNotSame(timeToResponse, users.getTimeToResponse());
+		assertEquals(HttpClientMetrics.BUCKETS.length + 1, timeToResponse.length);
+		var responses = 0L;
+		for (final var count : timeToResponse)
+			responses += count;
+		assertEquals(2L, responses);
+		assertArrayEquals(HttpClientMetrics.BUCKETS, users.getTimeToResponseBuckets());
+		assertTrue(users.toString().contains("statusCounts={200=1, 404=1}"), users::toString);
+
+		pending.received(503);
+		final var next = publish(metrics);
+		assertEquals(1, next.size());
+		final var pendingEvent = next.get(0);
+		assertEquals(users.getTime(), pendingEvent.getStartTime());
+		assertEquals(1L, pendingEvent.getRequests());
+		assertEquals(0L, pendingEvent.getInFlight());
+		assertEquals(0L, pendingEvent.getBytesOut());
+		assertEquals(Map.of(503, 1L), pendingEvent.getStatusCounts());
+
+		assertTrue(publish(metrics).isEmpty());
+	}
+
+	@Test
+	public void testToStringHistogram() {
+		final var timeToResponse = new LongAdder[HttpClientMetrics.BUCKETS.length + 1];
+		for (var i = 0; i < timeToResponse.length; i++) {
+			timeToResponse[i] = new LongAdder();
+			if (i % 6 == 0 //
+					|| i == HttpClientMetrics.BUCKETS.length)
+				timeToResponse[i].add(i + 1);
+		}
+		final var event = new HttpClientMetricsEvent(URI.create("https://localhost"), null, null, 0L, 0L, 0L, 0L,
+				Map.of(), timeToResponse);
+		assertTrue(event.toString().endsWith("timeToResponse={<=1ms=1, <=100ms=7, <=10000ms=13, >10000ms=14}]"),
+				event::toString);
+	}
+
+	private static String segment(int i) {
+		return new String(new char[] { (char) ('a' + i % 26), (char) ('a' + i / 26 % 26), (char) ('a' + i / 676) });
+	}
+
+	@Test
+	public void testTemplateOverflow() {
+		final var metrics = new HttpClientMetrics(Duration.ofHours(1L));
+		for (var i = 0; i < 1000; i++)
+			metrics.start(request("https://localhost/" + segment(i), null)).received(200);
+		metrics.start(request("https://localhost/" + segment(0), null)).received(200);
+		metrics.start(request("https://localhost/b", null)).received(200);
+		metrics.start(request("https://localhost/c", null)).received(200);
+
+		final var events = publish(metrics);
+		assertEquals(1001, events.size());
+		final var overflow = events.stream().filter(a -> a.getUri().getPath().equals("/**")).findFirst().get();
+		assertEquals(URI.create("https://localhost/**"), overflow.getUri());
+		assertEquals(2L, overflow.getRequests());
+		final var a0 = events.stream().filter(a -> a.getUri().getPath().equals("/" + segment(0))).findFirst().get();
+		assertEquals(2L, a0.getRequests());
+	}
+
+	@Test
+	public void testScheduledPublish() throws InterruptedException {
+		final var published = new CountDownLatch(1);
+		final var event = new AtomicReference<HttpClientMetricsEvent>();
+		final var thread = new AtomicReference<String>();
+		final var metrics = new HttpClientMetrics(Duration.ofMillis(10L), a -> {
+			final var snapshot = assertInstanceOf(HttpClientMetricsEvent.class, a);
+			if (snapshot.getRequests() > 0L //
+					&& event.compareAndSet(null, snapshot)) {
+				thread.set(Thread.currentThread().getName());
+				published.countDown();
+			}
+		});
+		metrics.start(request("https://localhost/users/1", null)).received(200);
+
+		assertTrue(published.await(5L, TimeUnit.SECONDS));
+		assertEquals("iu-http-metrics", thread.get());
+		final var snapshot = event.get();
+		assertEquals(URI.create("https://localhost/users/*"), snapshot.getUri());
+		assertEquals(1L, snapshot.getRequests());
+		assertEquals(0L, snapshot.getInFlight());
+		assertEquals(0L, snapshot.getFailed());
+		assertEquals(Map.of(200, 1L), snapshot.getStatusCounts());
+	}
+
+	@Test
+	public void testEventIsObservable() {
+		assertInstanceOf(IuObservableEvent.class, new HttpClientMetricsEvent(null, null, null, 0L, 0L, 0L, 0L,
+				Map.of(), new LongAdder[0]));
+	}
+
+}
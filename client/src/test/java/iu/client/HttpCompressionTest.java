@@ -0,0 +1,245 @@
+/*
+ * Copyright © 2026 Indiana University
+ * All rights reserved.
+ *
+ * BSD 3-Clause License
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ * 
+ * - Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package iu.client;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient.Version;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipException;
+
+import javax.net.ssl.SSLSession;
+
+import org.junit.jupiter.api.Test;
+
+import edu.iu.IdGenerator;
+import iu.client.HttpCompression.ByteCounts;
+
+@SuppressWarnings("javadoc")
+public class HttpCompressionTest {
+
+	private static byte[] data() {
+		final var sb = new StringBuilder();
+		for (var i = 0; i < 1000; i++)
+			sb.append(IdGenerator.generateId()).append(' ');
+		return sb.toString().getBytes();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static HttpResponse<InputStream> response(String contentEncoding, InputStream body) {
+		final var response = mock(HttpResponse.class);
+		final Map<String, List<String>> headers = contentEncoding == null ? Map.of()
+				: Map.of("Content-Encoding", List.of(contentEncoding), "Content-Length", List.of("1"), "ETag",
+						List.of("\"1\""));
+		when(response.headers()).thenReturn(HttpHeaders.of(headers, (a, b) -> true));
+		when(response.body()).thenReturn(body);
+		return response;
+	}
+
+	@Test
+	public void testGzipRoundTrip() throws IOException {
+		final var data = data();
+		final var gz = HttpCompression.gzip(data);
+		assertArrayEquals(data, new GZIPInputStream(new ByteArrayInputStream(gz)).readAllBytes());
+
+		final var response = response("gzip", new ByteArrayInputStream(gz));
+		final var request = mock(HttpRequest.class);
+		final var sslSession = Optional.of(mock(SSLSession.class));
+		final var uri = URI.create("https://example.com/");
+		when(response.statusCode()).thenReturn(200);
+		when(response.request()).thenReturn(request);
+		when(response.previousResponse()).thenReturn(Optional.empty());
+		when(response.sslSession()).thenReturn(sslSession);
+		when(response.uri()).thenReturn(uri);
+		when(response.version()).thenReturn(Version.HTTP_2);
+
+		final var byteCounts = mock(ByteCounts.class);
+		final var decoded = HttpCompression.decode(response, byteCounts);
+		assertNotSame(response, decoded);
+		assertEquals(200, decoded.statusCode());
+		assertSame(request, decoded.request());
+		assertFalse(decoded.previousResponse().isPresent());
+		assertSame(sslSession, decoded.sslSession());
+		assertSame(uri, decoded.uri());
+		assertEquals(Version.HTTP_2, decoded.version());
+		assertEquals(Map.of("ETag", List.of("\"1\"")), decoded.headers().map());
+
+		try (final var in = decoded.body()) {
+			assertArrayEquals(data, in.readAllBytes());
+			assertEquals(-1, in.read());
+		}
+		decoded.body().close();
+		verify(byteCounts).accept(gz.length, data.length);
+	}
+
+	@Test
+	public void testGzipHeaderFlags() throws IOException {
+		final var data = data();
+		final var out = new ByteArrayOutputStream();
+		out.write(new byte[] { 0x1f, (byte) 0x8b, 8, 0x1e, 0, 0, 0, 0, 0, 3 });
+		out.write(new byte[] { 3, 0, 1, 2, 3 }); // FEXTRA
+		out.write("name\0".getBytes()); // FNAME
+		out.write("comment\0".getBytes()); // FCOMMENT
+		final var headerCrc = new CRC32();
+		headerCrc.update(out.toByteArray());
+		out.write(new byte[] { (byte) headerCrc.getValue(), (byte) (headerCrc.getValue() >>> 8) }); // FHCRC
+		final var deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+		try (final var deflated = new DeflaterOutputStream(out, deflater)) {
+			deflated.write(data);
+			deflated.finish();
+			final var crc = new CRC32();
+			crc.update(data);
+			final var crcValue = (int) crc.getValue();
+			out.write(new byte[] { (byte) crcValue, (byte) (crcValue >>> 8), (byte) (crcValue >>> 16),
+					(byte) (crcValue >>> 24), (byte) data.length, (byte) (data.length >>> 8),
+					(byte) (data.length >>> 16), (byte) (data.length >>> 24) });
+		} finally {
+			deflater.end();
+		}
+		final var gz = out.toByteArray();
+		assertArrayEquals(data, new GZIPInputStream(new ByteArrayInputStream(gz)).readAllBytes());
+
+		// trickle one byte at a time, so the trailer is read from the stream
+		final var trickle = new ByteArrayInputStream(gz) {
+			@Override
+			public synchronized int read(byte[] b, int off, int len) {
+				return super.read(b, off, Math.min(len, 1));
+			}
+		};
+		final var byteCounts = mock(ByteCounts.class);
+		try (final var in = HttpCompression.decode(response("x-gzip", trickle), byteCounts).body()) {
+			assertArrayEquals(data, in.readAllBytes());
+		}
+		verify(byteCounts).accept(gz.length, data.length);
+	}
+
+	@Test
+	public void testDeflate() throws IOException {
+		final var data = data();
+		final var out = new ByteArrayOutputStream();
+		try (final var deflated = new DeflaterOutputStream(out)) {
+			deflated.write(data);
+		}
+		final var zlib = out.toByteArray();
+
+		final var byteCounts = mock(ByteCounts.class);
+		try (final var in = HttpCompression.decode(response(" Deflate ", new ByteArrayInputStream(zlib)), byteCounts)
+				.body()) {
+			assertArrayEquals(data, in.readAllBytes());
+		}
+		verify(byteCounts).accept(zlib.length, data.length);
+	}
+
+	@Test
+	public void testNotEncoded() {
+		final var byteCounts = mock(ByteCounts.class);
+		final var response = response(null, null);
+		assertSame(response, HttpCompression.decode(response, byteCounts));
+
+		final var brotli = response("br", null);
+		assertSame(brotli, HttpCompression.decode(brotli, byteCounts));
+	}
+
+	@Test
+	public void testNotGzip() throws IOException {
+		for (final var header : List.of(new byte[] { 0 }, new byte[] { 0x1f, 0 }, new byte[] { 0x1f, (byte) 0x8b, 0 }))
+			try (final var in = HttpCompression.decode(response("gzip", new ByteArrayInputStream(header)),
+					mock(ByteCounts.class)).body()) {
+				assertEquals("Not in GZIP format", assertThrows(ZipException.class, in::read).getMessage());
+			}
+	}
+
+	@Test
+	public void testTruncated() throws IOException {
+		final var gz = HttpCompression.gzip(data());
+		for (final var length : new int[] { 5, gz.length - 4 }) {
+			final var truncated = new byte[length];
+			System.arraycopy(gz, 0, truncated, 0, length);
+			try (final var in = HttpCompression.decode(response("gzip", new ByteArrayInputStream(truncated)),
+					mock(ByteCounts.class)).body()) {
+				assertThrows(EOFException.class, in::readAllBytes);
+			}
+		}
+	}
+
+	@Test
+	public void testCorruptTrailer() throws IOException {
+		final var data = data();
+		for (final var offset : new int[] { 8, 4 }) {
+			final var gz = HttpCompression.gzip(data);
+			gz[gz.length - offset]++;
+			try (final var in = HttpCompression.decode(response("gzip", new ByteArrayInputStream(gz)),
+					mock(ByteCounts.class)).body()) {
+				assertEquals("Corrupt GZIP trailer", assertThrows(ZipException.class, in::readAllBytes).getMessage());
+			}
+		}
+	}
+
+	@Test
+	public void testPoolOverflow() throws IOException {
+		final var gz = HttpCompression.gzip(data());
+		final var byteCounts = mock(ByteCounts.class);
+		final List<InputStream> open = new ArrayList<>();
+		for (var i = 0; i < 20; i++)
+			open.add(HttpCompression.decode(response("gzip", new ByteArrayInputStream(gz)), byteCounts).body());
+		for (final var in : open)
+			assertDoesNotThrow(in::close);
+		verify(byteCounts, times(20)).accept(0L, 0L);
+	}
+
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright © 2026 Indiana University
+ * All rights reserved.
+ *
+ * BSD 3-Clause License
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ * 
+ * - Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package iu.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpClient.Redirect;
+import java.net.http.HttpClient.Version;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import edu.iu.IdGenerator;
+
+@SuppressWarnings("javadoc")
+public class HttpDestinationTest {
+
+	@AfterEach
+	public void teardown() {
+		System.getProperties().keySet().removeIf(a -> a.toString().startsWith("iu.http.destination"));
+	}
+
+	@Test
+	public void testNotConfigured() {
+		assertTrue(HttpDestination.configure().isEmpty());
+	}
+
+	@Test
+	public void testMissingUri() {
+		System.setProperty("iu.http.destinations", "foo");
+		assertThrows(NullPointerException.class, HttpDestination::configure);
+	}
+
+	@Test
+	public void testDefaults() {
+		final var name = IdGenerator.generateId().replaceAll("[^\\w]", "_");
+		final var uri = URI.create("https://" + IdGenerator.generateId() + "/");
+		System.setProperty("iu.http.destinations", name);
+		System.setProperty("iu.http.destination." + name + ".uri", uri.toString());
+
+		final var builder = mock(HttpClient.Builder.class);
+		final var client = mock(HttpClient.class);
+		when(builder.build()).thenReturn(client);
+		try (final var mockHttpClient = mockStatic(HttpClient.class)) {
+			mockHttpClient.when(() -> HttpClient.newBuilder()).thenReturn(builder);
+			final var destinations = HttpDestination.configure();
+			assertEquals(1, destinations.size());
+			final var destination = destinations.iterator().next();
+			assertEquals(name, destination.getName());
+			assertEquals(uri, destination.getUri());
+			assertSame(client, destination.getClient());
+			assertEquals("HttpDestination [name=" + name + ", uri=" + uri + "]", destination.toString());
+		}
+		verify(builder, never()).version(any());
+		verify(builder, never()).connectTimeout(any());
+		verify(builder, never()).followRedirects(any());
+		verify(builder, never()).executor(any());
+	}
+
+	@Test
+	public void testTuned() throws Exception {
+		System.setProperty("iu.http.destinations", "a, b");
+		System.setProperty("iu.http.destination.a.uri", "https://a.example.edu/");
+		System.setProperty("iu.http.destination.a.version", "HTTP_2");
+		System.setProperty("iu.http.destination.a.connectTimeout", "PT5S");
+		System.setProperty("iu.http.destination.a.followRedirects", "NORMAL");
+		System.setProperty("iu.http.destination.a.threads", "2");
+		System.setProperty("iu.http.destination.b.uri", "https://b.example.edu/");
+
+		final var builder = mock(HttpClient.Builder.class);
+		try (final var mockHttpClient = mockStatic(HttpClient.class)) {
+			mockHttpClient.when(() -> HttpClient.newBuilder()).thenReturn(builder);
+			assertEquals(2, HttpDestination.configure().size());
+		}
+		verify(builder).version(Version.HTTP_2);
+		verify(builder).connectTimeout(Duration.ofSeconds(5L));
+		verify(builder).followRedirects(Redirect.NORMAL);
+		verify(builder).executor(any(Executor.class));
+	}
+
+	@Test
+	public void testExecutorThreads() throws Exception {
+		System.setProperty("iu.http.destinations", "a");
+		System.setProperty("iu.http.destination.a.uri", "https://a.example.edu/");
+		System.setProperty("iu.http.destination.a.threads", "1");
+
+		final var builder = mock(HttpClient.Builder.class);
+		class Box {
+			ExecutorService exec;
+		}
+		final var box = new Box();
+		when(builder.executor(any())).then(a -> {
+			box.exec = a.getArgument(0);
+			return builder;
+		});
+		try (final var mockHttpClient = mockStatic(HttpClient.class)) {
+			mockHttpClient.when(() -> HttpClient.newBuilder()).thenReturn(builder);
+			HttpDestination.configure();
+		}
+
+		try {
+			final var thread = box.exec.submit(Thread::currentThread).get();
+			assertEquals("iu-http-a/1", thread.getName());
+			assertTrue(thread.isDaemon());
+		} finally {
+			box.exec.shutdown();
+		}
+	}
+
+	@Test
+	public void testSelect() {
+		System.setProperty("iu.http.destinations", "a,ab");
+		System.setProperty("iu.http.destination.a.uri", "https://a.example.edu/");
+		System.setProperty("iu.http.destination.ab.uri", "https://a.example.edu/b/");
+
+		final var builder = mock(HttpClient.Builder.class);
+		final var a = mock(HttpClient.class);
+		final var ab = mock(HttpClient.class);
+		when(builder.build()).thenReturn(a, ab);
+		final List<HttpDestination> destinations;
+		try (final var mockHttpClient = mockStatic(HttpClient.class)) {
+			mockHttpClient.when(() -> HttpClient.newBuilder()).thenReturn(builder);
+			destinations = List.copyOf(HttpDestination.configure());
+		}
+
+		final var defaultClient = mock(HttpClient.class);
+		assertSame(a, HttpDestination.select(destinations, URI.create("https://a.example.edu/foo"), defaultClient));
+		assertSame(ab,
+				HttpDestination.select(destinations, URI.create("https://a.example.edu/b/foo"), defaultClient));
+		assertSame(ab, HttpDestination.select(List.of(destinations.get(1), destinations.get(0)),
+				URI.create("https://a.example.edu/b/foo"), defaultClient));
+		assertSame(defaultClient,
+				HttpDestination.select(destinations, URI.create("https://c.example.edu/"), defaultClient));
+	}
+
+}
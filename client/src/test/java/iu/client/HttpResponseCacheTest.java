@@ -0,0 +1,315 @@
+/*
+ * Copyright © 2026 Indiana University
+ * All rights reserved.
+ *
+ * BSD 3-Clause License
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ * 
+ * - Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package iu.client;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient.Version;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import edu.iu.IdGenerator;
+import edu.iu.IuStream;
+import edu.iu.IuText;
+import edu.iu.UnsafeConsumer;
+
+@SuppressWarnings("javadoc")
+public class HttpResponseCacheTest {
+
+	private static final URI URI1 = URI.create("https://localhost/" + IdGenerator.generateId());
+	private static final URI URI2 = URI.create("https://localhost/" + IdGenerator.generateId());
+
+	private static String httpDate(Instant instant) {
+		return DateTimeFormatter.RFC_1123_DATE_TIME.format(instant.atOffset(ZoneOffset.UTC));
+	}
+
+	private static HttpHeaders headers(String... nameValuePairs) {
+		final Map<String, List<String>> map = new LinkedHashMap<>();
+		for (var i = 0; i < nameValuePairs.length; i += 2)
+			map.computeIfAbsent(nameValuePairs[i], a -> new ArrayList<>()).add(nameValuePairs[i + 1]);
+		return HttpHeaders.of(map, (a, b) -> true);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static HttpResponse<InputStream> response(int status, String body, String... headers) {
+		final var response = mock(HttpResponse.class);
+		when(response.statusCode()).thenReturn(status);
+		when(response.headers()).thenReturn(headers(headers));
+		when(response.body()).thenReturn(new ByteArrayInputStream(IuText.utf8(body)));
+		when(response.uri()).thenReturn(URI1);
+		when(response.version()).thenReturn(Version.HTTP_1_1);
+		return response;
+	}
+
+	private static class Sender {
+		private final List<HttpResponse<InputStream>> responses = new ArrayList<>();
+		private final List<UnsafeConsumer<HttpRequest.Builder>> validators = new ArrayList<>();
+
+		private HttpResponse<InputStream> send(UnsafeConsumer<HttpRequest.Builder> validator) {
+			validators.add(validator);
+			return responses.remove(0);
+		}
+	}
+
+	private static String read(HttpResponse<InputStream> response) throws Exception {
+		return IuText.utf8(IuStream.read(response.body()));
+	}
+
+	@Test
+	public void testConfigure() {
+		assertNull(HttpResponseCache.configure());
+		System.setProperty("iu.http.cacheSize", "1024");
+		try {
+			assertEquals(0L, HttpResponseCache.configure().size());
+		} finally {
+			System.getProperties().remove("iu.http.cacheSize");
+		}
+		assertThrows(IllegalArgumentException.class, () -> new HttpResponseCache(0L));
+	}
+
+	@Test
+	public void testFreshHit() throws Throwable {
+		final var cache = new HttpResponseCache(1024L);
+		final var sender = new Sender();
+		final var body = IdGenerator.generateId();
+		sender.responses.add(response(200, body, "Cache-Control", "public, max-age=60"));
+
+		final var first = cache.get(URI1, sender::send);
+		assertEquals(body, read(first));
+		assertEquals(200, first.statusCode());
+		assertEquals(URI1, first.uri());
+		assertEquals(Version.HTTP_1_1, first.version());
+		assertEquals(Optional.empty(), first.previousResponse());
+		assertEquals(Optional.empty(), first.sslSession());
+		assertNull(first.request());
+
+		final var second = cache.get(URI1, sender::send);
+		assertSame(first, second);
+		assertEquals(body, read(second));
+		assertEquals(1, sender.validators.size());
+		assertNull(sender.validators.get(0));
+		assertEquals(body.length(), cache.size());
+
+		cache.clear();
+		assertEquals(0L, cache.size());
+	}
+
+	@Test
+	public void testRevalidate() throws Throwable {
+		final var cache = new HttpResponseCache(1024L);
+		final var sender = new Sender();
+		final var body = IdGenerator.generateId();
+		final var etag = "\"" + IdGenerator.generateId() + "\"";
+		final var lastModified = httpDate(Instant.now().minusSeconds(3600L));
+		sender.responses.add(response(200, body, "Cache-Control", "no-cache", "ETag", etag, "Last-Modified",
+				lastModified, "Content-Length", Integer.toString(body.length())));
+		final var notModified = response(304, "", "Cache-Control", "max-age=60", "Content-Length", "0");
+		final var notModifiedBody = mock(InputStream.class);
+		when(notModified.body()).thenReturn(notModifiedBody);
+		sender.responses.add(notModified);
+
+		assertEquals(body, read(cache.get(URI1, sender::send)));
+		final var revalidated = cache.get(URI1, sender::send);
+		assertEquals(body, read(revalidated));
+		assertEquals("max-age=60", revalidated.headers().firstValue("Cache-Control").get());
+		assertEquals(Integer.toString(body.length()), revalidated.headers().firstValue("Content-Length").get());
+		verify(notModifiedBody).close();
+
+		// fresh after revalidation
+		assertSame(revalidated, cache.get(URI1, sender::send));
+		assertEquals(2, sender.validators.size());
+
+		final var rb = mock(HttpRequest.Builder.class);
+		sender.validators.get(1).accept(rb);
+		verify(rb).header("If-None-Match", etag);
+		verify(rb).header("If-Modified-Since", lastModified);
+	}
+
+	@Test
+	public void testStaleWithoutValidators() throws Throwable {
+		final var cache = new HttpResponseCache(1024L);
+		final var sender = new Sender();
+		sender.responses.add(response(200, "a", "Cache-Control", "max-age=0", "Expires", "0"));
+		final var b = response(200, "b", "Expires", "0");
+		sender.responses.add(b);
+		sender.responses.add(response(200, "c", "Date", httpDate(Instant.now()), "Age", "1", "Cache-Control",
+				"max-age=1"));
+		sender.responses.add(response(200, "d"));
+
+		assertEquals("a", read(cache.get(URI1, sender::send)));
+		assertSame(b, cache.get(URI1, sender::send));
+		assertEquals("c", read(cache.get(URI1, sender::send)));
+		assertEquals("d", read(cache.get(URI1, sender::send)));
+		assertNull(sender.validators.get(1));
+		assertEquals(0L, cache.size());
+	}
+
+	@Test
+	public void testNotStored() throws Throwable {
+		final var cache = new HttpResponseCache(1024L);
+		final var sender = new Sender();
+		sender.responses.add(response(200, "a", "Cache-Control", "no-cache", "ETag", "\"a\""));
+		sender.responses.add(response(200, "b", "Cache-Control", "no-store"));
+		final var notFound = response(404, "c", "Cache-Control", "max-age=60");
+		sender.responses.add(notFound);
+		sender.responses.add(response(200, "d", "Cache-Control", "private, max-age=60"));
+		sender.responses.add(response(200, "e", "Cache-Control", "max-age=60", "Vary", "*"));
+
+		assertEquals("a", read(cache.get(URI1, sender::send)));
+		assertEquals(1L, cache.size());
+		assertEquals("b", read(cache.get(URI1, sender::send)));
+		assertEquals(0L, cache.size());
+		assertSame(notFound, cache.get(URI1, sender::send));
+		assertEquals("d", read(cache.get(URI1, sender::send)));
+		assertEquals("e", read(cache.get(URI1, sender::send)));
+		assertEquals(0L, cache.size());
+	}
+
+	@Test
+	public void testEviction() throws Throwable {
+		final var uri3 = URI.create("https://localhost/" + IdGenerator.generateId());
+		final var cache = new HttpResponseCache(4L);
+		final var sender = new Sender();
+		sender.responses.add(response(200, "abc", "Cache-Control", "max-age=60"));
+		sender.responses.add(response(200, "de", "Cache-Control", "max-age=60"));
+		sender.responses.add(response(200, "fghij", "Cache-Control", "max-age=60"));
+		sender.responses.add(response(200, "abc", "Cache-Control", "max-age=60"));
+
+		cache.get(URI1, sender::send);
+		assertEquals(3L, cache.size());
+		cache.get(URI2, sender::send);
+		assertEquals(2L, cache.size());
+
+		// larger than the cache, returned but not stored
+		assertEquals("fghij", read(cache.get(uri3, sender::send)));
+		assertEquals(2L, cache.size());
+
+		final var abc = cache.get(URI1, sender::send);
+		assertSame(abc, cache.get(URI1, sender::send));
+		assertTrue(sender.responses.isEmpty());
+		assertEquals(3L, cache.size());
+	}
+
+	@Test
+	public void testGetAsync() throws Throwable {
+		final var cache = new HttpResponseCache(1024L);
+		final var sender = new Sender();
+		sender.responses.add(response(200, "a", "Cache-Control", "max-age=60"));
+
+		final List<Runnable> tasks = new ArrayList<>();
+		final var future = cache.getAsync(URI1, v -> CompletableFuture.completedFuture(sender.send(v)), tasks::add);
+		assertFalse(future.isDone());
+		assertEquals(1, tasks.size());
+		assertEquals(0L, cache.size());
+		tasks.get(0).run();
+
+		final var first = future.join();
+		assertEquals("a", read(first));
+		assertSame(first, cache.getAsync(URI1, v -> CompletableFuture.failedFuture(new AssertionError()), a -> {
+			throw new AssertionError();
+		}).join());
+	}
+
+	@Test
+	public void testCacheControl() {
+		final var directives = HttpResponseCache
+				.cacheControl(headers("Cache-Control", "Public, max-age=\"5\"", "Cache-Control", "s-maxage=10,,x=\""));
+		assertEquals(Map.of("public", "", "max-age", "5", "s-maxage", "10", "x", "\""), directives);
+	}
+
+	@Test
+	public void testFreshnessLifetime() {
+		final var now = Instant.now();
+		assertEquals(5000L, HttpResponseCache.freshnessLifetime(headers("Cache-Control", "max-age=5")));
+		assertEquals(10000L,
+				HttpResponseCache.freshnessLifetime(headers("Cache-Control", "max-age=5, s-maxage=10")));
+		assertEquals(0L, HttpResponseCache.freshnessLifetime(headers("Cache-Control", "max-age=-5")));
+		assertEquals(0L, HttpResponseCache.freshnessLifetime(headers("Cache-Control", "max-age=invalid")));
+		assertEquals(0L, HttpResponseCache.freshnessLifetime(headers("Cache-Control", "no-cache, max-age=5")));
+		assertEquals(60000L, HttpResponseCache.freshnessLifetime(
+				headers("Date", httpDate(now), "Expires", httpDate(now.plusSeconds(60L)))));
+		assertTrue(HttpResponseCache.freshnessLifetime(headers("Expires", httpDate(now.plusSeconds(60L)))) > 58000L);
+		assertEquals(0L, HttpResponseCache.freshnessLifetime(headers("Expires", "0")));
+		assertEquals(360000L, HttpResponseCache.freshnessLifetime(
+				headers("Date", httpDate(now), "Last-Modified", httpDate(now.minusSeconds(3600L)))));
+		assertEquals(Duration.ofDays(1L).toMillis(), HttpResponseCache.freshnessLifetime(
+				headers("Date", httpDate(now), "Last-Modified", httpDate(now.minus(Duration.ofDays(30L))))));
+		assertEquals(0L,
+				HttpResponseCache.freshnessLifetime(headers("Last-Modified", httpDate(now.minusSeconds(3600L)))));
+		assertEquals(0L, HttpResponseCache.freshnessLifetime(headers()));
+	}
+
+	@Test
+	public void testAge() throws Throwable {
+		final var cache = new HttpResponseCache(1024L);
+		final var sender = new Sender();
+		sender.responses.add(response(200, "a", "Cache-Control", "max-age=60", "Age", "120"));
+		sender.responses.add(response(200, "b", "Cache-Control", "max-age=60", "Date",
+				httpDate(Instant.now().minusSeconds(120L))));
+		sender.responses.add(response(200, "c", "Cache-Control", "max-age=60"));
+
+		final var a = cache.get(URI1, sender::send);
+		final var b = cache.get(URI1, sender::send);
+		assertNotSame(a, b);
+		final var c = cache.get(URI1, sender::send);
+		assertNotSame(b, c);
+		assertSame(c, cache.get(URI1, sender::send));
+		assertArrayEquals(IuText.utf8("c"), IuStream.read(c.body()));
+	}
+
+}
@@ -155,4 +155,22 @@ public class IuHttpClientEventTest {
 		assertTrue(!receivedEvent.getTime().isBefore(startTime));
 	}
 
+	@Test
+	public void testDecodedRecordsByteCounts() {
+		final var receivedEvent = new IuHttpClientEvent(URI.create("https://example.com/")).received(200);
+		assertEquals(0L, receivedEvent.getCompressedBytes());
+		assertEquals(0L, receivedEvent.getUncompressedBytes());
+
+		final var decodedEvent = receivedEvent.decoded(10L, 100L);
+		assertEquals(receivedEvent.getId(), decodedEvent.getId());
+		assertEquals(receivedEvent.getStartTime(), decodedEvent.getStartTime());
+		assertEquals(receivedEvent.getTime(), decodedEvent.getTime());
+		assertEquals(receivedEvent.getUri(), decodedEvent.getUri());
+		assertEquals(receivedEvent.getContext(), decodedEvent.getContext());
+		assertEquals("receive 200", decodedEvent.getAction());
+		assertEquals(10L, decodedEvent.getCompressedBytes());
+		assertEquals(100L, decodedEvent.getUncompressedBytes());
+		assertTrue(decodedEvent.toString().endsWith(", compressedBytes=10, uncompressedBytes=100]"));
+	}
+
 }
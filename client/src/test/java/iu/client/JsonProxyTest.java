@@ -70,6 +70,10 @@ public class JsonProxyTest {
 		default String getBar() {
 			return "baz";
 		}
+
+		static String getStatic() {
+			return "not a property";
+		}
 		
 		boolean equals(String foo);
 		
@@ -89,6 +93,7 @@ public class JsonProxyTest {
 		final var data3 = IuJson.wrap(IuJson.object().add("foo", "baz").build(), JsonBackedInterface.class);
 		assertEquals("bar", data.getFoo());
 		assertEquals(foobar.toString(), IuJson.parse(data.toString()).toString());
+		assertSame(data.toString(), data.toString());
 		assertEquals(foobar.hashCode(), data.hashCode());
 		assertNotEquals(data, data2);
 		assertNotEquals(data, null);
@@ -37,6 +37,9 @@ import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.Mockito.mockStatic;
 
 import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -138,4 +141,32 @@ public class JsonSerializerTest {
 				JsonSerializer.serialize(B.class, bean, IuJsonPropertyNameFormat.IDENTITY, IuJsonAdapter::of));
 	}
 
+	@Test
+	public void testSerializerResolvesAdaptersOnce() {
+		final List<Type> resolved = new ArrayList<>();
+		final var serializer = JsonSerializer.serializer(A.class, IuJsonPropertyNameFormat.UPPER_CASE_WITH_UNDERSCORES,
+				t -> {
+					resolved.add(t);
+					return IuJsonAdapter.of(t);
+				});
+
+		for (var i = 0; i < 3; i++) {
+			final String foo = IdGenerator.generateId();
+			final String bar = IdGenerator.generateId();
+			final var bean = new A() {
+				@Override
+				public String getFoo() {
+					return foo;
+				}
+
+				@Override
+				public String getBar() {
+					return bar;
+				}
+			};
+			assertEquals(IuJson.object().add("BAR", bar).add("FOO", foo).build(), serializer.apply(bean));
+		}
+		assertEquals(List.of(String.class, String.class), resolved);
+	}
+
 }
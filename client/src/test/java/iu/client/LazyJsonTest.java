@@ -0,0 +1,211 @@
+/*
+ * Copyright © 2026 Indiana University
+ * All rights reserved.
+ *
+ * BSD 3-Clause License
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ * 
+ * - Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package iu.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import edu.iu.client.IuJson;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonException;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import jakarta.json.JsonValue.ValueType;
+
+@SuppressWarnings("javadoc")
+public class LazyJsonTest {
+
+	private static JsonValue parse(String serialized) {
+		return LazyJson.parse(serialized.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void testScalars() {
+		assertSame(JsonValue.TRUE, parse(" true "));
+		assertSame(JsonValue.FALSE, parse("false"));
+		assertSame(JsonValue.NULL, parse("\tnull\r\n"));
+		assertEquals(IuJson.parse("-1.5e3"), parse("-1.5e3"));
+		assertEquals(IuJson.number(42), parse("42"));
+		assertEquals(IuJson.string("abc"), parse("\"abc\""));
+		assertEquals(IuJson.string("é☃"), parse("\"é☃\""));
+		assertEquals(IuJson.string("a\n\"b\"\\A"), parse("\"a\\n\\\"b\\\"\\\\\\u0041\""));
+	}
+
+	@Test
+	public void testMalformed() {
+		for (final var malformed : List.of("", "   ", "x", "tru", "truex", "1.2.3", "-", "\"abc", "\"abc\\\"", "{",
+				"{\"a\"", "{\"a\" 1}", "{\"a\":", "{\"a\":1 \"b\":2}", "{1:2}", "{\"a\":1,}", "[1 2]", "[,]", "[1,",
+				"[{\"a\":\"]}\"]", "[[1")) {
+			assertThrows(JsonException.class, () -> {
+				final var value = parse(malformed);
+				if (value instanceof JsonObject)
+					((JsonObject) value).size();
+				else if (value instanceof JsonArray)
+					((JsonArray) value).size();
+			}, malformed);
+		}
+	}
+
+	@Test
+	public void testTrailingContent() {
+		for (final var trailing : List.of("true false", "1 2", "\"a\"\"b\"", "null,", "{}x", "{\"a\":1} {}",
+				"[1]]", "[] \t\n x")) {
+			assertThrows(JsonException.class, () -> parse(trailing), trailing);
+		}
+		assertEquals("Malformed JSON at offset 8",
+				assertThrows(JsonException.class, () -> parse("{\"a\":1} {}")).getMessage());
+		assertEquals(IuJson.array().add(1).build(), parse(" [1] \r\n"));
+	}
+
+	@Test
+	public void testObject() {
+		final var serialized = "{ \"a\" : \"}{\", \"b\":[1,{\"c\":\"]\\\"\"},[]], \"d\" : {}, \"e\":true,\"f\":false,"
+				+ "\"g\":null, \"h\":12, \"a\":\"dup\" }";
+		final var o = assertInstanceOf(JsonObject.class, parse(serialized));
+		assertEquals(ValueType.OBJECT, o.getValueType());
+		assertEquals("}{", o.getString("a"));
+		assertSame(o.get("a"), o.get("a"));
+		assertNull(o.get(1));
+		assertNull(o.get("x"));
+		assertTrue(o.containsKey("h"));
+		assertFalse(o.containsKey("x"));
+		assertEquals(7, o.size());
+
+		final var b = o.getJsonArray("b");
+		assertEquals(3, b.size());
+		assertEquals("]\"", b.getJsonObject(1).getString("c"));
+		assertTrue(b.getJsonArray(2).isEmpty());
+		assertTrue(o.getJsonObject("d").isEmpty());
+		assertEquals(12, o.getJsonNumber("h").intValue());
+		assertEquals("}{", o.getJsonString("a").getString());
+		assertEquals("}{", o.getString("a", "x"));
+		assertEquals("x", o.getString("h", "x"));
+		assertEquals(12, o.getInt("h"));
+		assertEquals(12, o.getInt("h", 0));
+		assertEquals(0, o.getInt("a", 0));
+		assertTrue(o.getBoolean("e"));
+		assertFalse(o.getBoolean("f"));
+		assertThrows(ClassCastException.class, () -> o.getBoolean("h"));
+		assertThrows(NullPointerException.class, () -> o.getBoolean("x"));
+		assertTrue(o.getBoolean("e", false));
+		assertFalse(o.getBoolean("f", true));
+		assertTrue(o.getBoolean("h", true));
+		assertTrue(o.isNull("g"));
+		assertFalse(o.isNull("h"));
+
+		final var expected = IuJson.parse(serialized.replace(", \"a\":\"dup\"", ""));
+		assertEquals(expected, o);
+		assertEquals(o, expected);
+		assertEquals(expected.hashCode(), o.hashCode());
+		assertEquals(expected.toString(), o.toString());
+		assertThrows(UnsupportedOperationException.class, () -> o.put("x", JsonValue.NULL));
+	}
+
+	@Test
+	public void testObjectIncremental() {
+		final var o = assertInstanceOf(JsonObject.class, parse("{\"a\":1,\"b\":2,\"c\":x}"));
+		assertEquals(1, o.getInt("a"));
+		assertEquals(2, o.getInt("b"));
+		assertThrows(JsonException.class, () -> o.get("c"));
+	}
+
+	@Test
+	public void testEntrySet() {
+		final var o = assertInstanceOf(JsonObject.class, parse("{\"a\":1,\"b\":[2]}"));
+		assertEquals(1, o.getInt("a"));
+		final List<String> names = new ArrayList<>();
+		for (final var entry : o.entrySet())
+			names.add(entry.getKey());
+		assertEquals(List.of("a", "b"), names);
+		assertEquals(IuJson.parse("{\"a\":1,\"b\":[2]}"), o);
+	}
+
+	@Test
+	public void testArray() {
+		final var serialized = "[ \"a\", 1 ,true,false , null, {\"b\":[]}, [2] ]";
+		final var a = assertInstanceOf(JsonArray.class, parse(serialized));
+		assertEquals(ValueType.ARRAY, a.getValueType());
+		assertEquals("a", a.getString(0));
+		assertSame(a.get(0), a.get(0));
+		assertThrows(IndexOutOfBoundsException.class, () -> a.get(-1));
+		assertThrows(IndexOutOfBoundsException.class, () -> a.get(7));
+		assertEquals(7, a.size());
+
+		assertEquals("a", a.getJsonString(0).getString());
+		assertEquals(1, a.getJsonNumber(1).intValue());
+		assertTrue(a.getJsonObject(5).getJsonArray("b").isEmpty());
+		assertEquals(2, a.getJsonArray(6).getInt(0));
+		assertEquals("a", a.getString(0, "x"));
+		assertEquals("x", a.getString(1, "x"));
+		assertEquals("x", a.getString(7, "x"));
+		assertEquals("x", a.getString(-1, "x"));
+		assertEquals(1, a.getInt(1));
+		assertEquals(1, a.getInt(1, 0));
+		assertEquals(0, a.getInt(0, 0));
+		assertTrue(a.getBoolean(2));
+		assertFalse(a.getBoolean(3));
+		assertThrows(ClassCastException.class, () -> a.getBoolean(1));
+		assertTrue(a.getBoolean(2, false));
+		assertFalse(a.getBoolean(3, true));
+		assertTrue(a.getBoolean(1, true));
+		assertTrue(a.isNull(4));
+		assertFalse(a.isNull(1));
+		assertEquals("a", a.getValuesAs(JsonString.class).get(0).getString());
+
+		final var expected = IuJson.parse(serialized);
+		assertEquals(expected, a);
+		assertEquals(a, expected);
+		assertEquals(expected.hashCode(), a.hashCode());
+		assertEquals(expected.toString(), a.toString());
+		assertThrows(UnsupportedOperationException.class, () -> a.add(JsonValue.NULL));
+	}
+
+	@Test
+	public void testArrayIncremental() {
+		final var a = assertInstanceOf(JsonArray.class, parse("[1, 2, 3 4]"));
+		assertEquals(2, a.getInt(1));
+		assertThrows(JsonException.class, a::size);
+	}
+
+}
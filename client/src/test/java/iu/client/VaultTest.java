@@ -34,6 +34,7 @@ package iu.client;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -42,21 +43,31 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.IOException;
+import java.lang.ref.WeakReference;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.net.http.HttpRequest;
 import java.net.http.HttpRequest.BodyPublisher;
 import java.net.http.HttpRequest.BodyPublishers;
 import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
 import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.LogManager;
@@ -71,7 +82,9 @@ import org.mockito.MockedStatic.Verification;
 
 import edu.iu.IdGenerator;
 import edu.iu.IuRuntimeEnvironment;
+import edu.iu.IuUtilityTaskController;
 import edu.iu.UnsafeConsumer;
+import edu.iu.UnsafeSupplier;
 import edu.iu.client.HttpException;
 import edu.iu.client.IuHttp;
 import edu.iu.client.IuHttpTestCase;
@@ -79,6 +92,7 @@ import edu.iu.client.IuJson;
 import edu.iu.client.IuJsonAdapter;
 import edu.iu.client.IuVaultKeyedValue;
 import edu.iu.client.IuVaultSecret;
+import jakarta.json.JsonObject;
 
 @SuppressWarnings("javadoc")
 public class VaultTest extends IuHttpTestCase {
@@ -746,6 +760,15 @@ public class VaultTest extends IuHttpTestCase {
 											.add(key, value))) //
 							.build());
 
+			final Verification readVaultAsync = () -> IuHttp.sendAsync(eq(vault.dataUri(secret)), withToken(token),
+					eq(IuHttp.READ_JSON_OBJECT));
+			mockHttp.when(readVaultAsync).thenReturn(CompletableFuture.completedFuture( //
+					IuJson.object() //
+							.add("data", IuJson.object() //
+									.add("data", IuJson.object() //
+											.add(key, value))) //
+							.build()));
+
 			final var vs = vault.getSecret(secret);
 			assertKeyedValue(vs, key, value, vs.get(key, String.class));
 	
@@ -753,7 +776,8 @@ public class VaultTest extends IuHttpTestCase {
 			assertTrue(list.hasNext());
 			assertKeyedValue(vs, key, value, Object.class, list.next());
 
-			mockHttp.verify(readVault, times(2));
+			mockHttp.verify(readVault);
+			mockHttp.verify(readVaultAsync);
 		}
 	}
 
@@ -910,6 +934,591 @@ public class VaultTest extends IuHttpTestCase {
 		}
 	}
 
+	@Test
+	public void testCacheHonorsLeaseDuration() {
+		final var secret = IdGenerator.generateId();
+		final var token = IdGenerator.generateId();
+		final var endpoint = URI.create("test:/" + IdGenerator.generateId());
+		final var vault = cachedVault(endpoint, token, "PT15S");
+		try (final var mockHttp = mockStatic(IuHttp.class)) {
+			final Verification readVault = readVault(endpoint, secret, token);
+			final var data = IuJson.object().add("foo", "bar").build();
+			mockHttp.when(readVault).thenReturn(IuJson.object() //
+					.add("lease_duration", 1) //
+					.add("data", IuJson.object().add("data", data)) //
+					.build());
+
+			final var vs = vault.getSecret(secret);
+			assertEquals(data, vs.getData());
+			assertEquals(data, vs.getData());
+			mockHttp.verify(readVault);
+
+			assertDoesNotThrow(() -> Thread.sleep(1100L));
+			assertEquals(data, vs.getData());
+			mockHttp.verify(readVault, times(2));
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testServesLastGoodValue() {
+		final var secret = IdGenerator.generateId();
+		final var token = IdGenerator.generateId();
+		final var endpoint = URI.create("test:/" + IdGenerator.generateId());
+		final var vault = cachedVault(endpoint, token, "PT15S");
+		final var now = new Instant[] { Instant.now() };
+		vault.clock = () -> now[0];
+		try (final var mockHttp = mockStatic(IuHttp.class)) {
+			final var e = httpException(500);
+
+			final Verification readVault = readVault(endpoint, secret, token);
+			final var data = IuJson.object().add("foo", "bar").build();
+			mockHttp.when(readVault).thenReturn(IuJson.object() //
+					.add("data", IuJson.object().add("data", data)) //
+					.build()).thenThrow(e);
+
+			final var vs = vault.getSecret(secret);
+			assertEquals(data, vs.getData());
+			now[0] = now[0].plusSeconds(20L);
+			assertEquals(data, vs.getData());
+			mockHttp.verify(readVault, times(2));
+			verify(handler).publish(argThat(a -> Level.WARNING.equals(a.getLevel()) //
+					&& ("vault:stale:" + endpoint + "/" + secret).equals(a.getMessage())));
+
+			// stale value is no longer served one TTL past expiration
+			now[0] = now[0].plusSeconds(10L);
+			assertSame(e, assertThrows(IllegalStateException.class, vs::getData).getCause());
+			mockHttp.verify(readVault, times(3));
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testDoesNotServeStaleWhenForbidden() {
+		final var secret = IdGenerator.generateId();
+		final var token = IdGenerator.generateId();
+		final var endpoint = URI.create("test:/" + IdGenerator.generateId());
+		final var vault = cachedVault(endpoint, token, "PT15S");
+		final var now = new Instant[] { Instant.now() };
+		vault.clock = () -> now[0];
+		try (final var mockHttp = mockStatic(IuHttp.class)) {
+			final var e = httpException(403);
+
+			final Verification readVault = readVault(endpoint, secret, token);
+			final var data = IuJson.object().add("foo", "bar").build();
+			mockHttp.when(readVault).thenReturn(IuJson.object() //
+					.add("data", IuJson.object().add("data", data)) //
+					.build()).thenThrow(e).thenReturn(IuJson.object() //
+							.add("data", IuJson.object().add("data", IuJson.object())) //
+							.build());
+
+			final var vs = vault.getSecret(secret);
+			assertEquals(data, vs.getData());
+			now[0] = now[0].plusSeconds(20L);
+			assertSame(e, assertThrows(IllegalStateException.class, vs::getData).getCause());
+			assertEquals(IuJson.object().build(), vs.getData());
+			mockHttp.verify(readVault, times(3));
+			verify(handler, times(0)).publish(argThat(a -> Level.WARNING.equals(a.getLevel())));
+		}
+	}
+
+	@Test
+	public void testIsTransient() {
+		assertTrue(Vault.isTransient(new IllegalStateException(new IOException())));
+		assertTrue(Vault.isTransient(new IllegalStateException(new HttpTimeoutException(""))));
+		assertTrue(Vault.isTransient(new CompletionException(new TimeoutException())));
+		assertTrue(Vault.isTransient(new IllegalStateException(httpException(503))));
+		assertFalse(Vault.isTransient(new IllegalStateException(httpException(403))));
+		assertFalse(Vault.isTransient(new IllegalStateException(new HttpException("no response"))));
+		assertFalse(Vault.isTransient(new IllegalArgumentException()));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testRefreshDiscardsIdleSecrets() {
+		final var secret = IdGenerator.generateId();
+		final var token = IdGenerator.generateId();
+		final var endpoint = URI.create("test:/" + IdGenerator.generateId());
+		final var props = new Properties();
+		props.setProperty("iu.vault.endpoint", endpoint.toString());
+		props.setProperty("iu.vault.token", token);
+		props.setProperty("iu.vault.cacheTtl", "PT15S");
+		props.setProperty("iu.vault.refreshInterval", "PT1M");
+		final var vault = Vault.of(props, IuJsonAdapter::of);
+		final var now = new Instant[] { Instant.now() };
+		vault.clock = () -> now[0];
+		try (final var mockHttp = mockStatic(IuHttp.class)) {
+			final Verification readVault = readVault(endpoint, secret, token);
+			final var data = IuJson.object().add("foo", "bar").build();
+			mockHttp.when(readVault).thenReturn(IuJson.object() //
+					.add("data", IuJson.object().add("data", data)) //
+					.build());
+			final Verification readVaultAsync = readVaultAsync(endpoint, secret, token);
+			mockHttp.when(readVaultAsync).thenReturn(CompletableFuture.completedFuture(IuJson.object() //
+					.add("data", IuJson.object().add("data", data)) //
+					.build()));
+
+			final var vs = vault.getSecret(secret);
+			assertEquals(data, vs.getData());
+
+			// accessed within TTL: refreshed ahead of expiration
+			now[0] = now[0].plusSeconds(10L);
+			vault.refresh();
+			mockHttp.verify(readVaultAsync);
+
+			// idle past TTL: discarded, not refreshed
+			now[0] = now[0].plusSeconds(20L);
+			vault.refresh();
+			mockHttp.verify(readVaultAsync);
+
+			assertEquals(data, vs.getData());
+			mockHttp.verify(readVault, times(2));
+		}
+	}
+
+	@Test
+	public void testCoalescedReload() {
+		assertCoalescedReload(false);
+	}
+
+	@Test
+	public void testCoalescedReloadError() {
+		assertCoalescedReload(true);
+	}
+
+	@Test
+	public void testRefresh() {
+		final var endpoint = URI.create("test:/" + IdGenerator.generateId());
+		final var loginEndpoint = URI.create("test:/" + IdGenerator.generateId());
+		final var secret = IdGenerator.generateId();
+		final var missing = IdGenerator.generateId();
+		final var token = IdGenerator.generateId();
+		final var props = new Properties();
+		props.setProperty("iu.vault.endpoint", endpoint.toString());
+		props.setProperty("iu.vault.secrets", secret + "," + missing);
+		props.setProperty("iu.vault.loginEndpoint", loginEndpoint.toString());
+		props.setProperty("iu.vault.roleId", IdGenerator.generateId());
+		props.setProperty("iu.vault.secretId", IdGenerator.generateId());
+		props.setProperty("iu.vault.cacheTtl", "PT15S");
+		props.setProperty("iu.vault.refreshInterval", "PT1H");
+
+		final var vault = Vault.of(props, IuJsonAdapter::of);
+		try (final var mockHttp = mockStatic(IuHttp.class)) {
+			final Verification approle = () -> IuHttp.send(eq(loginEndpoint), any(), eq(IuHttp.READ_JSON_OBJECT));
+			final var auth = IuJson.object() //
+					.add("auth", IuJson.object() //
+							.add("lease_duration", 60) //
+							.add("client_token", token) //
+					).build();
+			mockHttp.when(approle).thenReturn(auth, auth).thenThrow(new IllegalStateException());
+
+			final Verification readVault = readVault(endpoint, secret, token);
+			final var data = IuJson.object().add("foo", "bar").build();
+			mockHttp.when(readVault).thenReturn(IuJson.object() //
+					.add("data", IuJson.object().add("data", data)) //
+					.build());
+
+			final Verification readVaultAsync = readVaultAsync(endpoint, secret, token);
+			mockHttp.when(readVaultAsync).thenReturn(CompletableFuture.completedFuture(IuJson.object() //
+					.add("data", IuJson.object().add("data", data)) //
+					.build()));
+			final Verification readMissingAsync = readVaultAsync(endpoint, missing, token);
+			mockHttp.when(readMissingAsync).thenReturn(CompletableFuture.failedFuture( //
+					new CompletionException(new IllegalStateException())));
+
+			final var vs = vault.getSecret(secret);
+			assertEquals(data, vs.getData());
+			mockHttp.verify(approle);
+			mockHttp.verify(readVault);
+
+			vault.refresh();
+			mockHttp.verify(approle, times(2));
+			mockHttp.verify(readVaultAsync);
+			mockHttp.verify(readMissingAsync);
+			// initial background refresh runs without mocks, may also log failures
+			verify(handler, atLeastOnce()).publish(argThat(a -> Level.WARNING.equals(a.getLevel()) //
+					&& ("vault:refresh failed:" + missing).equals(a.getMessage())));
+
+			vault.refresh();
+			mockHttp.verify(approle, times(3));
+			mockHttp.verify(readVaultAsync, times(2));
+			mockHttp.verify(readMissingAsync, times(2));
+			mockHttp.verify(readVault);
+			verify(handler, atLeastOnce()).publish(argThat(a -> Level.WARNING.equals(a.getLevel()) //
+					&& ("vault:login failed:" + loginEndpoint).equals(a.getMessage())));
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testPrefetch() {
+		final var key = IdGenerator.generateId();
+		final var value = IdGenerator.generateId();
+		final var secret = IdGenerator.generateId();
+		final var missing = IdGenerator.generateId();
+		final var token = IdGenerator.generateId();
+		final var endpoint = URI.create("test:/" + IdGenerator.generateId());
+
+		final var props = new Properties();
+		props.setProperty("iu.vault.endpoint", endpoint.toString());
+		props.setProperty("iu.vault.token", token);
+		props.setProperty("iu.vault.secrets", missing + "," + secret);
+		props.setProperty("iu.vault.cacheTtl", "PT15S");
+
+		final var vault = Vault.of(props, IuJsonAdapter::of);
+		try (final var mockHttp = mockStatic(IuHttp.class)) {
+			final var r = mock(HttpResponse.class);
+			when(r.statusCode()).thenReturn(404);
+			final var e = mock(HttpException.class);
+			when(e.getResponse()).thenReturn(r);
+
+			final var notFound = CompletableFuture.<JsonObject>failedFuture(new CompletionException(e));
+			final Verification readMissing = readVaultAsync(endpoint, missing, token);
+			mockHttp.when(readMissing).thenReturn(notFound);
+			final Verification readSecret = readVaultAsync(endpoint, secret, token);
+			mockHttp.when(readSecret).thenReturn(CompletableFuture.completedFuture(IuJson.object() //
+					.add("data", IuJson.object() //
+							.add("data", IuJson.object().add(key, value))) //
+					.build()));
+
+			vault.prefetch();
+			mockHttp.verify(readMissing);
+			mockHttp.verify(readSecret);
+
+			vault.prefetch();
+			final var list = vault.list().iterator();
+			assertKeyedValue(vault.getSecret(secret), key, value, Object.class, list.next());
+			assertFalse(list.hasNext());
+			assertKeyedValue(vault.getSecret(secret), key, value, vault.get(key));
+			assertEquals(IuJson.object().build(), vault.getSecret(missing).getData());
+			mockHttp.verify(readMissing);
+			mockHttp.verify(readSecret);
+			mockHttp.verify(() -> IuHttp.send(any(URI.class), any(), any()), times(0));
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testPrefetchError() {
+		final var secret = IdGenerator.generateId();
+		final var token = IdGenerator.generateId();
+		final var endpoint = URI.create("test:/" + IdGenerator.generateId());
+		final var vault = cachedVault(endpoint, token, "PT15S", secret);
+		try (final var mockHttp = mockStatic(IuHttp.class)) {
+			final var r = mock(HttpResponse.class);
+			when(r.statusCode()).thenReturn(500);
+			final var e = mock(HttpException.class);
+			when(e.getResponse()).thenReturn(r);
+
+			final var serverError = CompletableFuture.<JsonObject>failedFuture(new CompletionException(e));
+			mockHttp.when(readVaultAsync(endpoint, secret, token)).thenReturn(serverError);
+			assertSame(e, assertThrows(IllegalStateException.class, vault::prefetch).getCause());
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testPrefetchPartialError() {
+		final var failed = IdGenerator.generateId();
+		final var secret = IdGenerator.generateId();
+		final var alsoFailed = IdGenerator.generateId();
+		final var token = IdGenerator.generateId();
+		final var endpoint = URI.create("test:/" + IdGenerator.generateId());
+		final var vault = cachedVault(endpoint, token, "PT15S", failed + "," + secret + "," + alsoFailed);
+		try (final var mockHttp = mockStatic(IuHttp.class)) {
+			final var e = httpException(500);
+			final var serverError = CompletableFuture.<JsonObject>failedFuture(new CompletionException(e));
+			final var e2 = httpException(503);
+			final var unavailable = CompletableFuture.<JsonObject>failedFuture(new CompletionException(e2));
+			mockHttp.when(readVaultAsync(endpoint, failed, token)).thenReturn(serverError);
+			mockHttp.when(readVaultAsync(endpoint, alsoFailed, token)).thenReturn(unavailable);
+			final var data = IuJson.object().add("foo", "bar").build();
+			final Verification readSecret = readVaultAsync(endpoint, secret, token);
+			mockHttp.when(readSecret).thenReturn(CompletableFuture.completedFuture(IuJson.object() //
+					.add("data", IuJson.object().add("data", data)) //
+					.build()));
+
+			final var error = assertThrows(IllegalStateException.class, vault::prefetch);
+			assertSame(e, error.getCause());
+			assertEquals(1, error.getSuppressed().length);
+			assertSame(e2, error.getSuppressed()[0].getCause());
+
+			// secret read before the failure was reported remains cached
+			assertEquals(data, vault.getSecret(secret).getData());
+			mockHttp.verify(readSecret);
+			mockHttp.verify(() -> IuHttp.send(any(URI.class), any(), any()), times(0));
+		}
+	}
+
+	@Test
+	public void testPrefetchNotAllowed() {
+		final var secret = IdGenerator.generateId();
+		final var vault = cachedVault(URI.create("test:/" + IdGenerator.generateId()), IdGenerator.generateId(),
+				"PT15S", secret);
+		assertThrows(IllegalArgumentException.class, vault::prefetch);
+	}
+
+	@Test
+	public void testPrefetchWithoutCache() {
+		final var props = new Properties();
+		props.setProperty("iu.vault.endpoint", "test:/" + IdGenerator.generateId());
+		props.setProperty("iu.vault.token", IdGenerator.generateId());
+		props.setProperty("iu.vault.secrets", IdGenerator.generateId());
+
+		final var vault = Vault.of(props, IuJsonAdapter::of);
+		try (final var mockHttp = mockStatic(IuHttp.class)) {
+			vault.prefetch();
+			mockHttp.verifyNoInteractions();
+		}
+	}
+
+	@Test
+	public void testPrefetchUnsupported() {
+		final var props = new Properties();
+		props.setProperty("iu.vault.endpoint", "test:/" + IdGenerator.generateId());
+		props.setProperty("iu.vault.token", IdGenerator.generateId());
+
+		final var vault = Vault.of(props, IuJsonAdapter::of);
+		assertThrows(UnsupportedOperationException.class, vault::prefetch);
+	}
+
+	@Test
+	public void testConcurrentLogin() throws Throwable {
+		final var endpoint = URI.create("test:/" + IdGenerator.generateId());
+		final var loginEndpoint = URI.create("test:/" + IdGenerator.generateId());
+		final var secret = IdGenerator.generateId();
+		final var token = IdGenerator.generateId();
+		final var props = new Properties();
+		props.setProperty("iu.vault.endpoint", endpoint.toString());
+		props.setProperty("iu.vault.loginEndpoint", loginEndpoint.toString());
+		props.setProperty("iu.vault.roleId", IdGenerator.generateId());
+		props.setProperty("iu.vault.secretId", IdGenerator.generateId());
+
+		final var vault = Vault.of(props, IuJsonAdapter::of);
+		final var rb = mock(HttpRequest.Builder.class);
+		class Follower extends Thread {
+			@SuppressWarnings("unchecked")
+			@Override
+			public void run() {
+				try (final var mockHttp = mockStatic(IuHttp.class)) {
+					mockHttp.when(() -> IuHttp.send(any(), any(), eq(IuHttp.READ_JSON_OBJECT))).then(a -> {
+						((UnsafeConsumer<HttpRequest.Builder>) a.getArgument(1)).accept(rb);
+						return IuJson.object().build();
+					});
+					vault.readSecret(secret);
+				}
+			}
+		}
+		final var follower = new Follower();
+
+		try (final var mockHttp = mockStatic(IuHttp.class)) {
+			final Verification approle = () -> IuHttp.send(eq(loginEndpoint), any(), eq(IuHttp.READ_JSON_OBJECT));
+			mockHttp.when(approle).then(a -> {
+				follower.start();
+				await(follower, Thread.State.BLOCKED);
+				return IuJson.object() //
+						.add("auth", IuJson.object() //
+								.add("lease_duration", 60) //
+								.add("client_token", token) //
+						).build();
+			});
+
+			final Verification readVault = readVault(endpoint, secret, token);
+			final var data = IuJson.object().add("foo", "bar").build();
+			mockHttp.when(readVault).thenReturn(IuJson.object() //
+					.add("data", IuJson.object().add("data", data)) //
+					.build());
+
+			assertEquals(IuJson.object().add("data", data).build(), vault.readSecret(secret));
+			follower.join();
+			mockHttp.verify(approle);
+		}
+		verify(rb).header("X-Vault-Token", token);
+	}
+
+	@Test
+	public void testRefresherReleasesVault() throws InterruptedException {
+		final var props = new Properties();
+		props.setProperty("iu.vault.endpoint", "test:/" + IdGenerator.generateId());
+		props.setProperty("iu.vault.token", IdGenerator.generateId());
+		props.setProperty("iu.vault.refreshInterval", "PT0.01S");
+
+		var vault = Vault.of(props, IuJsonAdapter::of);
+		final var ref = new WeakReference<>(vault);
+		vault.refresh();
+		Thread.sleep(50L);
+
+		vault = null;
+		for (var i = 0; ref.get() != null && i < 100; i++) {
+			System.gc();
+			Thread.sleep(10L);
+		}
+		assertNull(ref.get());
+		Thread.sleep(50L);
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	@Test
+	public void testRefresherSurvivesError() {
+		final var endpoint = URI.create("test:/" + IdGenerator.generateId());
+		final var props = new Properties();
+		props.setProperty("iu.vault.endpoint", endpoint.toString());
+		props.setProperty("iu.vault.token", IdGenerator.generateId());
+		props.setProperty("iu.vault.secrets", IdGenerator.generateId());
+		props.setProperty("iu.vault.cacheTtl", "PT15S");
+		props.setProperty("iu.vault.refreshInterval", "PT1H");
+		final var vault = Vault.of(props, IuJsonAdapter::of);
+
+		final var error = new LinkageError();
+		try (final var mockHttp = mockStatic(IuHttp.class, a -> {
+			throw error;
+		}); final var mockTask = mockConstruction(IuUtilityTaskController.class, (m, c) -> {
+			((UnsafeSupplier) c.arguments().get(0)).get();
+		})) {
+			// refresh error is logged, doesn't prevent the next refresh
+			final var refresher = new Vault.Refresher(vault);
+			refresher.run();
+			refresher.run();
+			assertEquals(2, mockTask.constructed().size());
+			verify(handler, times(2)).publish(argThat(a -> Level.WARNING.equals(a.getLevel()) //
+					&& ("vault:refresh failed:" + endpoint).equals(a.getMessage()) //
+					&& a.getThrown() == error));
+		}
+
+		// scheduling additional instances is unaffected
+		assertNotNull(Vault.of(props, IuJsonAdapter::of));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testRefresherRejected() {
+		final var endpoint = URI.create("test:/" + IdGenerator.generateId());
+		final var props = new Properties();
+		props.setProperty("iu.vault.endpoint", endpoint.toString());
+		props.setProperty("iu.vault.token", IdGenerator.generateId());
+		props.setProperty("iu.vault.refreshInterval", "PT1H");
+		final var vault = Vault.of(props, IuJsonAdapter::of);
+
+		final var error = new RejectedExecutionException();
+		try (final var mockTask = mockConstruction(IuUtilityTaskController.class, (m, c) -> {
+			throw error;
+		})) {
+			final var refresher = new Vault.Refresher(vault);
+			refresher.run();
+			refresher.run();
+			verify(handler, times(2)).publish(argThat(a -> Level.WARNING.equals(a.getLevel()) //
+					&& ("vault:refresh rejected:" + endpoint).equals(a.getMessage())));
+		}
+	}
+
+	@Test
+	public void testRefresherSkipsWhileRunning() throws Exception {
+		final var props = new Properties();
+		props.setProperty("iu.vault.endpoint", "test:/" + IdGenerator.generateId());
+		props.setProperty("iu.vault.token", IdGenerator.generateId());
+		props.setProperty("iu.vault.refreshInterval", "PT1H");
+		final var vault = Vault.of(props, IuJsonAdapter::of);
+
+		try (final var mockTask = mockConstruction(IuUtilityTaskController.class)) {
+			final var refresher = new Vault.Refresher(vault);
+			refresher.run();
+			refresher.run();
+			assertEquals(1, mockTask.constructed().size());
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void assertCoalescedReload(boolean fail) {
+		final var secret = IdGenerator.generateId();
+		final var token = IdGenerator.generateId();
+		final var endpoint = URI.create("test:/" + IdGenerator.generateId());
+		final var vault = cachedVault(endpoint, token, "PT15S");
+		final var vs = vault.getSecret(secret);
+		class Follower extends Thread {
+			JsonObject data;
+			Throwable error;
+
+			@Override
+			public void run() {
+				try {
+					data = vs.getData();
+				} catch (Throwable e) {
+					error = e;
+				}
+			}
+		}
+		final var follower = new Follower();
+
+		try (final var mockHttp = mockStatic(IuHttp.class)) {
+			final var r = mock(HttpResponse.class);
+			when(r.statusCode()).thenReturn(500);
+			final var e = mock(HttpException.class);
+			when(e.getResponse()).thenReturn(r);
+
+			final Verification readVault = readVault(endpoint, secret, token);
+			final var data = IuJson.object().add("foo", "bar").build();
+			mockHttp.when(readVault).then(a -> {
+				follower.start();
+				await(follower, Thread.State.WAITING);
+				if (fail)
+					throw e;
+				else
+					return IuJson.object() //
+							.add("data", IuJson.object().add("data", data)) //
+							.build();
+			});
+
+			if (fail) {
+				final var error = assertThrows(IllegalStateException.class, vs::getData);
+				assertDoesNotThrow(() -> follower.join());
+				assertSame(error, follower.error);
+			} else {
+				assertEquals(data, vs.getData());
+				assertDoesNotThrow(() -> follower.join());
+				assertEquals(data, follower.data);
+			}
+			mockHttp.verify(readVault);
+		}
+	}
+
+	private void await(Thread thread, Thread.State state) throws InterruptedException {
+		while (thread.getState() != state)
+			Thread.sleep(5L);
+	}
+
+	private Vault cachedVault(URI endpoint, String token, String ttl) {
+		return cachedVault(endpoint, token, ttl, null);
+	}
+
+	private Vault cachedVault(URI endpoint, String token, String ttl, String secrets) {
+		final var props = new Properties();
+		props.setProperty("iu.vault.endpoint", endpoint.toString());
+		props.setProperty("iu.vault.token", token);
+		props.setProperty("iu.vault.cacheTtl", ttl);
+		if (secrets != null)
+			props.setProperty("iu.vault.secrets", secrets);
+		return Vault.of(props, IuJsonAdapter::of);
+	}
+
+	private Verification readVaultAsync(URI endpoint, String secret, String token) {
+		return () -> IuHttp.sendAsync(
+				eq(URI.create(endpoint + "/" + URLEncoder.encode(secret, StandardCharsets.UTF_8))), withToken(token),
+				eq(IuHttp.READ_JSON_OBJECT));
+	}
+
+	private HttpException httpException(int status) {
+		final var response = mock(HttpResponse.class);
+		when(response.statusCode()).thenReturn(status);
+		final var e = mock(HttpException.class);
+		when(e.getResponse()).thenReturn(response);
+		return e;
+	}
+
+	private Verification readVault(URI endpoint, String secret, String token) {
+		return () -> IuHttp.send(eq(URI.create(endpoint + "/" + URLEncoder.encode(secret, StandardCharsets.UTF_8))),
+				withToken(token), eq(IuHttp.READ_JSON_OBJECT));
+	}
+
 	private void assertKeyedValue(IuVaultSecret vs, String key, String value, IuVaultKeyedValue<?> keyedValue) {
 		assertKeyedValue(vs, key, value, String.class, keyedValue);
 	}
@@ -0,0 +1,195 @@
+/*
+ * Copyright © 2026 Indiana University
+ * All rights reserved.
+ *
+ * BSD 3-Clause License
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ * 
+ * - Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.iu.crypt;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import edu.iu.IuRuntimeEnvironment;
+import edu.iu.IuUtilityTaskController;
+
+/**
+ * Bounded pools of pre-generated, single-use ephemeral keys.
+ * 
+ * <p>
+ * Enabled by the {@code iu.crypt.ephemeralKeyPoolSize} runtime property, which
+ * limits the number of keys held by each pool. A pool is created for each
+ * distinct key type and size on first use. Keys are taken from a pool without
+ * locking and are never handed out more than once. Taking a key from a pool
+ * that is below capacity schedules a background task to fill it. When a pool
+ * is empty, the key is generated on the calling thread.
+ * </p>
+ */
+final class EphemeralKeyPools {
+
+	private static final Logger LOG = Logger.getLogger(EphemeralKeyPools.class.getName());
+	private static final Duration FILL_TIMEOUT = Duration.ofSeconds(15L);
+
+	private class Pool<T> {
+		private final Supplier<T> generator;
+		private final Queue<T> keys = new ConcurrentLinkedQueue<>();
+		private final AtomicInteger size = new AtomicInteger();
+		private final AtomicBoolean filling = new AtomicBoolean();
+
+		private Pool(Supplier<T> generator) {
+			this.generator = generator;
+		}
+
+		private T take() {
+			final var key = keys.poll();
+			if (key == null) {
+				misses.increment();
+				final var generated = generator.get();
+				fill();
+				return generated;
+			} else {
+				size.decrementAndGet();
+				hits.increment();
+				fill();
+				return key;
+			}
+		}
+
+		private void fill() {
+			if (size.get() >= capacity //
+					|| !filling.compareAndSet(false, true))
+				return;
+
+			try {
+				new IuUtilityTaskController<>(() -> {
+					try {
+						while (size.get() < capacity) {
+							keys.add(generator.get());
+							size.incrementAndGet();
+						}
+					} finally {
+						filling.set(false);
+						filled.run();
+					}
+					return null;
+				}, Instant.now().plus(FILL_TIMEOUT));
+			} catch (RuntimeException e) {
+				LOG.log(Level.FINE, e, () -> "ephemeral key pool fill rejected");
+				filling.set(false);
+			}
+		}
+	}
+
+	private final int capacity;
+	private final Runnable filled;
+	private final Map<Object, Pool<?>> pools = new ConcurrentHashMap<>();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * Creates key pools from the {@code iu.crypt.ephemeralKeyPoolSize} runtime
+	 * property.
+	 * 
+	 * @return {@link EphemeralKeyPools}; disabled if
+	 *         {@code iu.crypt.ephemeralKeyPoolSize} is not set
+	 */
+	static EphemeralKeyPools configure() {
+		return new EphemeralKeyPools(Objects.requireNonNullElse(
+				IuRuntimeEnvironment.envOptional("iu.crypt.ephemeralKeyPoolSize", Integer::parseInt), 0));
+	}
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param capacity maximum number of keys to hold per pool; 0 to disable
+	 */
+	EphemeralKeyPools(int capacity) {
+		this(capacity, () -> {
+		});
+	}
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param capacity maximum number of keys to hold per pool; 0 to disable
+	 * @param filled   invoked each time a background fill task ends
+	 */
+	EphemeralKeyPools(int capacity, Runnable filled) {
+		this.capacity = capacity;
+		this.filled = filled;
+	}
+
+	/**
+	 * Takes a key from a pool, or generates one if the pool is empty.
+	 * 
+	 * @param <T>       key type
+	 * @param id        identifies the pool by key type and size; null to
+	 *                  generate without pooling
+	 * @param generator generates a key of the type and size identified by
+	 *                  {@code id}
+	 * @return single-use key
+	 */
+	@SuppressWarnings("unchecked")
+	<T> T take(Object id, Supplier<T> generator) {
+		if (capacity <= 0 //
+				|| id == null)
+			return generator.get();
+		else
+			return ((Pool<T>) pools.computeIfAbsent(id, a -> new Pool<>(generator))).take();
+	}
+
+	/**
+	 * Gets the number of keys taken from a pool.
+	 * 
+	 * @return pool hits
+	 */
+	long hits() {
+		return hits.sum();
+	}
+
+	/**
+	 * Gets the number of keys generated on the calling thread because a pool was
+	 * empty.
+	 * 
+	 * @return pool misses
+	 */
+	long misses() {
+		return misses.sum();
+	}
+
+}
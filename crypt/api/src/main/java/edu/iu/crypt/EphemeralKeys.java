@@ -39,12 +39,15 @@ import java.security.Security;
 import java.security.spec.AlgorithmParameterSpec;
 import java.security.spec.ECParameterSpec;
 import java.security.spec.NamedParameterSpec;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
 
 import javax.crypto.KeyGenerator;
 
 import edu.iu.IuException;
 import edu.iu.IuObject;
+import edu.iu.UnsafeSupplier;
 
 /**
  * Generates ephemeral keys.
@@ -60,6 +63,34 @@ public class EphemeralKeys {
 
 	private static final Set<String> SUPPORTED_EC_NAMEDSPEC = Set.of("Ed25519", "Ed448", "X25519", "X448");
 	private static final Set<String> SUPPORTED_RSA_ALG = Set.of("RSA", "RSASSA-PSS");
+	private static final EphemeralKeyPools POOLS = EphemeralKeyPools.configure();
+
+	/**
+	 * Gets the number of EC key pairs and content encryption keys taken from a
+	 * pre-generated pool.
+	 * 
+	 * @return pool hits
+	 * @see #getPoolMisses()
+	 */
+	public static long getPoolHits() {
+		return POOLS.hits();
+	}
+
+	/**
+	 * Gets the number of EC key pairs and content encryption keys generated on
+	 * the calling thread because a pre-generated pool was empty.
+	 * 
+	 * <p>
+	 * Pools are enabled by the {@code iu.crypt.ephemeralKeyPoolSize} runtime
+	 * property, which sets the number of keys to pre-generate in the background
+	 * for each curve and content encryption key size. Pooled keys are single-use.
+	 * </p>
+	 * 
+	 * @return pool misses
+	 */
+	public static long getPoolMisses() {
+		return POOLS.misses();
+	}
 
 	/**
 	 * Securely generates pseudorandom data.
@@ -95,18 +126,35 @@ public class EphemeralKeys {
 	 * @return {@link KeyPair}
 	 */
 	public static final KeyPair ec(AlgorithmParameterSpec param) {
-		return IuException.unchecked(() -> {
-			if (param instanceof NamedParameterSpec) {
-				final var name = ((NamedParameterSpec) param).getName();
-				IuObject.require(name, SUPPORTED_EC_NAMEDSPEC::contains);
-				return KeyPairGenerator.getInstance(name);
-			} else if (param instanceof ECParameterSpec) {
+		final Object curve;
+		final UnsafeSupplier<KeyPairGenerator> keyPairGenerator;
+		if (param instanceof NamedParameterSpec) {
+			final var name = IuObject.require(((NamedParameterSpec) param).getName(),
+					SUPPORTED_EC_NAMEDSPEC::contains);
+			curve = name;
+			keyPairGenerator = () -> KeyPairGenerator.getInstance(name);
+		} else if (param instanceof ECParameterSpec) {
+			curve = curve((ECParameterSpec) param);
+			keyPairGenerator = () -> {
 				final var gen = KeyPairGenerator.getInstance("EC");
 				gen.initialize(param);
 				return gen;
-			} else
-				throw new IllegalArgumentException(param.toString());
-		}).generateKeyPair();
+			};
+		} else
+			throw new IllegalArgumentException(param.toString());
+
+		return POOLS.take(curve, () -> IuException.unchecked(keyPairGenerator).generateKeyPair());
+	}
+
+	/**
+	 * Identifies the curve described by an EC parameter spec, for selecting a key
+	 * pool.
+	 * 
+	 * @param param EC parameter spec
+	 * @return curve, generator, order, and cofactor
+	 */
+	static List<?> curve(ECParameterSpec param) {
+		return Arrays.asList(param.getCurve(), param.getGenerator(), param.getOrder(), param.getCofactor());
 	}
 
 	/**
@@ -143,6 +191,10 @@ public class EphemeralKeys {
 	 * @return content encryption key
 	 */
 	public static final byte[] contentEncryptionKey(String mac, int size) {
+		return POOLS.take("CEK/" + mac + '/' + size, () -> generateContentEncryptionKey(mac, size));
+	}
+
+	private static byte[] generateContentEncryptionKey(String mac, int size) {
 		final var keylen = size / (mac == null ? 1 : 2);
 		final byte[] key = secret("AES", keylen);
 		if (mac == null)
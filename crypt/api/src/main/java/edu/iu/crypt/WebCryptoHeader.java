@@ -34,11 +34,11 @@ package edu.iu.crypt;
 import java.net.URI;
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
 
-import edu.iu.IuIterable;
 import edu.iu.IuObject;
 import edu.iu.crypt.WebKey.Algorithm;
 import edu.iu.crypt.WebKey.Use;
@@ -405,9 +405,12 @@ public interface WebCryptoHeader extends WebKeyReference {
 		var wellKnown = IuObject.convert(key, WebKey::wellKnown);
 		if (wellKnown == null //
 				&& keyId != null)
-			wellKnown = IuObject.convert(header.getKeySetUri(), //
-					uri -> IuIterable.filter(WebKey.readJwks(uri), //
-							k -> keyId.equals(k.getKeyId())).iterator().next());
+			wellKnown = IuObject.convert(header.getKeySetUri(), uri -> {
+				final var jwk = WebKey.readJwk(uri, keyId);
+				if (jwk == null)
+					throw new NoSuchElementException("Key ID " + keyId + " not found in " + uri);
+				return jwk;
+			});
 		if (wellKnown == null //
 				&& certChain != null)
 			wellKnown = WebKey.builder(algorithm.type[0]).cert(certChain).build().wellKnown();
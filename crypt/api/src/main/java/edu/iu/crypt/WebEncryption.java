@@ -205,6 +205,30 @@ public interface WebEncryption {
 		 * @return encrypted message
 		 */
 		WebEncryption encrypt(InputStream in);
+
+		/**
+		 * Encrypts data for sending to all recipients, writing the serialized
+		 * message to an output stream as data is encrypted.
+		 * 
+		 * <p>
+		 * Data is compressed, encrypted, and encoded in chunks, so memory use does
+		 * not grow with the size of the data. Writes JSON serialization unless
+		 * {@link #compact()} was requested.
+		 * </p>
+		 * 
+		 * <p>
+		 * Extended header parameters are verified before anything is written to
+		 * the output stream. Since the message is not held in memory, cipher text
+		 * and authentication tag are not available to extensions: both
+		 * {@link WebEncryption#getCipherText()} and
+		 * {@link WebEncryption#getAuthenticationTag()} return null during
+		 * extension verification.
+		 * </p>
+		 * 
+		 * @param in  stream of data to encrypt
+		 * @param out receives the serialized encrypted message
+		 */
+		void encrypt(InputStream in, OutputStream out);
 	}
 
 	/**
@@ -32,6 +32,7 @@
 package edu.iu.crypt;
 
 import java.io.InputStream;
+import java.io.OutputStream;
 
 /**
  * Represents the recipient of a {@link WebEncryption} JWE encrpted message.
@@ -83,6 +84,18 @@ public interface WebEncryptionRecipient {
 		default WebEncryption encrypt(InputStream in) {
 			return then().encrypt(in);
 		}
+
+		/**
+		 * Shorthand for {@link #then()}
+		 * {@link WebEncryption.Builder#encrypt(InputStream, OutputStream)
+		 * .encrypt(in, out)}
+		 * 
+		 * @param in  stream of data to encrypt
+		 * @param out receives the serialized encrypted message
+		 */
+		default void encrypt(InputStream in, OutputStream out) {
+			then().encrypt(in, out);
+		}
 	}
 
 	/**
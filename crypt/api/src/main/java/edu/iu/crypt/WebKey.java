@@ -997,6 +997,22 @@ public interface WebKey extends WebKeyReference {
 		return Init.SPI.readJwks(jwks);
 	}
 
+	/**
+	 * Reads a key by ID from a JSON Web Key Set (JWKS).
+	 * 
+	 * <p>
+	 * If the key ID is not found, the key set may be fetched again to pick up a
+	 * newly rotated key, no more often than a minimum interval per key set.
+	 * </p>
+	 * 
+	 * @param jwks  serialized JWKS
+	 * @param keyId key ID
+	 * @return {@link WebKey}; null if not found
+	 */
+	static WebKey readJwk(URI jwks, String keyId) {
+		return Init.SPI.readJwk(jwks, keyId);
+	}
+
 	/**
 	 * Reads a JSON Web Key Set (JWKS).
 	 * 
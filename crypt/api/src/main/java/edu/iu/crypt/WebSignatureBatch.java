@@ -0,0 +1,144 @@
+/*
+ * Copyright © 2026 Indiana University
+ * All rights reserved.
+ *
+ * BSD 3-Clause License
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ * 
+ * - Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.iu.crypt;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+
+/**
+ * Verifies a batch of serialized JWS signed payloads in parallel.
+ * 
+ * <p>
+ * Verification runs in two phases. First, tokens are parsed and keys are
+ * resolved, in slices of the batch. Then tokens are grouped by verification
+ * key, and each group is verified in slices, so that each task verifies
+ * tokens with the same key and can reuse signature engines initialized with
+ * that key.
+ * </p>
+ */
+final class WebSignatureBatch {
+
+	private final Executor executor;
+	private final int parallelism;
+	private final List<String> jws = new ArrayList<>();
+	private final List<CompletableFuture<WebSignedPayload>> results = new ArrayList<>();
+	private final WebSignedPayload[] payloads;
+	private final WebKey[] keys;
+
+	/**
+	 * Starts verifying a batch of serialized JWS signed payloads.
+	 * 
+	 * @param jws         serialized JWS signed payloads
+	 * @param keyResolver resolves the verification key for each parsed payload
+	 * @param executor    executes verification tasks
+	 * @param parallelism maximum number of tasks to submit per phase, or per key
+	 *                    group
+	 * @return verification results, in the same order as {@code jws}
+	 */
+	static List<CompletableFuture<WebSignedPayload>> verify(Iterable<String> jws,
+			Function<? super WebSignedPayload, ? extends WebKey> keyResolver, Executor executor, int parallelism) {
+		return new WebSignatureBatch(jws, keyResolver, executor, parallelism).results;
+	}
+
+	private WebSignatureBatch(Iterable<String> jws, Function<? super WebSignedPayload, ? extends WebKey> keyResolver,
+			Executor executor, int parallelism) {
+		Objects.requireNonNull(keyResolver);
+		this.executor = Objects.requireNonNull(executor);
+		this.parallelism = parallelism;
+
+		for (final var token : jws) {
+			this.jws.add(token);
+			results.add(new CompletableFuture<>());
+		}
+
+		final var size = results.size();
+		payloads = new WebSignedPayload[size];
+		keys = new WebKey[size];
+
+		final var indexes = new int[size];
+		for (var i = 0; i < size; i++)
+			indexes[i] = i;
+
+		CompletableFuture.allOf(submit(indexes, i -> {
+			payloads[i] = WebSignedPayload.parse(this.jws.get(i));
+			keys[i] = Objects.requireNonNull(keyResolver.apply(payloads[i]), "Missing verification key");
+		})).thenRun(this::verifyByKey);
+	}
+
+	private void verifyByKey() {
+		final var groups = new LinkedHashMap<WebKey, List<Integer>>();
+		for (var i = 0; i < keys.length; i++)
+			if (keys[i] != null)
+				groups.computeIfAbsent(keys[i], k -> new ArrayList<>()).add(i);
+
+		for (final var group : groups.values())
+			submit(group.stream().mapToInt(Integer::intValue).toArray(), i -> {
+				payloads[i].verify(keys[i]);
+				results.get(i).complete(payloads[i]);
+			});
+	}
+
+	private CompletableFuture<?>[] submit(int[] indexes, IntConsumer task) {
+		final var tasks = Math.min(indexes.length, parallelism);
+		final var futures = new CompletableFuture<?>[tasks];
+		for (var t = 0; t < tasks; t++) {
+			final var from = indexes.length * t / tasks;
+			final var to = indexes.length * (t + 1) / tasks;
+			final Runnable slice = () -> {
+				for (var s = from; s < to; s++) {
+					final var i = indexes[s];
+					try {
+						task.accept(i);
+					} catch (Throwable e) {
+						results.get(i).completeExceptionally(e);
+					}
+				}
+			};
+
+			try {
+				futures[t] = CompletableFuture.runAsync(slice, executor);
+			} catch (Throwable e) {
+				for (var s = from; s < to; s++)
+					results.get(indexes[s]).completeExceptionally(e);
+				futures[t] = CompletableFuture.completedFuture(null);
+			}
+		}
+		return futures;
+	}
+
+}
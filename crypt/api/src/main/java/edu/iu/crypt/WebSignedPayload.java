@@ -31,6 +31,12 @@
  */
 package edu.iu.crypt;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
 import edu.iu.IuException;
 
 /**
@@ -48,6 +54,51 @@ public interface WebSignedPayload {
 		return Init.SPI.parseJws(jws);
 	}
 
+	/**
+	 * Verifies serialized JWS signed payloads in parallel, using the
+	 * {@link ForkJoinPool#commonPool() common pool}.
+	 * 
+	 * @param jws         serialized JWS signed payloads
+	 * @param keyResolver resolves the public or shared key for verifying each
+	 *                    parsed payload
+	 * @return verification results, in the same order as {@code jws}
+	 * @see #verifyAll(Iterable, Function, Executor)
+	 */
+	static List<CompletableFuture<WebSignedPayload>> verifyAll(Iterable<String> jws,
+			Function<? super WebSignedPayload, ? extends WebKey> keyResolver) {
+		return verifyAll(jws, keyResolver, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Verifies serialized JWS signed payloads in parallel.
+	 * 
+	 * <p>
+	 * Each result completes with the parsed payload once at least one signature
+	 * has been {@link #verify(WebKey) verified}, or exceptionally if the token
+	 * cannot be parsed, no key is resolved, or verification fails. A failure
+	 * affects only the result for that token.
+	 * </p>
+	 * 
+	 * <p>
+	 * Tokens are grouped by key before verifying, so each task verifies tokens
+	 * signed with the same key and may reuse signature engines initialized for
+	 * that key. Returns without waiting for verification to complete.
+	 * </p>
+	 * 
+	 * @param jws         serialized JWS signed payloads
+	 * @param keyResolver resolves the public or shared key for verifying each
+	 *                    parsed payload
+	 * @param executor    executes verification tasks
+	 * @return verification results, in the same order as {@code jws}
+	 */
+	static List<CompletableFuture<WebSignedPayload>> verifyAll(Iterable<String> jws,
+			Function<? super WebSignedPayload, ? extends WebKey> keyResolver, Executor executor) {
+		final var parallelism = executor instanceof ForkJoinPool //
+				? ((ForkJoinPool) executor).getParallelism()
+				: Runtime.getRuntime().availableProcessors();
+		return WebSignatureBatch.verify(jws, keyResolver, executor, parallelism);
+	}
+
 	/**
 	 * Gets the signed message payload.
 	 * 
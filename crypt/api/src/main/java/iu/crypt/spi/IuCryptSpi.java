@@ -90,6 +90,15 @@ public interface IuCryptSpi {
 	 */
 	Iterable<? extends WebKey> readJwks(URI jwks);
 
+	/**
+	 * Implements {@link WebKey#readJwk(URI, String)}
+	 * 
+	 * @param jwks  {@link WebKey} set {@link URI}
+	 * @param keyId key ID
+	 * @return {@link WebKey}; null if not found
+	 */
+	WebKey readJwk(URI jwks, String keyId);
+
 	/**
 	 * Implements {@link WebKey#readJwks(InputStream)}
 	 * 
@@ -0,0 +1,147 @@
+/*
+ * Copyright © 2026 Indiana University
+ * All rights reserved.
+ *
+ * BSD 3-Clause License
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ * 
+ * - Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.iu.crypt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mockConstruction;
+
+import java.util.HashSet;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.exceptions.base.MockitoException;
+
+import edu.iu.IuUtilityTaskController;
+import edu.iu.test.IuTestLogger;
+
+@SuppressWarnings("javadoc")
+public class EphemeralKeyPoolsTest {
+
+	private final Semaphore filled = new Semaphore(0);
+
+	// checked each time a fill task ends; pools only generate while below
+	// capacity, so a count past expected at that point is an overfill
+	private void await(AtomicInteger count, int expected) throws InterruptedException {
+		do
+			assertTrue(filled.tryAcquire(5L, TimeUnit.SECONDS));
+		while (count.get() < expected);
+		assertEquals(expected, count.get());
+	}
+
+	@Test
+	public void testConfigure() {
+		final var pools = EphemeralKeyPools.configure();
+		assertNotNull(pools.take("", () -> ""));
+		assertEquals(0, pools.hits());
+		assertEquals(0, pools.misses());
+	}
+
+	@Test
+	public void testDisabled() {
+		final var count = new AtomicInteger();
+		final var pools = new EphemeralKeyPools(0);
+		assertEquals(1, pools.take("a", count::incrementAndGet));
+		assertEquals(2, pools.take("a", count::incrementAndGet));
+		assertEquals(0, pools.misses());
+	}
+
+	@Test
+	public void testUnpooled() {
+		final var count = new AtomicInteger();
+		final var pools = new EphemeralKeyPools(2);
+		assertEquals(1, pools.take(null, count::incrementAndGet));
+		assertEquals(1, count.get());
+		assertEquals(0, pools.misses());
+	}
+
+	@Test
+	public void testPool() throws InterruptedException {
+		final var count = new AtomicInteger();
+		final var pools = new EphemeralKeyPools(3, filled::release);
+		final var taken = new HashSet<Integer>();
+
+		assertTrue(taken.add(pools.take("a", count::incrementAndGet)));
+		assertEquals(1, pools.misses());
+		await(count, 4);
+
+		for (var i = 0; i < 3; i++)
+			assertTrue(taken.add(pools.take("a", count::incrementAndGet)));
+		assertEquals(3, pools.hits());
+		await(count, 7);
+
+		// separate pool per id
+		final var other = new AtomicInteger(100);
+		assertEquals(101, pools.take("b", other::incrementAndGet));
+		await(other, 104);
+		assertEquals(2, pools.misses());
+	}
+
+	@Test
+	public void testFillFailure() throws InterruptedException {
+		final var count = new AtomicInteger();
+		final var pools = new EphemeralKeyPools(2, filled::release);
+		assertEquals(1, pools.take("a", () -> {
+			final var c = count.incrementAndGet();
+			if (c == 2)
+				throw new IllegalStateException();
+			return c;
+		}));
+		await(count, 2);
+
+		// fill is retried on next take
+		assertEquals(3, pools.<Integer> take("a", null));
+		await(count, 5);
+		assertEquals(4, pools.<Integer> take("a", null));
+		assertEquals(1, pools.hits());
+	}
+
+	@Test
+	public void testFillRejected() {
+		final var count = new AtomicInteger();
+		final var pools = new EphemeralKeyPools(2);
+		IuTestLogger.expect(EphemeralKeyPools.class.getName(), Level.FINE, "ephemeral key pool fill rejected",
+				MockitoException.class, e -> e.getCause() instanceof RejectedExecutionException);
+		try (final var mockTask = mockConstruction(IuUtilityTaskController.class, (m, c) -> {
+			throw new RejectedExecutionException();
+		})) {
+			assertEquals(1, pools.take("a", count::incrementAndGet));
+		}
+		assertEquals(1, count.get());
+	}
+
+}
@@ -33,15 +33,20 @@ package edu.iu.crypt;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.verify;
 
+import java.math.BigInteger;
 import java.security.KeyPairGenerator;
 import java.security.SecureRandom;
 import java.security.spec.AlgorithmParameterSpec;
+import java.security.spec.ECFieldFp;
 import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.EllipticCurve;
 import java.security.spec.NamedParameterSpec;
 
 import org.junit.jupiter.api.Test;
@@ -66,6 +71,13 @@ public class EphermeralKeysTest {
 		assertEquals(32, EphemeralKeys.contentEncryptionKey("HmacSHA256", 256).length);
 	}
 
+	@Test
+	public void testPoolDisabled() {
+		EphemeralKeys.contentEncryptionKey(128);
+		assertEquals(0L, EphemeralKeys.getPoolHits());
+		assertEquals(0L, EphemeralKeys.getPoolMisses());
+	}
+
 	@Test
 	public void testIllegalEc() {
 		final var spec = mock(AlgorithmParameterSpec.class);
@@ -99,6 +111,23 @@ public class EphermeralKeysTest {
 		}
 	}
 
+	@Test
+	public void testEcParamPoolId() {
+		final var field = new ECFieldFp(BigInteger.valueOf(23L));
+		final var curve = new EllipticCurve(field, BigInteger.ONE, BigInteger.ONE);
+		final var order = BigInteger.valueOf(7L);
+		final var spec = new ECParameterSpec(curve, new ECPoint(BigInteger.ONE, BigInteger.ONE), order, 1);
+		assertEquals(EphemeralKeys.curve(spec), EphemeralKeys.curve(new ECParameterSpec(
+				new EllipticCurve(field, BigInteger.ONE, BigInteger.ONE), new ECPoint(BigInteger.ONE, BigInteger.ONE),
+				order, 1)));
+
+		// same order, different curve or generator
+		assertNotEquals(EphemeralKeys.curve(spec), EphemeralKeys.curve(new ECParameterSpec(
+				new EllipticCurve(field, BigInteger.ONE, BigInteger.TWO), spec.getGenerator(), order, 1)));
+		assertNotEquals(EphemeralKeys.curve(spec), EphemeralKeys
+				.curve(new ECParameterSpec(curve, new ECPoint(BigInteger.TWO, BigInteger.ONE), order, 1)));
+	}
+
 	@Test
 	public void testRSAKeyPair() {
 		final var keyPairGenerator = mock(KeyPairGenerator.class);
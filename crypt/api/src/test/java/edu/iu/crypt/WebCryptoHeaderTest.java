@@ -47,6 +47,7 @@ import static org.mockito.Mockito.when;
 import java.net.URI;
 import java.security.PublicKey;
 import java.security.cert.X509Certificate;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Consumer;
@@ -54,7 +55,6 @@ import java.util.function.Consumer;
 import org.junit.jupiter.api.Test;
 
 import edu.iu.IdGenerator;
-import edu.iu.IuIterable;
 import edu.iu.crypt.WebCryptoHeader.Param;
 import edu.iu.crypt.WebEncryption.Encryption;
 import edu.iu.crypt.WebKey.Algorithm;
@@ -336,11 +336,26 @@ public class WebCryptoHeaderTest extends IuCryptApiTestCase {
 		when(header.getKeySetUri()).thenReturn(keySetUri);
 
 		try (final var mockWebKey = mockStatic(WebKey.class)) {
-			mockWebKey.when(() -> WebKey.readJwks(keySetUri)).thenReturn(IuIterable.iter(key));
+			mockWebKey.when(() -> WebKey.readJwk(keySetUri, keyId)).thenReturn(key);
 			assertDoesNotThrow(() -> WebCryptoHeader.verify(header));
 		}
 	}
 
+	@Test
+	public void testVerifyWellKnownIdRefNotFound() {
+		final var keyId = IdGenerator.generateId();
+		final var keySetUri = mock(URI.class);
+		final var header = mock(WebCryptoHeader.class);
+		when(header.getAlgorithm()).thenReturn(Algorithm.ES256);
+		when(header.getKeyId()).thenReturn(keyId);
+		when(header.getKeySetUri()).thenReturn(keySetUri);
+
+		try (final var mockWebKey = mockStatic(WebKey.class)) {
+			assertEquals("Key ID " + keyId + " not found in " + keySetUri,
+					assertThrows(NoSuchElementException.class, () -> WebCryptoHeader.verify(header)).getMessage());
+		}
+	}
+
 	@Test
 	public void testVerifyWellKnownIdCert() {
 		final var pubkey = mock(PublicKey.class);
@@ -37,6 +37,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 
 import org.junit.jupiter.api.Test;
 
@@ -59,6 +60,10 @@ public class WebEncryptionRecipientTest {
 		final var i = new ByteArrayInputStream(a);
 		r.encrypt(i);
 		verify(b).encrypt(i);
+
+		final var o = new ByteArrayOutputStream();
+		r.encrypt(i, o);
+		verify(b).encrypt(i, o);
 	}
 	
 }
@@ -780,6 +780,14 @@ public class WebKeyTest extends IuCryptApiTestCase {
 		verify(Init.SPI).readJwks(jwks);
 	}
 
+	@Test
+	public void testReadJwkById() {
+		final var jwks = mock(URI.class);
+		final var keyId = IdGenerator.generateId();
+		WebKey.readJwk(jwks, keyId);
+		verify(Init.SPI).readJwk(jwks, keyId);
+	}
+
 	@Test
 	public void testReadJwksInputStream() {
 		final var jwks = mock(InputStream.class);
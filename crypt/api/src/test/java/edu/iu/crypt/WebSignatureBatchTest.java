@@ -0,0 +1,152 @@
+/*
+ * Copyright © 2026 Indiana University
+ * All rights reserved.
+ *
+ * BSD 3-Clause License
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ * 
+ * - Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.iu.crypt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import edu.iu.IdGenerator;
+
+@SuppressWarnings("javadoc")
+public class WebSignatureBatchTest extends IuCryptApiTestCase {
+
+	private final Map<WebSignedPayload, WebKey> keys = new IdentityHashMap<>();
+
+	private String token(WebKey key) {
+		final var jws = IdGenerator.generateId();
+		final var payload = mock(WebSignedPayload.class);
+		when(Init.SPI.parseJws(jws)).thenReturn(payload);
+		keys.put(payload, key);
+		return jws;
+	}
+
+	@Test
+	public void testVerifyAll() throws Exception {
+		final var k1 = mock(WebKey.class);
+		final var k2 = mock(WebKey.class);
+		final List<String> jws = new ArrayList<>();
+		for (var i = 0; i < 20; i++)
+			jws.add(token(i % 3 == 0 ? k1 : k2));
+
+		final var results = WebSignedPayload.verifyAll(jws, keys::get);
+		assertEquals(jws.size(), results.size());
+		for (var i = 0; i < jws.size(); i++) {
+			final var payload = results.get(i).get();
+			assertSame(WebSignedPayload.parse(jws.get(i)), payload);
+			assertSame(i % 3 == 0 ? k1 : k2, keys.get(payload));
+		}
+	}
+
+	@Test
+	public void testEmpty() {
+		assertTrue(WebSignedPayload.verifyAll(List.of(), keys::get).isEmpty());
+	}
+
+	@Test
+	public void testFailuresDoNotFailBatch() throws Exception {
+		final var key = mock(WebKey.class);
+		final var valid = token(key);
+		final var unresolved = token(null);
+		final var invalid = token(key);
+		final var error = new IllegalStateException();
+		final var invalidPayload = WebSignedPayload.parse(invalid);
+		doThrow(error).when(invalidPayload).verify(key);
+		final var malformed = IdGenerator.generateId();
+		final var parseError = new IllegalArgumentException();
+		when(Init.SPI.parseJws(malformed)).thenThrow(parseError);
+
+		final Executor executor = Runnable::run;
+		final var results = WebSignedPayload.verifyAll(List.of(malformed, valid, unresolved, invalid), keys::get,
+				executor);
+		assertSame(parseError, assertThrows(ExecutionException.class, () -> results.get(0).get()).getCause());
+		assertSame(WebSignedPayload.parse(valid), results.get(1).get());
+		assertEquals("Missing verification key",
+				assertThrows(ExecutionException.class, () -> results.get(2).get()).getCause().getMessage());
+		assertSame(error, assertThrows(ExecutionException.class, () -> results.get(3).get()).getCause());
+	}
+
+	@Test
+	public void testRejected() throws Exception {
+		final var key = mock(WebKey.class);
+		final var jws = List.of(token(key), token(key));
+		final var rejected = new RejectedExecutionException();
+		final Executor executor = task -> {
+			throw rejected;
+		};
+
+		final var results = WebSignedPayload.verifyAll(jws, keys::get, executor);
+		for (final var result : results)
+			assertSame(rejected, assertThrows(ExecutionException.class, result::get).getCause());
+	}
+
+	@Test
+	public void testForkJoinParallelism() throws Exception {
+		final var key = mock(WebKey.class);
+		final var pool = new ForkJoinPool(2);
+		try {
+			final List<String> jws = new ArrayList<>();
+			for (var i = 0; i < 5; i++)
+				jws.add(token(key));
+			CompletableFuture.allOf(WebSignedPayload.verifyAll(jws, keys::get, pool).toArray(CompletableFuture[]::new))
+					.get();
+		} finally {
+			pool.shutdown();
+		}
+		assertTrue(pool.awaitTermination(1, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void testRequiresResolver() {
+		assertThrows(NullPointerException.class, () -> WebSignedPayload.verifyAll(List.of(), null));
+		assertThrows(NullPointerException.class,
+				() -> WebSignedPayload.verifyAll(List.of(), keys::get, (Executor) null));
+	}
+
+}
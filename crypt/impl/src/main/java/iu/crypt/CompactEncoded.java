@@ -31,14 +31,12 @@
  */
 package iu.crypt;
 
-import java.util.Base64;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 
 import edu.iu.IuObject;
-import edu.iu.IuText;
-import edu.iu.client.IuJson;
+import iu.crypt.JoseCache.ProtectedHeader;
 import jakarta.json.JsonObject;
 
 /**
@@ -90,12 +88,25 @@ public final class CompactEncoded {
 	 * @return protected header
 	 */
 	public static JsonObject getProtectedHeader(String compactSerialized) {
+		return protectedHeader(compactSerialized).json();
+	}
+
+	/**
+	 * Returns the JOSE header of a compact serialized JWS or JWE.
+	 * 
+	 * @param compactSerialized compact serialized JWS or JWE
+	 * @return {@link Jose}
+	 */
+	static Jose getProtectedJose(String compactSerialized) {
+		return protectedHeader(compactSerialized).jose();
+	}
+
+	private static ProtectedHeader protectedHeader(String compactSerialized) {
 		final var dot = IuObject.require(//
 				Objects.requireNonNull(compactSerialized, "Missing token").indexOf('.'), //
 				i -> i != -1, "Invalid compact serialized data");
 
-		final var encodedProtectedHeader = compactSerialized.substring(0, dot);
-		return IuJson.parse(IuText.utf8(Base64.getUrlDecoder().decode(encodedProtectedHeader))).asJsonObject();
+		return CompactToken.protectedHeader(compactSerialized, 0, dot);
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,257 @@
+/*
+ * Copyright © 2026 Indiana University
+ * All rights reserved.
+ *
+ * BSD 3-Clause License
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ * 
+ * - Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package iu.crypt;
+
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import edu.iu.IuObject;
+import edu.iu.client.IuJson;
+import iu.crypt.JoseCache.ProtectedHeader;
+import jakarta.json.JsonObject;
+
+/**
+ * Offset-based view of a compact serialized JWS or JWE.
+ * 
+ * <p>
+ * Segment boundaries are recorded in a single pass over the original
+ * {@link CharSequence}. Segments are decoded from unpadded Base64 URL directly
+ * into their target arrays, without intermediate {@link String} copies, and the
+ * protected header is decoded into a per-thread buffer and parsed at most once,
+ * or taken from {@link JoseCache}.
+ * </p>
+ */
+final class CompactToken {
+
+	private static final int MAX_RETAINED_BUFFER = 65536;
+	private static final byte[] INDEX = new byte[128];
+	private static final ThreadLocal<byte[]> BUFFER = ThreadLocal.withInitial(() -> new byte[1024]);
+	private static final JoseCache HEADERS = JoseCache.configure();
+
+	static {
+		Arrays.fill(INDEX, (byte) -1);
+		final var alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+		for (var i = 0; i < alphabet.length(); i++)
+			INDEX[alphabet.charAt(i)] = (byte) i;
+	}
+
+	private final CharSequence data;
+	private final int[] ends;
+	private final int segments;
+	private ProtectedHeader protectedHeader;
+	private boolean protectedHeaderParsed;
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param data        compact serialized data
+	 * @param maxSegments maximum number of segments
+	 * @throws IllegalArgumentException if data has more than {@code maxSegments}
+	 *                                  segments
+	 */
+	CompactToken(CharSequence data, int maxSegments) {
+		this.data = data;
+		ends = new int[maxSegments];
+
+		final var length = data.length();
+		var n = 0;
+		for (var i = 0; i < length; i++)
+			if (data.charAt(i) == '.')
+				if (n == maxSegments - 1)
+					throw new IllegalArgumentException(
+							"Invalid compact format, found more than " + maxSegments + " segments");
+				else
+					ends[n++] = i;
+		ends[n] = length;
+
+		// an empty trailing segment is not present
+		if (length == (n == 0 ? 0 : ends[n - 1] + 1))
+			segments = n;
+		else
+			segments = n + 1;
+	}
+
+	/**
+	 * Gets the number of segments.
+	 * 
+	 * @return number of segments
+	 */
+	int segments() {
+		return segments;
+	}
+
+	/**
+	 * Decodes a segment.
+	 * 
+	 * @param segment segment index
+	 * @return decoded segment; null if the segment is empty
+	 * @throws NoSuchElementException if the segment is not present
+	 */
+	byte[] decode(int segment) {
+		final var start = start(segment);
+		final var end = ends[segment];
+		if (start == end)
+			return null;
+
+		final var decoded = new byte[decodedLength(data, start, end)];
+		decode(data, start, end, decoded, 0);
+		return decoded;
+	}
+
+	/**
+	 * Gets the protected header parameters, parsed from the first segment on first
+	 * use.
+	 * 
+	 * @return protected header parameters; null if the first segment is empty
+	 */
+	JsonObject protectedHeader() {
+		return IuObject.convert(header(), ProtectedHeader::json);
+	}
+
+	/**
+	 * Gets the JOSE header, parsed from the first segment on first use.
+	 * 
+	 * @return {@link Jose}; null if the first segment is empty
+	 */
+	Jose jose() {
+		return IuObject.convert(header(), ProtectedHeader::jose);
+	}
+
+	private ProtectedHeader header() {
+		if (!protectedHeaderParsed) {
+			if (ends[0] > 0)
+				protectedHeader = protectedHeader(data, 0, ends[0]);
+			protectedHeaderParsed = true;
+		}
+		return protectedHeader;
+	}
+
+	private int start(int segment) {
+		if (segment >= segments)
+			throw new NoSuchElementException();
+		return segment == 0 ? 0 : ends[segment - 1] + 1;
+	}
+
+	/**
+	 * Gets a protected header from a range of characters, from the
+	 * {@link JoseCache} if enabled.
+	 * 
+	 * @param data  compact serialized data
+	 * @param start start offset of the encoded header segment, inclusive
+	 * @param end   end offset of the encoded header segment, exclusive
+	 * @return {@link ProtectedHeader}
+	 */
+	static ProtectedHeader protectedHeader(CharSequence data, int start, int end) {
+		return HEADERS.get(data, start, end);
+	}
+
+	/**
+	 * Decodes and parses a Base64 URL encoded JSON object from a range of
+	 * characters, using a per-thread buffer.
+	 * 
+	 * @param data  encoded data
+	 * @param start start offset, inclusive
+	 * @param end   end offset, exclusive
+	 * @return {@link JsonObject}
+	 */
+	static JsonObject parseJson(CharSequence data, int start, int end) {
+		final var length = decodedLength(data, start, end);
+		var buffer = BUFFER.get();
+		if (buffer.length < length) {
+			buffer = new byte[length];
+			if (length <= MAX_RETAINED_BUFFER)
+				BUFFER.set(buffer);
+		}
+		decode(data, start, end, buffer, 0);
+		return IuJson.parse(new ByteArrayInputStream(buffer, 0, length)).asJsonObject();
+	}
+
+	/**
+	 * Gets the number of bytes encoded by a range of Base64 URL characters.
+	 * 
+	 * @param data  encoded data
+	 * @param start start offset, inclusive
+	 * @param end   end offset, exclusive
+	 * @return decoded length
+	 * @throws IllegalArgumentException if the range is not valid Base64 URL
+	 */
+	static int decodedLength(CharSequence data, int start, int end) {
+		var length = end - start;
+		var padding = 0;
+		while (length > 0 //
+				&& data.charAt(start + length - 1) == '=') {
+			length--;
+			padding++;
+		}
+
+		if (length % 4 == 1 //
+				|| (padding > 0 //
+						&& (padding > 2 || (length + padding) % 4 != 0)))
+			throw new IllegalArgumentException("Invalid Base64 URL encoded length");
+
+		return length * 3 / 4;
+	}
+
+	/**
+	 * Decodes a range of Base64 URL characters.
+	 * 
+	 * @param data   encoded data
+	 * @param start  start offset, inclusive
+	 * @param end    end offset, exclusive
+	 * @param buffer receives decoded data
+	 * @param offset offset in buffer to start writing decoded data
+	 * @return number of bytes written
+	 * @throws IllegalArgumentException if the range is not valid Base64 URL
+	 */
+	static int decode(CharSequence data, int start, int end, byte[] buffer, int offset) {
+		final var length = decodedLength(data, start, end);
+		final var limit = offset + length;
+		var bits = 0;
+		var bitCount = 0;
+		for (var i = start; offset < limit; i++) {
+			final var c = data.charAt(i);
+			final var value = c < INDEX.length ? INDEX[c] : -1;
+			if (value < 0)
+				throw new IllegalArgumentException("Illegal Base64 URL character at offset " + i);
+
+			bits = ((bits << 6) | value) & 0xffff;
+			bitCount += 6;
+			if (bitCount >= 8) {
+				bitCount -= 8;
+				buffer[offset++] = (byte) (bits >> bitCount);
+			}
+		}
+		return length;
+	}
+
+}
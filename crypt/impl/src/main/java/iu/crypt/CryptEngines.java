@@ -0,0 +1,215 @@
+/*
+ * Copyright © 2026 Indiana University
+ * All rights reserved.
+ *
+ * BSD 3-Clause License
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ * 
+ * - Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package iu.crypt;
+
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.spec.MGF1ParameterSpec;
+import java.security.spec.PSSParameterSpec;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.crypto.Cipher;
+import javax.crypto.KeyAgreement;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import edu.iu.crypt.WebKey.Algorithm;
+
+/**
+ * Caches JCA engine instances per thread, to avoid provider lookup and engine
+ * construction on each cryptographic operation.
+ * 
+ * <p>
+ * {@link Cipher}, {@link KeyAgreement}, and {@link MessageDigest} instances are
+ * returned uninitialized, or in the state left by their last use on the current
+ * thread; callers <em>must</em> initialize or reset the engine before each
+ * use. {@link Mac} and {@link Signature} engines are only used internally, and
+ * are initialized with the caller's key on each operation; no reference to a
+ * key is retained by the cache, and changes to a key's content always take
+ * effect.
+ * </p>
+ */
+final class CryptEngines {
+
+	@FunctionalInterface
+	private interface Factory<T> {
+		T create(String algorithm) throws GeneralSecurityException;
+	}
+
+	private static final ThreadLocal<Map<String, Object>> ENGINES = ThreadLocal.withInitial(HashMap::new);
+
+	private CryptEngines() {
+	}
+
+	/**
+	 * Gets a {@link Cipher} for the current thread.
+	 * 
+	 * @param transformation JCE cipher transformation
+	 * @return {@link Cipher}; <em>must</em> be initialized before use
+	 * @throws GeneralSecurityException if the transformation is not supported
+	 */
+	static Cipher cipher(String transformation) throws GeneralSecurityException {
+		return engine("Cipher", transformation, Cipher::getInstance);
+	}
+
+	/**
+	 * Gets a {@link KeyAgreement} for the current thread.
+	 * 
+	 * @param algorithm JCE key agreement algorithm
+	 * @return {@link KeyAgreement}; <em>must</em> be initialized before use
+	 * @throws GeneralSecurityException if the algorithm is not supported
+	 */
+	static KeyAgreement keyAgreement(String algorithm) throws GeneralSecurityException {
+		return engine("KeyAgreement", algorithm, KeyAgreement::getInstance);
+	}
+
+	/**
+	 * Gets a {@link MessageDigest} for the current thread.
+	 * 
+	 * @param algorithm JCE message digest algorithm
+	 * @return {@link MessageDigest}; reset
+	 * @throws GeneralSecurityException if the algorithm is not supported
+	 */
+	static MessageDigest digest(String algorithm) throws GeneralSecurityException {
+		final var digest = engine("MessageDigest", algorithm, MessageDigest::getInstance);
+		digest.reset();
+		return digest;
+	}
+
+	/**
+	 * Computes a message authentication code.
+	 * 
+	 * @param algorithm JCE MAC algorithm
+	 * @param key       secret key
+	 * @param data      data to authenticate
+	 * @return message authentication code
+	 * @throws GeneralSecurityException if the algorithm is not supported or the
+	 *                                  key is invalid
+	 */
+	static byte[] mac(String algorithm, byte[] key, byte[] data) throws GeneralSecurityException {
+		final var mac = engine("Mac", algorithm, Mac::getInstance);
+		mac.init(new SecretKeySpec(key, algorithm));
+		return mac.doFinal(data);
+	}
+
+	/**
+	 * Gets a {@link Mac} for the current thread, initialized for incremental use.
+	 * 
+	 * @param algorithm JCE MAC algorithm
+	 * @param key       secret key
+	 * @return {@link Mac}; initialized with {@code key}
+	 * @throws GeneralSecurityException if the algorithm is not supported or the
+	 *                                  key is invalid
+	 */
+	static Mac mac(String algorithm, SecretKeySpec key) throws GeneralSecurityException {
+		final var mac = engine("Mac", algorithm, Mac::getInstance);
+		mac.init(key);
+		return mac;
+	}
+
+	/**
+	 * Signs data.
+	 * 
+	 * @param algorithm signature algorithm
+	 * @param key       private key
+	 * @param data      data to sign
+	 * @return JCE formatted signature
+	 * @throws GeneralSecurityException if the algorithm is not supported or the
+	 *                                  key is invalid
+	 */
+	static byte[] sign(Algorithm algorithm, PrivateKey key, byte[] data) throws GeneralSecurityException {
+		final var sig = signature(algorithm);
+		sig.initSign(key);
+		sig.update(data);
+		return sig.sign();
+	}
+
+	/**
+	 * Verifies a signature.
+	 * 
+	 * @param algorithm signature algorithm
+	 * @param key       public key
+	 * @param data      signed data
+	 * @param signature JCE formatted signature
+	 * @return true if the signature is valid
+	 * @throws GeneralSecurityException if the algorithm is not supported, the key
+	 *                                  is invalid, or the signature is malformed
+	 */
+	static boolean verify(Algorithm algorithm, PublicKey key, byte[] data, byte[] signature)
+			throws GeneralSecurityException {
+		final var sig = signature(algorithm);
+		sig.initVerify(key);
+		sig.update(data);
+		return sig.verify(signature);
+	}
+
+	private static Signature signature(Algorithm algorithm) throws GeneralSecurityException {
+		return engine("Signature", algorithm.name(), a -> {
+			final var sig = Signature.getInstance(algorithm.algorithm);
+			switch (algorithm) {
+			case PS256:
+				sig.setParameter(new PSSParameterSpec(MGF1ParameterSpec.SHA256.getDigestAlgorithm(), "MGF1",
+						MGF1ParameterSpec.SHA256, algorithm.size / 8, 1));
+				break;
+			case PS384:
+				sig.setParameter(new PSSParameterSpec(MGF1ParameterSpec.SHA384.getDigestAlgorithm(), "MGF1",
+						MGF1ParameterSpec.SHA384, algorithm.size / 8, 1));
+				break;
+			case PS512:
+				sig.setParameter(new PSSParameterSpec(MGF1ParameterSpec.SHA512.getDigestAlgorithm(), "MGF1",
+						MGF1ParameterSpec.SHA512, algorithm.size / 8, 1));
+				break;
+			default:
+				break;
+			}
+			return sig;
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T engine(String type, String algorithm, Factory<T> factory)
+			throws GeneralSecurityException {
+		final var engines = ENGINES.get();
+		final var name = type + '/' + algorithm;
+		var engine = (T) engines.get(name);
+		if (engine == null) {
+			engine = factory.create(algorithm);
+			engines.put(name, engine);
+		}
+		return engine;
+	}
+
+}
@@ -54,7 +54,6 @@ import edu.iu.crypt.WebKey.Type;
 import edu.iu.crypt.WebSignature;
 import edu.iu.crypt.WebSignedPayload;
 import iu.crypt.spi.IuCryptSpi;
-import jakarta.json.JsonObject;
 
 /**
  * {@link IuCryptSpi} implementation.
@@ -80,13 +79,11 @@ public class CryptSpi implements IuCryptSpi {
 
 	@Override
 	public WebCryptoHeader getProtectedHeader(String serialized) {
-		final JsonObject protectedHeader;
 		if (serialized.charAt(0) == '{')
-			protectedHeader = IuJson.parse(serialized).asJsonObject().getJsonObject("protected");
+			return CryptJsonAdapters.JOSE
+					.fromJson(IuJson.parse(serialized).asJsonObject().getJsonObject("protected"));
 		else
-			protectedHeader = CompactEncoded.getProtectedHeader(serialized);
-
-		return CryptJsonAdapters.JOSE.fromJson(protectedHeader);
+			return CompactEncoded.getProtectedJose(serialized);
 	}
 
 	@Override
@@ -109,6 +106,11 @@ public class CryptSpi implements IuCryptSpi {
 		return Jwk.readJwks(jwks);
 	}
 
+	@Override
+	public WebKey readJwk(URI jwks, String keyId) {
+		return Jwk.readJwk(jwks, keyId);
+	}
+
 	@Override
 	public Iterable<? extends WebKey> readJwks(InputStream jwks) {
 		return Jwk.readJwks(jwks);
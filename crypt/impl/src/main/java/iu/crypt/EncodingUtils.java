@@ -32,6 +32,7 @@
 package iu.crypt;
 
 import java.nio.ByteBuffer;
+import java.security.MessageDigest;
 
 /**
  * Provides basic internal binary encoding behavior for JSON web crypto
@@ -82,6 +83,20 @@ class EncodingUtils {
 		buffer.put(data);
 	}
 
+	/**
+	 * Updates a {@link MessageDigest} with length-prefixed data, so that
+	 * consecutive fields can't be shifted into one another.
+	 * 
+	 * @param data   data to digest
+	 * @param digest {@link MessageDigest}
+	 */
+	static void digestFragment(byte[] data, MessageDigest digest) {
+		final var length = ByteBuffer.wrap(new byte[4]);
+		bigEndian(data.length, length);
+		digest.update(length.array());
+		digest.update(data);
+	}
+
 	/**
 	 * Gets the hash input data for one round of the <a href=
 	 * "https://nvlpubs.nist.gov/nistpubs/SpecialPublications/NIST.SP.800-56Ar3.pdf">NIST.800-56A
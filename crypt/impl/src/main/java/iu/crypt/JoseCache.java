@@ -0,0 +1,215 @@
+/*
+ * Copyright © 2026 Indiana University
+ * All rights reserved.
+ *
+ * BSD 3-Clause License
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ * 
+ * - Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package iu.crypt;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import edu.iu.IuRuntimeEnvironment;
+import edu.iu.crypt.WebCryptoHeader.Param;
+import jakarta.json.JsonObject;
+
+/**
+ * Bounded cache of parsed protected headers, keyed by encoded header segment.
+ * 
+ * <p>
+ * Enabled by the {@code iu.crypt.joseCacheSize} runtime property, which limits
+ * the number of cached headers. Entries expire after
+ * {@code iu.crypt.joseCacheTtl}, as an {@link Duration#parse(CharSequence)
+ * ISO-8601 duration} (default 5 minutes).
+ * </p>
+ * 
+ * <p>
+ * A cached header is only verified once, when {@link ProtectedHeader#jose()} is
+ * first called. Headers are never cached if verification depends on more than
+ * the header content: headers that reference a remote key by {@code jku} or
+ * {@code x5u}, so resolution of those keys remains subject to the key set and
+ * certificate caches; headers with a certificate chain, so each use verifies
+ * the chain; and headers with {@link Jose.Extension extended parameters}, so
+ * extension verification runs for every token.
+ * </p>
+ */
+final class JoseCache {
+
+	/**
+	 * Parsed protected header.
+	 */
+	static final class ProtectedHeader {
+		private final JsonObject json;
+		private final Instant expires;
+		private volatile Jose jose;
+
+		private ProtectedHeader(JsonObject json, Instant expires) {
+			this.json = json;
+			this.expires = expires;
+		}
+
+		/**
+		 * Gets the protected header parameters.
+		 * 
+		 * @return protected header parameters
+		 */
+		JsonObject json() {
+			return json;
+		}
+
+		/**
+		 * Gets the JOSE header, verified and created on first use.
+		 * 
+		 * @return {@link Jose}
+		 */
+		Jose jose() {
+			var jose = this.jose;
+			if (jose == null)
+				this.jose = jose = new Jose(json);
+			return jose;
+		}
+	}
+
+	private final Map<String, ProtectedHeader> headers;
+	private final Duration timeToLive;
+	private final Supplier<Instant> clock;
+
+	/**
+	 * Creates a header cache from the {@code iu.crypt.joseCacheSize} and
+	 * {@code iu.crypt.joseCacheTtl} runtime properties.
+	 * 
+	 * @return {@link JoseCache}; disabled if {@code iu.crypt.joseCacheSize} is not
+	 *         set
+	 */
+	static JoseCache configure() {
+		return new JoseCache(
+				Objects.requireNonNullElse(
+						IuRuntimeEnvironment.envOptional("iu.crypt.joseCacheSize", Integer::parseInt), 0),
+				Objects.requireNonNullElse(IuRuntimeEnvironment.envOptional("iu.crypt.joseCacheTtl", Duration::parse),
+						Duration.ofMinutes(5L)),
+				Instant::now);
+	}
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param maxSize    maximum number of cached headers; 0 to disable
+	 * @param timeToLive maximum time to cache a header
+	 * @param clock      supplies the current time
+	 */
+	JoseCache(int maxSize, Duration timeToLive, Supplier<Instant> clock) {
+		this.timeToLive = timeToLive;
+		this.clock = clock;
+		if (maxSize <= 0)
+			headers = null;
+		else
+			headers = new LinkedHashMap<>(16, .75f, true) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, ProtectedHeader> eldest) {
+					return size() > maxSize;
+				}
+			};
+	}
+
+	/**
+	 * Gets a protected header, unless a parsed header is cached.
+	 * 
+	 * @param data  compact serialized data
+	 * @param start start offset of the encoded header segment, inclusive
+	 * @param end   end offset of the encoded header segment, exclusive
+	 * @return {@link ProtectedHeader}
+	 */
+	ProtectedHeader get(CharSequence data, int start, int end) {
+		if (headers == null)
+			return parse(data, start, end, null);
+
+		final var encoded = data.subSequence(start, end).toString();
+		final var now = clock.get();
+		synchronized (headers) {
+			final var header = headers.get(encoded);
+			if (header != null)
+				if (header.expires.isAfter(now))
+					return header;
+				else
+					headers.remove(encoded);
+		}
+
+		final var header = parse(data, start, end, now.plus(timeToLive));
+		if (isCacheable(header.json))
+			synchronized (headers) {
+				headers.put(encoded, header);
+			}
+		return header;
+	}
+
+	/**
+	 * Gets the number of cached headers.
+	 * 
+	 * @return number of cached headers
+	 */
+	int size() {
+		synchronized (headers) {
+			return headers.size();
+		}
+	}
+
+	/**
+	 * Determines whether or not verifying a protected header depends only on its
+	 * content.
+	 * 
+	 * @param json protected header parameters
+	 * @return false if the header references a remote key, includes a certificate
+	 *         chain, or includes an extended parameter; else true
+	 */
+	static boolean isCacheable(JsonObject json) {
+		for (final var paramName : json.keySet())
+			if (Param.from(paramName) == null)
+				return false;
+
+		if (json.containsKey("jku") //
+				|| json.containsKey("x5u") //
+				|| json.containsKey("x5c"))
+			return false;
+
+		final var jwk = json.get("jwk");
+		return !(jwk instanceof JsonObject) //
+				|| (!((JsonObject) jwk).containsKey("x5u") //
+						&& !((JsonObject) jwk).containsKey("x5c"));
+	}
+
+	private static ProtectedHeader parse(CharSequence data, int start, int end, Instant expires) {
+		return new ProtectedHeader(CompactToken.parseJson(data, start, end), expires);
+	}
+
+}
@@ -31,29 +31,20 @@
  */
 package iu.crypt;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.nio.ByteBuffer;
-import java.security.SecureRandom;
-import java.util.Arrays;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.zip.Deflater;
-import java.util.zip.DeflaterOutputStream;
-import java.util.zip.Inflater;
-import java.util.zip.InflaterOutputStream;
-
-import javax.crypto.AEADBadTagException;
-import javax.crypto.Cipher;
-import javax.crypto.Mac;
-import javax.crypto.spec.GCMParameterSpec;
-import javax.crypto.spec.IvParameterSpec;
-import javax.crypto.spec.SecretKeySpec;
 
 import edu.iu.IuException;
 import edu.iu.IuIterable;
@@ -66,6 +57,7 @@ import edu.iu.crypt.WebCryptoHeader.Param;
 import edu.iu.crypt.WebEncryption;
 import edu.iu.crypt.WebKey;
 import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
 import jakarta.json.JsonString;
 import jakarta.json.JsonValue;
 
@@ -96,89 +88,6 @@ public class Jwe implements WebEncryption {
 			return IuJson.string(jwe.compact());
 	});
 
-	private static class AesCbcHmac {
-		private static byte[] macKey(byte[] cek) {
-			return Arrays.copyOf(cek, cek.length / 2);
-		}
-
-		private static byte[] encKey(byte[] cek) {
-			return Arrays.copyOfRange(cek, cek.length / 2, cek.length);
-		}
-
-		private final byte[] initializationVector;
-		private final byte[] content;
-		private final byte[] cipherText;
-		private final byte[] authenticationTag;
-		private final byte[] macKey;
-		private final byte[] encKey;
-
-		private AesCbcHmac(Encryption encryption, byte[] initializationVector, byte[] cipherText,
-				byte[] authenticationTag, byte[] aad, byte[] cek) {
-			macKey = macKey(cek);
-			encKey = encKey(cek);
-
-			final var macInput = ByteBuffer
-					.wrap(new byte[aad.length + initializationVector.length + cipherText.length + 8]);
-			macInput.put(aad);
-			macInput.put(initializationVector);
-			macInput.put(cipherText);
-			EncodingUtils.bigEndian((long) aad.length * 8L, macInput);
-
-			if (!Arrays.equals(authenticationTag, 0, authenticationTag.length, IuException.unchecked(() -> {
-				final var mac = Mac.getInstance(encryption.mac);
-				mac.init(new SecretKeySpec(macKey, encryption.mac));
-				return mac.doFinal(macInput.array());
-			}), 0, cek.length / 2))
-				throw new IllegalStateException("Invalid authentication tag",
-						new AEADBadTagException("AES/CBC/HMAC verification failure"));
-
-			this.initializationVector = initializationVector;
-			this.cipherText = cipherText;
-			this.authenticationTag = authenticationTag;
-
-			content = IuException.unchecked(() -> {
-				final var messageCipher = Cipher.getInstance(encryption.algorithm);
-
-				if (initializationVector.length != messageCipher.getBlockSize())
-					throw new IllegalArgumentException("invalid initialization vector");
-
-				messageCipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(encKey, "AES"),
-						new IvParameterSpec(initializationVector));
-				return messageCipher.doFinal(cipherText);
-			});
-		}
-
-		private AesCbcHmac(Encryption encryption, byte[] content, byte[] cek, byte[] aad) {
-			this.content = content;
-			macKey = macKey(cek);
-			encKey = encKey(cek);
-
-			final var messageCipher = IuException.unchecked(() -> Cipher.getInstance(encryption.algorithm));
-			initializationVector = new byte[messageCipher.getBlockSize()];
-			new SecureRandom().nextBytes(initializationVector);
-
-			cipherText = IuException.unchecked(() -> {
-				messageCipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(encKey, "AES"),
-						new IvParameterSpec(initializationVector));
-				return messageCipher.doFinal(content);
-			});
-
-			final var macInput = ByteBuffer
-					.wrap(new byte[aad.length + initializationVector.length + cipherText.length + 8]);
-			macInput.put(aad);
-			macInput.put(initializationVector);
-			macInput.put(cipherText);
-			EncodingUtils.bigEndian((long) aad.length * 8L, macInput);
-
-			authenticationTag = IuException.unchecked(() -> {
-				final var mac = Mac.getInstance(encryption.mac);
-				mac.init(new SecretKeySpec(macKey, encryption.mac));
-				final var hash = mac.doFinal(macInput.array());
-				return Arrays.copyOf(hash, cek.length / 2);
-			});
-		}
-	}
-
 	private static Map<String, JsonValue> createSharedHeader(Iterable<JweRecipient> recipients) {
 		Map<String, JsonValue> sharedHeader = null;
 		for (final var recipient : recipients) {
@@ -217,9 +126,12 @@ public class Jwe implements WebEncryption {
 	 * @param contentEncryptionKey content encryption key
 	 * @param additionalData       AEAD additional authentication data
 	 * @param in                   provides the plain text data to be encrypted
+	 * @param out                  receives the serialized message as content is
+	 *                             encrypted; null to hold cipher text in memory
 	 */
 	Jwe(Encryption encryption, boolean deflate, boolean compact, Set<String> protectedParameters,
-			Iterable<JweRecipient> recipients, byte[] contentEncryptionKey, byte[] additionalData, InputStream in) {
+			Iterable<JweRecipient> recipients, byte[] contentEncryptionKey, byte[] additionalData, InputStream in,
+			OutputStream out) {
 		this.encryption = encryption;
 		this.deflate = deflate;
 		this.additionalData = additionalData;
@@ -263,19 +175,6 @@ public class Jwe implements WebEncryption {
 
 		this.recipients = IuIterable.stream(recipients).toArray(JweRecipient[]::new);
 
-		// 5.1#11 compress content if requested
-		final var content = IuException.unchecked(() -> {
-			if (deflate) {
-				final var deflatedContent = new ByteArrayOutputStream();
-				try (final var d = new DeflaterOutputStream(deflatedContent,
-						new Deflater(Deflater.DEFAULT_COMPRESSION, true /* <= RFC-1951 compliant */))) {
-					IuStream.copy(in, d);
-				}
-				return deflatedContent.toByteArray();
-			} else
-				return IuStream.read(in);
-		});
-
 		// 5.1#13 encode protected header
 		final var aadBuilder = new StringBuilder();
 		if (protectedHeader != null)
@@ -287,33 +186,20 @@ public class Jwe implements WebEncryption {
 		final var aad = IuText.ascii(aadBuilder.toString());
 
 		// 5.1#15 encrypt content
-		if (encryption.mac != null) {
-			final var aesCbcHmac = new AesCbcHmac(encryption, content, contentEncryptionKey, aad);
-			initializationVector = aesCbcHmac.initializationVector;
-			cipherText = aesCbcHmac.cipherText;
-			authenticationTag = aesCbcHmac.authenticationTag;
+		initializationVector = JweContentCipher.initializationVector(encryption);
+		if (out == null) {
+			final var content = IuException.unchecked(() -> IuStream.read(in));
+			final var encrypted = new ByteArrayOutputStream();
+			authenticationTag = IuException.unchecked(() -> JweContentCipher.encrypt(encryption, contentEncryptionKey,
+					initializationVector, aad, deflate, new ByteArrayInputStream(content), encrypted, false));
+			cipherText = encrypted.toByteArray();
+			verifyExtensions();
 		} else {
-			// GCM w/ 96-bit initialization vector
-			initializationVector = new byte[12]; // 96 bits = 12 bytes
-			new SecureRandom().nextBytes(initializationVector);
-
-			final var encryptedData = IuException.unchecked(() -> {
-				final var gcmSpec = new GCMParameterSpec(128, initializationVector);
-				final var messageCipher = Cipher.getInstance(encryption.algorithm);
-				messageCipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(contentEncryptionKey, "AES"), gcmSpec);
-				messageCipher.updateAAD(aad);
-				return messageCipher.doFinal(content);
-			});
-
-			// GCM Cipher.doFinal() returns (cipherText || authenticationTag)
-			// 16 = 128-bit authenticationTag (from GCMParameterSpec), in bytes
-			final var endOfTag = encryptedData.length;
-			final var startOfTag = endOfTag - 16;
-			cipherText = Arrays.copyOf(encryptedData, startOfTag);
-			authenticationTag = Arrays.copyOfRange(encryptedData, startOfTag, endOfTag);
+			// verify before writing, so a rejected message is never partially sent
+			cipherText = null;
+			verifyExtensions();
+			authenticationTag = IuException.unchecked(() -> stream(compact, contentEncryptionKey, aad, in, out));
 		}
-
-		verifyExtensions();
 	}
 
 	/**
@@ -342,17 +228,14 @@ public class Jwe implements WebEncryption {
 			additionalData = IuJson.get(parsed, "aad", CryptJsonAdapters.B64URL);
 
 		} else {
-			final var i = CompactEncoded.compact(jwe);
-			protectedHeader = (JsonObject) IuJson.parse(IuText.utf8(IuText.base64(i.next())));
+			final var compact = new CompactToken(jwe, 5);
+			protectedHeader = compact.protectedHeader();
 			unprotected = null;
 			recipients = new JweRecipient[] {
-					new JweRecipient(IuObject.convert(protectedHeader, Jose::new), IuText.base64Url(i.next())) };
-			initializationVector = IuText.base64Url(i.next());
-			cipherText = IuText.base64Url(i.next());
-			authenticationTag = IuText.base64Url(i.next());
-
-			if (i.hasNext())
-				throw new IllegalArgumentException("Invalid compact format, found more than 5 segments");
+					new JweRecipient(compact.jose(), compact.decode(1)) };
+			initializationVector = compact.decode(2);
+			cipherText = compact.decode(3);
+			authenticationTag = compact.decode(4);
 			additionalData = null;
 		}
 
@@ -405,15 +288,39 @@ public class Jwe implements WebEncryption {
 		return additionalData;
 	}
 
+	/**
+	 * Orders recipients for CEK decryption, trying those addressed to the
+	 * decrypting key's ID first.
+	 * 
+	 * @param keyId decrypting key ID; may be null
+	 * @return recipients in trial order
+	 */
+	JweRecipient[] trialOrder(String keyId) {
+		if (keyId == null //
+				|| recipients.length == 1)
+			return recipients;
+
+		final var ordered = new JweRecipient[recipients.length];
+		var first = 0;
+		for (final var recipient : recipients)
+			if (keyId.equals(recipient.getHeader().getKeyId()))
+				ordered[first++] = recipient;
+		for (final var recipient : recipients)
+			if (!keyId.equals(recipient.getHeader().getKeyId()))
+				ordered[first++] = recipient;
+		return ordered;
+	}
+
 	@Override
 	public void decrypt(WebKey key, OutputStream out) {
 		byte[] cek = null;
 
 		final var jwk = (Jwk) key;
 		final var wellKnown = jwk.wellKnown();
-		for (var i = 0; cek == null && i < recipients.length; i++)
+		final var candidates = trialOrder(jwk.getKeyId());
+		for (var i = 0; cek == null && i < candidates.length; i++)
 			try {
-				cek = recipients[i].decryptCek(encryption, jwk);
+				cek = candidates[i].decryptCek(encryption, jwk);
 
 				// 5.2#12 record CEK decryption success
 				LOG.fine("CEK decryption successful for " + wellKnown);
@@ -438,44 +345,10 @@ public class Jwe implements WebEncryption {
 		final var aad = IuText.ascii(aadBuilder.toString());
 
 		// 5.2#15 decrypt content
-		final byte[] content;
-		if (encryption.mac != null)
-			content = new AesCbcHmac(encryption, initializationVector, cipherText, authenticationTag, aad, cek).content;
-		else {
-			// GCM Cipher.doFinal() returns (cipherText || authenticationTag)
-			// 16 = 128-bit authenticationTag (from GCMParameterSpec), in bytes
-			final var startOfTag = cipherText.length;
-			final var endOfTag = cipherText.length + authenticationTag.length;
-			final var encryptedData = Arrays.copyOf(cipherText, endOfTag);
-			System.arraycopy(authenticationTag, 0, encryptedData, startOfTag, authenticationTag.length);
-
-			if (initializationVector.length != 12)
-				throw new IllegalArgumentException("invalid initialization vector");
-
-			final var secretKey = new SecretKeySpec(cek, "AES");
-			content = IuException.unchecked(() -> {
-				final var gcmSpec = new GCMParameterSpec(128, initializationVector);
-				final var messageCipher = Cipher.getInstance(encryption.algorithm);
-				messageCipher.init(Cipher.DECRYPT_MODE, secretKey, gcmSpec);
-				messageCipher.updateAAD(aad);
-				return messageCipher.doFinal(encryptedData);
-			});
-		}
-
 		// 5.2#16 decompress content if requested
-		final var plaintext = IuException.unchecked(() -> {
-			if (deflate) {
-				final var inflatedContent = new ByteArrayOutputStream();
-				try (final var d = new InflaterOutputStream(inflatedContent,
-						new Inflater(true /* <= RFC-1951 compliant */))) {
-					d.write(content);
-				}
-				return inflatedContent.toByteArray();
-			} else
-				return content;
-		});
-
-		IuException.unchecked(() -> out.write(plaintext));
+		final var contentEncryptionKey = cek;
+		IuException.unchecked(() -> JweContentCipher.decrypt(encryption, contentEncryptionKey, initializationVector,
+				aad, cipherText, authenticationTag, deflate, out));
 	}
 
 	@Override
@@ -484,16 +357,84 @@ public class Jwe implements WebEncryption {
 				|| additionalData != null)
 			throw new IllegalStateException(
 					"Must have exactly one recipient with no additional authentication data to use JWE compact serialization");
-		final var recipient = recipients[0];
-		return IuText.base64Url(IuText.utf8(Objects.requireNonNullElse(protectedHeader, "").toString())) //
-				+ '.' + Objects.requireNonNullElse(IuText.base64Url(recipient.getEncryptedKey()), "") //
-				+ '.' + IuText.base64Url(initializationVector) //
-				+ '.' + IuText.base64Url(cipherText) //
+		return compactHeader() //
+				+ IuText.base64Url(cipherText) //
 				+ '.' + IuText.base64Url(authenticationTag);
 	}
 
 	@Override
 	public String toString() {
+		final var serializedBuilder = serializedHeader();
+		IuJson.add(serializedBuilder, "cipher_text", () -> cipherText, CryptJsonAdapters.B64URL);
+		IuJson.add(serializedBuilder, "tag", () -> authenticationTag, CryptJsonAdapters.B64URL);
+		IuJson.add(serializedBuilder, "aad", () -> additionalData, CryptJsonAdapters.B64URL);
+		return serializedBuilder.build().toString();
+	}
+
+	/**
+	 * Encrypts content, writing the serialized message to an output stream.
+	 * 
+	 * <p>
+	 * The serialized header is written first, then cipher text is base64url
+	 * encoded to the output stream in chunks as it is produced, followed by the
+	 * authentication tag.
+	 * </p>
+	 * 
+	 * @param compact              true to write compact serialization; false for
+	 *                             JSON
+	 * @param contentEncryptionKey content encryption key
+	 * @param aad                  additional authentication data
+	 * @param in                   provides the plain text data to be encrypted
+	 * @param out                  receives the serialized message
+	 * @return authentication tag
+	 * @throws IOException              if an error occurs reading or writing
+	 *                                  content
+	 * @throws GeneralSecurityException if encryption fails
+	 */
+	private byte[] stream(boolean compact, byte[] contentEncryptionKey, byte[] aad, InputStream in,
+			OutputStream out) throws IOException, GeneralSecurityException {
+		if (compact)
+			out.write(IuText.ascii(compactHeader()));
+		else {
+			final var serializedHeader = serializedHeader().build().toString();
+			out.write(IuText.utf8(
+					serializedHeader.substring(0, serializedHeader.length() - 1) + ",\"cipher_text\":\""));
+		}
+
+		final var encoder = Base64.getUrlEncoder().withoutPadding().wrap(new FilterOutputStream(out) {
+			@Override
+			public void write(byte[] b, int off, int len) throws IOException {
+				out.write(b, off, len);
+			}
+
+			@Override
+			public void close() throws IOException {
+				flush();
+			}
+		});
+		final var tag = JweContentCipher.encrypt(encryption, contentEncryptionKey, initializationVector, aad,
+				deflate, in, encoder, true);
+		encoder.close();
+
+		if (compact)
+			out.write(IuText.ascii('.' + IuText.base64Url(tag)));
+		else {
+			final var trailer = new StringBuilder("\",\"tag\":\"").append(IuText.base64Url(tag)).append('"');
+			if (additionalData != null)
+				trailer.append(",\"aad\":\"").append(IuText.base64Url(additionalData)).append('"');
+			out.write(IuText.ascii(trailer.append('}').toString()));
+		}
+		return tag;
+	}
+
+	private String compactHeader() {
+		return IuText.base64Url(IuText.utf8(Objects.requireNonNullElse(protectedHeader, "").toString())) //
+				+ '.' + Objects.requireNonNullElse(IuText.base64Url(recipients[0].getEncryptedKey()), "") //
+				+ '.' + IuText.base64Url(initializationVector) //
+				+ '.';
+	}
+
+	private JsonObjectBuilder serializedHeader() {
 		final var serializedHeaderBuilder = IuJson.object();
 
 		// 5.1#13 encode protected header
@@ -523,11 +464,7 @@ public class Jwe implements WebEncryption {
 		}
 
 		IuJson.add(serializedHeaderBuilder, "iv", () -> initializationVector, CryptJsonAdapters.B64URL);
-		IuJson.add(serializedHeaderBuilder, "cipher_text", () -> cipherText, CryptJsonAdapters.B64URL);
-		IuJson.add(serializedHeaderBuilder, "tag", () -> authenticationTag, CryptJsonAdapters.B64URL);
-		IuJson.add(serializedHeaderBuilder, "aad", () -> additionalData, CryptJsonAdapters.B64URL);
-
-		return serializedHeaderBuilder.build().toString();
+		return serializedHeaderBuilder;
 	}
 
 	private boolean isUnprotected(String paramName) {
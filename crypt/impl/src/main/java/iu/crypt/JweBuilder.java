@@ -32,11 +32,13 @@
 package iu.crypt;
 
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.ArrayDeque;
 import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import edu.iu.IuObject;
 import edu.iu.crypt.WebCryptoHeader.Param;
@@ -46,6 +48,7 @@ import edu.iu.crypt.WebEncryption.Encryption;
 import edu.iu.crypt.WebKey;
 import edu.iu.crypt.WebKey.Algorithm;
 import edu.iu.crypt.WebKey.Use;
+import iu.crypt.JweRecipientBuilder.EncryptedKeyBuilder;
 
 /**
  * Collects inputs for {@link Jwe} encrypted messages.
@@ -112,8 +115,18 @@ public class JweBuilder implements Builder {
 
 	@Override
 	public WebEncryption encrypt(InputStream in) {
+		return build(in, null);
+	}
+
+	@Override
+	public void encrypt(InputStream in, OutputStream out) {
+		build(in, Objects.requireNonNull(out));
+	}
+
+	private Jwe build(InputStream in, OutputStream out) {
 		byte[] contentEncryptionKey = null;
-		final Queue<JweRecipient> recipients = new ArrayDeque<>();
+		final var builders = new EncryptedKeyBuilder[pendingRecipients.size()];
+		var i = 0;
 		for (final var pendingRecipient : pendingRecipients) {
 			final var builder = pendingRecipient.encryptedKeyBuilder();
 			final var algorithm = Objects.requireNonNull(builder.algorithm(), "Missing algorithm");
@@ -132,9 +145,19 @@ public class JweBuilder implements Builder {
 			else if (contentEncryptionKey == null)
 				contentEncryptionKey = WebKey.ephemeral(encryption).getKey();
 
-			// encrypt before processing header to ensure all headers are populated
-			final var recipient = builder.encrypt(encryption, contentEncryptionKey);
+			builders[i++] = builder;
+		}
+
+		// 5.1#4 encrypt CEK to each recipient; key wrapping is independent per
+		// recipient, so may run in parallel while preserving recipient order
+		final var cek = contentEncryptionKey;
+		final var encryptedRecipients = Stream.of(builders).parallel() //
+				.map(builder -> builder.encrypt(encryption, cek)) //
+				.toArray(JweRecipient[]::new);
 
+		final Queue<JweRecipient> recipients = new ArrayDeque<>();
+		for (final var recipient : encryptedRecipients) {
+			// encrypt before processing header to ensure all headers are populated
 			final var header = recipient.getHeader();
 			final var serializedHeader = header.toJson(a -> true);
 
@@ -147,7 +170,7 @@ public class JweBuilder implements Builder {
 		}
 
 		return new Jwe(encryption, deflate, compact, protectedParameters, recipients, contentEncryptionKey,
-				additionalData, in);
+				additionalData, in, out);
 	}
 
 	/**
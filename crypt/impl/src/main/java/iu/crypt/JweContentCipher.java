@@ -0,0 +1,308 @@
+/*
+ * Copyright © 2026 Indiana University
+ * All rights reserved.
+ *
+ * BSD 3-Clause License
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ * 
+ * - Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package iu.crypt;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterOutputStream;
+
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import edu.iu.IuStream;
+import edu.iu.crypt.WebEncryption.Encryption;
+
+/**
+ * Passes JWE content through a content encryption cipher in chunks, writing
+ * cipher output to a stream as it is produced.
+ * 
+ * <p>
+ * For AES-CBC-HMAC, the HMAC is computed incrementally over the cipher text;
+ * on decrypt, the authentication tag is verified before any plain text is
+ * written. For AES-GCM, the authentication tag is split from the final block
+ * of cipher output.
+ * </p>
+ * 
+ * <p>
+ * When content is streamed to or from caller-supplied streams, caller code may
+ * run between {@link Cipher#update(byte[], int, int)} calls; dedicated JCE
+ * engines are used in that case instead of the per-thread engines from
+ * {@link CryptEngines}.
+ * </p>
+ */
+final class JweContentCipher extends OutputStream {
+
+	/**
+	 * Size of each chunk of cipher text passed to the cipher on decrypt, and of
+	 * the deflate buffer on encrypt.
+	 */
+	static final int CHUNK_SIZE = 8192;
+
+	private final byte[] aad;
+	private final boolean encrypt;
+	private final Cipher cipher;
+	private final Mac mac;
+	private final OutputStream out;
+
+	/**
+	 * Generates a random initialization vector.
+	 * 
+	 * @param encryption content encryption algorithm
+	 * @return 96-bit initialization vector for GCM; 128-bit (AES block size) for
+	 *         CBC
+	 */
+	static byte[] initializationVector(Encryption encryption) {
+		final var initializationVector = new byte[encryption.mac == null ? 12 : 16];
+		new SecureRandom().nextBytes(initializationVector);
+		return initializationVector;
+	}
+
+	/**
+	 * Encrypts content.
+	 * 
+	 * @param encryption           content encryption algorithm
+	 * @param cek                  content encryption key
+	 * @param initializationVector initialization vector
+	 * @param aad                  additional authentication data
+	 * @param deflate              true to compress content before encryption
+	 * @param in                   provides the plain text content
+	 * @param out                  receives cipher text
+	 * @param dedicated            true if either stream is supplied by the
+	 *                             caller; false if both are in memory
+	 * @return authentication tag
+	 * @throws IOException              if an error occurs reading or writing
+	 *                                  content
+	 * @throws GeneralSecurityException if encryption fails
+	 */
+	static byte[] encrypt(Encryption encryption, byte[] cek, byte[] initializationVector, byte[] aad,
+			boolean deflate, InputStream in, OutputStream out, boolean dedicated)
+			throws IOException, GeneralSecurityException {
+		final var contentCipher = new JweContentCipher(encryption, true, cek, initializationVector, aad, dedicated,
+				out);
+
+		// 5.1#11 compress content if requested
+		if (deflate) {
+			final var deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true /* <= RFC-1951 compliant */);
+			try {
+				final var d = new DeflaterOutputStream(contentCipher, deflater, CHUNK_SIZE);
+				IuStream.copy(in, d);
+				d.finish();
+			} finally {
+				deflater.end();
+			}
+		} else
+			IuStream.copy(in, contentCipher);
+
+		return contentCipher.doFinal();
+	}
+
+	/**
+	 * Decrypts content.
+	 * 
+	 * <p>
+	 * Cipher text is decrypted in chunks of {@link #CHUNK_SIZE}. Plain text is
+	 * only written to {@code out} once authenticated: AES-CBC-HMAC-SHA2 content
+	 * larger than {@link #CHUNK_SIZE} is verified before decryption and written
+	 * directly; AES-GCM content, and smaller content, is decrypted in memory and
+	 * written after the authentication tag is verified.
+	 * </p>
+	 * 
+	 * @param encryption           content encryption algorithm
+	 * @param cek                  content encryption key
+	 * @param initializationVector initialization vector
+	 * @param aad                  additional authentication data
+	 * @param cipherText           cipher text
+	 * @param authenticationTag    authentication tag
+	 * @param inflate              true to decompress content after decryption
+	 * @param out                  receives plain text content
+	 * @throws IOException              if an error occurs writing content
+	 * @throws GeneralSecurityException if decryption fails
+	 */
+	static void decrypt(Encryption encryption, byte[] cek, byte[] initializationVector, byte[] aad,
+			byte[] cipherText, byte[] authenticationTag, boolean inflate, OutputStream out)
+			throws IOException, GeneralSecurityException {
+		final var dedicated = cipherText.length > CHUNK_SIZE;
+		// GCM doesn't authenticate until doFinal()
+		final var direct = dedicated //
+				&& encryption.mac != null;
+		final var buffer = direct ? null : new ByteArrayOutputStream();
+		final var target = direct ? out : buffer;
+
+		final var inflater = inflate ? new Inflater(true /* <= RFC-1951 compliant */) : null;
+		try {
+			final var i = inflate ? new InflaterOutputStream(target, inflater, CHUNK_SIZE) : null;
+			final var contentCipher = new JweContentCipher(encryption, false, cek, initializationVector, aad,
+					dedicated, inflate ? i : target);
+
+			if (contentCipher.mac != null)
+				contentCipher.verify(cipherText, authenticationTag);
+
+			for (var offset = 0; offset < cipherText.length; offset += CHUNK_SIZE)
+				contentCipher.write(cipherText, offset, Math.min(CHUNK_SIZE, cipherText.length - offset));
+
+			// GCM authentication tag follows cipher text
+			if (contentCipher.mac == null)
+				contentCipher.write(authenticationTag);
+
+			contentCipher.doFinal();
+
+			// 5.2#16 decompress content if requested
+			if (inflate)
+				i.finish();
+		} finally {
+			if (inflate)
+				inflater.end();
+		}
+
+		if (buffer != null)
+			buffer.writeTo(out);
+	}
+
+	/**
+	 * Initializes the content encryption cipher.
+	 * 
+	 * @param encryption           content encryption algorithm
+	 * @param encrypt              true to encrypt; false to decrypt
+	 * @param cek                  content encryption key
+	 * @param initializationVector initialization vector
+	 * @param aad                  additional authentication data
+	 * @param dedicated            true to use dedicated JCE engines; false to use
+	 *                             per-thread engines from {@link CryptEngines}
+	 * @param out                  receives cipher output
+	 * @throws GeneralSecurityException if the cipher cannot be initialized
+	 */
+	JweContentCipher(Encryption encryption, boolean encrypt, byte[] cek, byte[] initializationVector,
+			byte[] aad, boolean dedicated, OutputStream out) throws GeneralSecurityException {
+		this.aad = aad;
+		this.encrypt = encrypt;
+		this.out = out;
+
+		final var mode = encrypt ? Cipher.ENCRYPT_MODE : Cipher.DECRYPT_MODE;
+		cipher = dedicated ? Cipher.getInstance(encryption.algorithm) : CryptEngines.cipher(encryption.algorithm);
+
+		if (encryption.mac == null) {
+			// GCM w/ 96-bit initialization vector
+			if (initializationVector.length != 12)
+				throw new IllegalArgumentException("invalid initialization vector");
+
+			cipher.init(mode, new SecretKeySpec(cek, "AES"), new GCMParameterSpec(128, initializationVector));
+			cipher.updateAAD(aad);
+			mac = null;
+
+		} else {
+			if (initializationVector.length != cipher.getBlockSize())
+				throw new IllegalArgumentException("invalid initialization vector");
+
+			final var half = cek.length / 2;
+			final var macKey = new SecretKeySpec(cek, 0, half, encryption.mac);
+			if (dedicated) {
+				mac = Mac.getInstance(encryption.mac);
+				mac.init(macKey);
+			} else
+				mac = CryptEngines.mac(encryption.mac, macKey);
+			mac.update(aad);
+			mac.update(initializationVector);
+
+			cipher.init(mode, new SecretKeySpec(cek, half, half, "AES"), new IvParameterSpec(initializationVector));
+		}
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		write(new byte[] { (byte) b }, 0, 1);
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		final var output = cipher.update(b, off, len);
+		if (output != null)
+			emit(output, 0, output.length);
+	}
+
+	private void emit(byte[] b, int off, int len) throws IOException {
+		if (encrypt //
+				&& mac != null)
+			mac.update(b, off, len);
+		out.write(b, off, len);
+	}
+
+	private void verify(byte[] cipherText, byte[] authenticationTag) {
+		mac.update(cipherText);
+		if (!MessageDigest.isEqual(authenticationTag, tag()))
+			throw new IllegalStateException("Invalid authentication tag",
+					new AEADBadTagException("AES/CBC/HMAC verification failure"));
+	}
+
+	private byte[] tag() {
+		final var al = ByteBuffer.wrap(new byte[8]);
+		EncodingUtils.bigEndian((long) aad.length * 8L, al);
+		mac.update(al.array());
+		return Arrays.copyOf(mac.doFinal(), mac.getMacLength() / 2);
+	}
+
+	/**
+	 * Completes the cipher operation.
+	 * 
+	 * @return authentication tag on encrypt; undefined on decrypt
+	 * @throws IOException              if an error occurs writing content
+	 * @throws GeneralSecurityException if the operation fails
+	 */
+	byte[] doFinal() throws IOException, GeneralSecurityException {
+		final var output = cipher.doFinal();
+
+		if (mac != null) {
+			emit(output, 0, output.length);
+			return encrypt ? tag() : null;
+		}
+
+		// GCM Cipher.doFinal() returns (cipherText || authenticationTag) on encrypt
+		// 16 = 128-bit authenticationTag (from GCMParameterSpec), in bytes
+		final var endOfCipherText = encrypt ? output.length - 16 : output.length;
+		emit(output, 0, endOfCipherText);
+		return Arrays.copyOfRange(output, endOfCipherText, output.length);
+	}
+
+}
@@ -64,6 +64,8 @@ public class JweRecipient implements WebEncryptionRecipient {
 		IuObject.assertNotOpen(JweRecipient.class);
 	}
 
+	private static final Pbes2KeyCache PBES2 = Pbes2KeyCache.configure();
+
 	private final Jose header;
 	private final byte[] encryptedKey;
 
@@ -179,10 +181,10 @@ public class JweRecipient implements WebEncryptionRecipient {
 		saltValue.put((byte) 0);
 		saltValue.put(p2s);
 
-		return IuException
+		return PBES2.derive(algorithm, passphrase, p2s, p2c, () -> IuException
 				.unchecked(() -> SecretKeyFactory.getInstance(algorithm.algorithm)
 						.generateSecret(new PBEKeySpec(passphrase.toCharArray(), saltValue.array(), p2c, 128)))
-				.getEncoded();
+				.getEncoded());
 	}
 
 	/**
@@ -230,7 +232,7 @@ public class JweRecipient implements WebEncryptionRecipient {
 			// key wrapping
 			cek = IuException.unchecked(() -> {
 				final var key = new SecretKeySpec(privateKey.getKey(), "AES");
-				final var cipher = Cipher.getInstance(algorithm.algorithm);
+				final var cipher = CryptEngines.cipher(algorithm.algorithm);
 				cipher.init(Cipher.UNWRAP_MODE, key);
 				return ((SecretKey) cipher.unwrap(encryptedKey, "AES", Cipher.SECRET_KEY)).getEncoded();
 			});
@@ -252,7 +254,7 @@ public class JweRecipient implements WebEncryptionRecipient {
 				final var wrappedKey = Arrays.copyOf(encryptedKey, encryptedKey.length + 16);
 				System.arraycopy(tag, 0, wrappedKey, encryptedKey.length, 16);
 
-				final var cipher = Cipher.getInstance(algorithm.algorithm);
+				final var cipher = CryptEngines.cipher(algorithm.algorithm);
 				cipher.init(Cipher.UNWRAP_MODE, key, new GCMParameterSpec(128, iv));
 
 				return ((SecretKey) cipher.unwrap(wrappedKey, "AES", Cipher.SECRET_KEY)).getEncoded();
@@ -261,7 +263,7 @@ public class JweRecipient implements WebEncryptionRecipient {
 			// key encryption
 			cek = IuException.unchecked(() -> {
 				final var rsa = (RSAPrivateKey) privateKey.getPrivateKey();
-				final var keyCipher = Cipher.getInstance(algorithm.algorithm);
+				final var keyCipher = CryptEngines.cipher(algorithm.algorithm);
 				keyCipher.init(Cipher.DECRYPT_MODE, rsa);
 				return keyCipher.doFinal(encryptedKey);
 			});
@@ -270,7 +272,7 @@ public class JweRecipient implements WebEncryptionRecipient {
 			// key agreement with key wrapping
 			cek = IuException.unchecked(() -> {
 				final var key = new SecretKeySpec(agreedUponKey(encryption, privateKey), "AES");
-				final var cipher = Cipher.getInstance("AESWrap");
+				final var cipher = CryptEngines.cipher("AESWrap");
 				cipher.init(Cipher.UNWRAP_MODE, key);
 				return ((SecretKey) cipher.unwrap(encryptedKey, "AES", Cipher.SECRET_KEY)).getEncoded();
 			});
@@ -280,7 +282,7 @@ public class JweRecipient implements WebEncryptionRecipient {
 				// password-based key derivation with key wrapping
 			cek = IuException.unchecked(() -> {
 				final var key = new SecretKeySpec(passphraseDerivedKey(IuText.utf8(privateKey.getKey())), "AES");
-				final var cipher = Cipher.getInstance("AESWrap");
+				final var cipher = CryptEngines.cipher("AESWrap");
 				cipher.init(Cipher.UNWRAP_MODE, key);
 				return ((SecretKey) cipher.unwrap(encryptedKey, "AES", Cipher.SECRET_KEY)).getEncoded();
 			});
@@ -32,14 +32,12 @@
 package iu.crypt;
 
 import java.nio.ByteBuffer;
-import java.security.MessageDigest;
 import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.SecureRandom;
 import java.util.Arrays;
 
 import javax.crypto.Cipher;
-import javax.crypto.KeyAgreement;
 import javax.crypto.SecretKeyFactory;
 import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.PBEKeySpec;
@@ -88,7 +86,7 @@ public class JweRecipientBuilder extends JoseBuilder<JweRecipientBuilder> implem
 			byte[] uinfo, byte[] vinfo, int keyDataLen) {
 
 		final var z = IuException.unchecked(() -> {
-			final var ka = KeyAgreement.getInstance(algorithm);
+			final var ka = CryptEngines.keyAgreement(algorithm);
 			ka.init(privateKey);
 			ka.doPhase(publicKey, true);
 			return ka.generateSecret();
@@ -107,7 +105,7 @@ public class JweRecipientBuilder extends JoseBuilder<JweRecipientBuilder> implem
 		for (var i = 0; i < reps; i++) {
 			final var n = i + 1;
 			// R(n) = H(n || Z || FixedInfo)
-			keyBuffer.put(IuException.unchecked(() -> MessageDigest.getInstance("SHA-256"))
+			keyBuffer.put(IuException.unchecked(() -> CryptEngines.digest("SHA-256"))
 					.digest(EncodingUtils.concatKdf(n, z, /* FixedInfo = */ algId, uinfo, vinfo, keyDataLen)));
 		}
 
@@ -235,7 +233,7 @@ public class JweRecipientBuilder extends JoseBuilder<JweRecipientBuilder> implem
 				// key wrapping
 				encryptedKey = IuException.unchecked(() -> {
 					final var key = new SecretKeySpec(key().getKey(), "AES");
-					final var cipher = Cipher.getInstance(algorithm.algorithm);
+					final var cipher = CryptEngines.cipher(algorithm.algorithm);
 					cipher.init(Cipher.WRAP_MODE, key);
 					return cipher.wrap(new SecretKeySpec(contentEncryptionKey, "AES"));
 				});
@@ -251,7 +249,7 @@ public class JweRecipientBuilder extends JoseBuilder<JweRecipientBuilder> implem
 					new SecureRandom().nextBytes(iv);
 					param(Param.INITIALIZATION_VECTOR, iv);
 
-					final var cipher = Cipher.getInstance(algorithm.algorithm);
+					final var cipher = CryptEngines.cipher(algorithm.algorithm);
 					cipher.init(Cipher.WRAP_MODE, key, new GCMParameterSpec(128, iv));
 					final var wrappedKey = cipher.wrap(new SecretKeySpec(contentEncryptionKey, "AES"));
 
@@ -266,7 +264,7 @@ public class JweRecipientBuilder extends JoseBuilder<JweRecipientBuilder> implem
 			case RSA_OAEP_256:
 				// key encryption
 				encryptedKey = IuException.unchecked(() -> {
-					final var keyCipher = Cipher.getInstance(algorithm.algorithm);
+					final var keyCipher = CryptEngines.cipher(algorithm.algorithm);
 					keyCipher.init(Cipher.ENCRYPT_MODE, key().getPublicKey());
 					return keyCipher.doFinal(contentEncryptionKey);
 				});
@@ -278,7 +276,7 @@ public class JweRecipientBuilder extends JoseBuilder<JweRecipientBuilder> implem
 				// key agreement with key wrapping
 				encryptedKey = IuException.unchecked(() -> {
 					final var key = new SecretKeySpec(agreedUponKey(encryption), "AES");
-					final var cipher = Cipher.getInstance("AESWrap");
+					final var cipher = CryptEngines.cipher("AESWrap");
 					cipher.init(Cipher.WRAP_MODE, key);
 					return cipher.wrap(new SecretKeySpec(contentEncryptionKey, "AES"));
 				});
@@ -290,7 +288,7 @@ public class JweRecipientBuilder extends JoseBuilder<JweRecipientBuilder> implem
 				// passphrase-derived key with key wrapping
 				encryptedKey = IuException.unchecked(() -> {
 					final var key = new SecretKeySpec(passphraseDerivedKey(), "AES");
-					final var cipher = Cipher.getInstance("AESWrap");
+					final var cipher = CryptEngines.cipher("AESWrap");
 					cipher.init(Cipher.WRAP_MODE, key);
 					return cipher.wrap(new SecretKeySpec(contentEncryptionKey, "AES"));
 				});
@@ -50,18 +50,13 @@ import java.security.spec.RSAPrivateKeySpec;
 import java.security.spec.RSAPublicKeySpec;
 import java.security.spec.XECPrivateKeySpec;
 import java.security.spec.XECPublicKeySpec;
-import java.time.Duration;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
-import edu.iu.IuCacheMap;
 import edu.iu.IuException;
 import edu.iu.IuIterable;
 import edu.iu.IuObject;
-import edu.iu.client.IuHttp;
 import edu.iu.client.IuJson;
 import edu.iu.client.IuJsonAdapter;
 import edu.iu.crypt.WebKey;
@@ -76,7 +71,7 @@ public class Jwk extends JsonKeyReference<Jwk> implements WebKey {
 		IuObject.assertNotOpen(JweBuilder.class);
 	}
 
-	private static Map<URI, Jwk[]> JWKS_CACHE = new IuCacheMap<>(Duration.ofMinutes(15L));
+	private static final JwksStore JWKS = JwksStore.configure();
 
 	private static JsonObject writeAsJwks(Iterable<? extends WebKey> webKeys) {
 		return IuJson.object().add("keys", IuJsonAdapter.of(Iterable.class, CryptJsonAdapters.WEBKEY).toJson(webKeys))
@@ -90,12 +85,18 @@ public class Jwk extends JsonKeyReference<Jwk> implements WebKey {
 	 * @return key set
 	 */
 	public static Iterable<Jwk> readJwks(URI uri) {
-		var jwks = JWKS_CACHE.get(uri);
-		if (jwks == null)
-			JWKS_CACHE.put(uri, jwks = IuException.unchecked(() -> IuJsonAdapter
-					.<Stream<Jwk>>of(Stream.class, CryptJsonAdapters.WEBKEY)
-					.fromJson(IuHttp.get(uri, IuHttp.READ_JSON_OBJECT).getJsonArray("keys")).toArray(Jwk[]::new)));
-		return IuIterable.iter(jwks);
+		return IuIterable.iter(JWKS.keys(uri));
+	}
+
+	/**
+	 * Gets a key by ID from a key set.
+	 * 
+	 * @param uri   Key set URI
+	 * @param keyId Key ID
+	 * @return key; null if not found
+	 */
+	public static Jwk readJwk(URI uri, String keyId) {
+		return JWKS.key(uri, keyId);
 	}
 
 	/**
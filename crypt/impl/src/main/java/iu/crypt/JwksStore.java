@@ -0,0 +1,265 @@
+/*
+ * Copyright © 2026 Indiana University
+ * All rights reserved.
+ *
+ * BSD 3-Clause License
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ * 
+ * - Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package iu.crypt;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import edu.iu.IuException;
+import edu.iu.IuObject;
+import edu.iu.IuRuntimeEnvironment;
+import edu.iu.IuUtilityTaskController;
+import edu.iu.client.IuHttp;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+
+/**
+ * Holds JSON Web Key Sets (JWKS) fetched by URI, indexed by key ID.
+ * 
+ * <p>
+ * Key sets expire after {@code iu.crypt.jwksTtl}, as an
+ * {@link Duration#parse(CharSequence) ISO-8601 duration} (default 15 minutes).
+ * A key set accessed after three quarters of its time to live is refreshed in
+ * the background, so callers don't block on a fetch while keys are in use.
+ * </p>
+ * 
+ * <p>
+ * When a key ID is not found, the key set is fetched again to pick up rotated
+ * keys, no more often than {@code iu.crypt.jwksRefetchInterval} (default 1
+ * minute) per URI, whether or not the previous attempt succeeded. Keys that
+ * appear unchanged in a refreshed key set are reused, so a refresh only parses
+ * new keys.
+ * </p>
+ */
+final class JwksStore {
+
+	private static final Logger LOG = Logger.getLogger(JwksStore.class.getName());
+
+	private static class KeySet {
+		private final Instant fetched;
+		private final Jwk[] keys;
+		private final Map<String, Jwk> byKeyId = new HashMap<>();
+		private final Map<JsonValue, Jwk> byJson = new HashMap<>();
+
+		private KeySet(JsonObject jwks, KeySet previous, Instant fetched) {
+			this.fetched = fetched;
+
+			final var serializedKeys = jwks.getJsonArray("keys");
+			keys = new Jwk[serializedKeys.size()];
+			for (var i = 0; i < keys.length; i++) {
+				final var serializedKey = serializedKeys.get(i);
+				var key = previous == null ? null : previous.byJson.get(serializedKey);
+				if (key == null)
+					key = new Jwk(serializedKey.asJsonObject());
+
+				keys[i] = key;
+				byJson.put(serializedKey, key);
+
+				final var keyId = key.getKeyId();
+				if (keyId != null)
+					byKeyId.putIfAbsent(keyId, key);
+			}
+		}
+	}
+
+	private class Entry {
+		private final URI uri;
+		private volatile KeySet keySet;
+		private boolean refreshing;
+		private Instant refreshAttempted;
+		private Instant fetchAttempted;
+
+		private Entry(URI uri) {
+			this.uri = uri;
+		}
+
+		private synchronized KeySet fetch(KeySet observed) {
+			if (keySet != observed)
+				return keySet;
+
+			fetchAttempted = clock.get();
+			return keySet = new KeySet(fetch.apply(uri), observed, fetchAttempted);
+		}
+
+		private synchronized KeySet refetch(KeySet observed) {
+			if (fetchAttempted != null //
+					&& clock.get().isBefore(fetchAttempted.plus(refetchInterval)))
+				return keySet;
+			else
+				return fetch(observed);
+		}
+
+		private void refresh(KeySet observed, Duration remaining) {
+			final var now = clock.get();
+			synchronized (this) {
+				if (refreshing //
+						|| (refreshAttempted != null //
+								&& now.isBefore(refreshAttempted.plus(refetchInterval))))
+					return;
+				refreshing = true;
+				refreshAttempted = now;
+			}
+
+			try {
+				new IuUtilityTaskController<>(() -> {
+					try {
+						fetch(observed);
+					} catch (Throwable e) {
+						LOG.log(Level.INFO, e, () -> "JWKS refresh failed " + uri);
+					} finally {
+						refreshed();
+					}
+					return null;
+				}, Instant.now().plus(remaining));
+			} catch (RuntimeException e) {
+				LOG.log(Level.INFO, e, () -> "JWKS refresh rejected " + uri);
+				refreshed();
+			}
+		}
+
+		private synchronized void refreshed() {
+			refreshing = false;
+			notifyAll();
+		}
+	}
+
+	private final Map<URI, Entry> entries = new ConcurrentHashMap<>();
+	private final Function<URI, JsonObject> fetch;
+	private final Duration timeToLive;
+	private final Duration refreshAfter;
+	private final Duration refetchInterval;
+	private final Supplier<Instant> clock;
+
+	/**
+	 * Creates a key store from the {@code iu.crypt.jwksTtl} and
+	 * {@code iu.crypt.jwksRefetchInterval} runtime properties.
+	 * 
+	 * @return {@link JwksStore}
+	 */
+	static JwksStore configure() {
+		return new JwksStore(uri -> IuException.unchecked(() -> IuHttp.get(uri, IuHttp.READ_JSON_OBJECT)),
+				Objects.requireNonNullElse(IuRuntimeEnvironment.envOptional("iu.crypt.jwksTtl", Duration::parse),
+						Duration.ofMinutes(15L)),
+				Objects.requireNonNullElse(
+						IuRuntimeEnvironment.envOptional("iu.crypt.jwksRefetchInterval", Duration::parse),
+						Duration.ofMinutes(1L)),
+				Instant::now);
+	}
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param fetch           fetches a serialized key set by URI
+	 * @param timeToLive      maximum time to hold a key set
+	 * @param refetchInterval minimum time between fetch attempts for a key set,
+	 *                        when a key ID is not found
+	 * @param clock           supplies the current time
+	 */
+	JwksStore(Function<URI, JsonObject> fetch, Duration timeToLive, Duration refetchInterval,
+			Supplier<Instant> clock) {
+		this.fetch = fetch;
+		this.clock = clock;
+		this.timeToLive = timeToLive;
+		this.refreshAfter = timeToLive.multipliedBy(3L).dividedBy(4L);
+		this.refetchInterval = refetchInterval;
+	}
+
+	/**
+	 * Gets all keys in a key set.
+	 * 
+	 * @param uri key set URI
+	 * @return keys
+	 */
+	Jwk[] keys(URI uri) {
+		return keySet(uri).keys;
+	}
+
+	/**
+	 * Gets a key by ID.
+	 * 
+	 * @param uri   key set URI
+	 * @param keyId key ID
+	 * @return key; null if not found
+	 */
+	Jwk key(URI uri, String keyId) {
+		final var entry = entries.computeIfAbsent(uri, Entry::new);
+		var keySet = keySet(entry);
+		var key = keySet.byKeyId.get(keyId);
+		if (key == null) {
+			keySet = entry.refetch(keySet);
+			key = keySet.byKeyId.get(keyId);
+		}
+		return key;
+	}
+
+	/**
+	 * Waits for a background refresh of a key set to complete.
+	 * 
+	 * @param uri     key set URI
+	 * @param timeout maximum time to wait
+	 * @throws InterruptedException if interrupted while waiting
+	 * @throws TimeoutException     if the refresh doesn't complete before timeout
+	 */
+	void awaitRefresh(URI uri, Duration timeout) throws InterruptedException, TimeoutException {
+		final var entry = entries.get(uri);
+		IuObject.waitFor(entry, () -> !entry.refreshing, timeout);
+	}
+
+	private KeySet keySet(URI uri) {
+		return keySet(entries.computeIfAbsent(uri, Entry::new));
+	}
+
+	private KeySet keySet(Entry entry) {
+		final var keySet = entry.keySet;
+		if (keySet == null)
+			return entry.fetch(null);
+
+		final var age = Duration.between(keySet.fetched, clock.get());
+		if (age.compareTo(timeToLive) >= 0)
+			return entry.fetch(keySet);
+
+		if (age.compareTo(refreshAfter) >= 0)
+			entry.refresh(keySet, timeToLive.minus(age));
+		return keySet;
+	}
+
+}
@@ -33,15 +33,9 @@ package iu.crypt;
 
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
-import java.security.Signature;
-import java.security.spec.MGF1ParameterSpec;
-import java.security.spec.PSSParameterSpec;
 import java.util.Arrays;
 import java.util.Objects;
 
-import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
-
 import edu.iu.IuException;
 import edu.iu.IuObject;
 import edu.iu.IuText;
@@ -60,12 +54,20 @@ import jakarta.json.JsonValue;
 
 /**
  * JSON implementation of {@link WebSignature}.
+ * 
+ * <p>
+ * When the {@code iu.crypt.jwsCacheSize} runtime property is set, successful
+ * verifications are cached, so verifying the same signature with the same key
+ * again skips the cryptographic check until the cache entry expires.
+ * </p>
  */
 public class Jws implements WebSignature {
 	static {
 		IuObject.assertNotOpen(Jws.class);
 	}
 
+	private static final JwsVerificationCache VERIFIED = JwsVerificationCache.configure();
+
 	private final JsonObject protectedHeader;
 	private final Jose header;
 	private final byte[] signature;
@@ -116,41 +118,21 @@ public class Jws implements WebSignature {
 
 	@Override
 	public void verify(byte[] payload, WebKey key) {
+		VERIFIED.verify(this, payload, key, () -> verifySignature(payload, key));
+	}
+
+	private void verifySignature(byte[] payload, WebKey key) {
 		final var algorithm = header.getAlgorithm();
 		final var signingInput = getSignatureInput(payload);
 		final var dataToSign = IuText.utf8(signingInput);
 
 		if (algorithm.algorithm.startsWith("Hmac")) {
-			if (!Arrays.equals(signature, IuException.unchecked(() -> {
-				final var mac = Mac.getInstance(algorithm.algorithm);
-				mac.init(new SecretKeySpec(key.getKey(), "Hmac"));
-				return mac.doFinal(dataToSign);
-			})))
+			if (!Arrays.equals(signature,
+					IuException.unchecked(() -> CryptEngines.mac(algorithm.algorithm, key.getKey(), dataToSign))))
 				throw new IllegalArgumentException(algorithm.algorithm + " verification failed");
-		} else
-			IuException.unchecked(() -> {
-				final var sig = Signature.getInstance(algorithm.algorithm);
-				switch (algorithm) {
-				case PS256:
-					sig.setParameter(new PSSParameterSpec(MGF1ParameterSpec.SHA256.getDigestAlgorithm(), "MGF1",
-							MGF1ParameterSpec.SHA256, algorithm.size / 8, 1));
-					break;
-				case PS384:
-					sig.setParameter(new PSSParameterSpec(MGF1ParameterSpec.SHA384.getDigestAlgorithm(), "MGF1",
-							MGF1ParameterSpec.SHA384, algorithm.size / 8, 1));
-					break;
-				case PS512:
-					sig.setParameter(new PSSParameterSpec(MGF1ParameterSpec.SHA512.getDigestAlgorithm(), "MGF1",
-							MGF1ParameterSpec.SHA512, algorithm.size / 8, 1));
-					break;
-				default:
-					break;
-				}
-				sig.initVerify(key.getPublicKey());
-				sig.update(dataToSign);
-				if (!sig.verify(toJce(key.getType(), algorithm, signature)))
-					throw new IllegalArgumentException(algorithm.algorithm + " verification failed");
-			});
+		} else if (!IuException.unchecked(() -> CryptEngines.verify(algorithm, key.getPublicKey(), dataToSign,
+				toJce(key.getType(), algorithm, signature))))
+			throw new IllegalArgumentException(algorithm.algorithm + " verification failed");
 	}
 
 	/**
@@ -310,6 +292,15 @@ public class Jws implements WebSignature {
 		IuJson.add(json, "signature", () -> signature, CryptJsonAdapters.B64URL);
 	}
 
+	/**
+	 * Gets the protected header.
+	 * 
+	 * @return protected header; null if not present
+	 */
+	JsonObject protectedHeader() {
+		return protectedHeader;
+	}
+
 	/**
 	 * Gets the signature input.
 	 * 
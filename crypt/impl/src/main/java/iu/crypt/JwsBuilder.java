@@ -33,10 +33,7 @@ package iu.crypt;
 
 import java.io.InputStream;
 import java.net.URI;
-import java.security.Signature;
 import java.security.cert.X509Certificate;
-import java.security.spec.MGF1ParameterSpec;
-import java.security.spec.PSSParameterSpec;
 import java.util.ArrayDeque;
 import java.util.Collections;
 import java.util.Deque;
@@ -46,9 +43,6 @@ import java.util.Objects;
 import java.util.Queue;
 import java.util.Set;
 
-import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
-
 import edu.iu.IuException;
 import edu.iu.IuIterable;
 import edu.iu.IuObject;
@@ -111,18 +105,14 @@ public class JwsBuilder implements Builder<JwsBuilder> {
 
 			return new JwsSignedPayload(payload, signatures);
 		} else {
-			final var compact = CompactEncoded.compact(jws);
-			final var protectedHeader = Objects
-					.requireNonNull(IuJson.parse(IuText.utf8(IuText.base64Url(compact.next()))),
-							"protected header required")
-					.asJsonObject();
-			final var payload = IuText.base64Url(compact.next());
-			final var signature = IuText.base64Url(compact.next());
-			if (compact.hasNext())
-				throw new IllegalArgumentException("Unexpected content after JWS signature");
+			final var compact = new CompactToken(jws, 3);
+			final var protectedHeader = Objects.requireNonNull(compact.protectedHeader(),
+					"protected header required");
+			final var payload = compact.decode(1);
+			final var signature = compact.decode(2);
 
 			return new JwsSignedPayload(payload,
-					IuIterable.iter(new Jws(protectedHeader, new Jose(protectedHeader), signature)));
+					IuIterable.iter(new Jws(protectedHeader, compact.jose(), signature)));
 		}
 	}
 
@@ -311,36 +301,12 @@ public class JwsBuilder implements Builder<JwsBuilder> {
 			final var dataToSign = IuText.utf8(signingInput);
 
 			final byte[] signature;
-			if (algorithm.algorithm.startsWith("Hmac")) {
-				signature = IuException.unchecked(() -> {
-					final var mac = Mac.getInstance(algorithm.algorithm);
-					mac.init(new SecretKeySpec(key.getKey(), "Hmac"));
-					return mac.doFinal(dataToSign);
-				});
-			} else
-				signature = IuException.unchecked(() -> {
-					final var sig = Signature.getInstance(algorithm.algorithm);
-					switch (algorithm) {
-					case PS256:
-						sig.setParameter(new PSSParameterSpec(MGF1ParameterSpec.SHA256.getDigestAlgorithm(), "MGF1",
-								MGF1ParameterSpec.SHA256, algorithm.size / 8, 1));
-						break;
-					case PS384:
-						sig.setParameter(new PSSParameterSpec(MGF1ParameterSpec.SHA384.getDigestAlgorithm(), "MGF1",
-								MGF1ParameterSpec.SHA384, algorithm.size / 8, 1));
-						break;
-					case PS512:
-						sig.setParameter(new PSSParameterSpec(MGF1ParameterSpec.SHA512.getDigestAlgorithm(), "MGF1",
-								MGF1ParameterSpec.SHA512, algorithm.size / 8, 1));
-						break;
-
-					default:
-						break;
-					}
-					sig.initSign(key.getPrivateKey());
-					sig.update(dataToSign);
-					return Jws.fromJce(key.getType(), algorithm, sig.sign());
-				});
+			if (algorithm.algorithm.startsWith("Hmac"))
+				signature = IuException
+						.unchecked(() -> CryptEngines.mac(algorithm.algorithm, key.getKey(), dataToSign));
+			else
+				signature = Jws.fromJce(key.getType(), algorithm, IuException
+						.unchecked(() -> CryptEngines.sign(algorithm, key.getPrivateKey(), dataToSign)));
 
 			signatures.add(new Jws(protectedHeader, header, signature));
 		}
@@ -0,0 +1,193 @@
+/*
+ * Copyright © 2026 Indiana University
+ * All rights reserved.
+ *
+ * BSD 3-Clause License
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ * 
+ * - Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package iu.crypt;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import edu.iu.IuException;
+import edu.iu.IuRuntimeEnvironment;
+import edu.iu.IuText;
+import edu.iu.client.IuJson;
+import edu.iu.crypt.WebKey;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+
+/**
+ * Bounded cache of successful JWS signature verifications.
+ * 
+ * <p>
+ * Enabled by the {@code iu.crypt.jwsCacheSize} runtime property, which limits
+ * the number of cached verifications. Entries are keyed by a SHA-256 digest of
+ * the protected header, algorithm, payload, signature, and verification key
+ * material, and expire after {@code iu.crypt.jwsCacheTtl}, as an
+ * {@link Duration#parse(CharSequence) ISO-8601 duration} (default 5 minutes),
+ * or at the {@code exp} claim of a JSON payload, whichever is sooner.
+ * Verification failures are never cached.
+ * </p>
+ */
+final class JwsVerificationCache {
+
+	private final Map<ByteBuffer, Instant> verified;
+	private final Duration timeToLive;
+	private final Supplier<Instant> clock;
+
+	/**
+	 * Creates a verification cache from the {@code iu.crypt.jwsCacheSize} and
+	 * {@code iu.crypt.jwsCacheTtl} runtime properties.
+	 * 
+	 * @return {@link JwsVerificationCache}; disabled if
+	 *         {@code iu.crypt.jwsCacheSize} is not set
+	 */
+	static JwsVerificationCache configure() {
+		return new JwsVerificationCache(
+				Objects.requireNonNullElse(IuRuntimeEnvironment.envOptional("iu.crypt.jwsCacheSize", Integer::parseInt),
+						0),
+				Objects.requireNonNullElse(IuRuntimeEnvironment.envOptional("iu.crypt.jwsCacheTtl", Duration::parse),
+						Duration.ofMinutes(5L)),
+				Instant::now);
+	}
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param maxSize    maximum number of cached verifications; 0 to disable
+	 * @param timeToLive maximum time to cache a verification
+	 * @param clock      supplies the current time
+	 */
+	JwsVerificationCache(int maxSize, Duration timeToLive, Supplier<Instant> clock) {
+		this.timeToLive = timeToLive;
+		this.clock = clock;
+		if (maxSize <= 0)
+			verified = null;
+		else
+			verified = new LinkedHashMap<>(16, .75f, true) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<ByteBuffer, Instant> eldest) {
+					return size() > maxSize;
+				}
+			};
+	}
+
+	/**
+	 * Verifies a signature, unless a successful verification is cached.
+	 * 
+	 * @param jws          signature
+	 * @param payload      signed payload
+	 * @param key          verification key
+	 * @param verification performs signature verification; <em>must</em> throw
+	 *                     if verification fails
+	 */
+	void verify(Jws jws, byte[] payload, WebKey key, Runnable verification) {
+		if (verified == null) {
+			verification.run();
+			return;
+		}
+
+		final var cacheKey = ByteBuffer.wrap(digest(jws, payload, key));
+		final var now = clock.get();
+		synchronized (verified) {
+			final var expires = verified.get(cacheKey);
+			if (expires != null)
+				if (expires.isAfter(now))
+					return;
+				else
+					verified.remove(cacheKey);
+		}
+
+		verification.run();
+
+		var expires = now.plus(timeToLive);
+		final var exp = exp(payload);
+		if (exp != null //
+				&& exp.isBefore(expires))
+			expires = exp;
+
+		if (expires.isAfter(now))
+			synchronized (verified) {
+				verified.put(cacheKey, expires);
+			}
+	}
+
+	/**
+	 * Gets the number of cached verifications.
+	 * 
+	 * @return number of cached verifications
+	 */
+	int size() {
+		synchronized (verified) {
+			return verified.size();
+		}
+	}
+
+	private static byte[] digest(Jws jws, byte[] payload, WebKey key) {
+		final var digest = IuException.unchecked(() -> CryptEngines.digest("SHA-256"));
+		EncodingUtils.digestFragment(
+				IuText.utf8(Objects.requireNonNullElse(jws.protectedHeader(), "").toString()), digest);
+		EncodingUtils.digestFragment(IuText.utf8(jws.getHeader().getAlgorithm().name()), digest);
+		EncodingUtils.digestFragment(payload, digest);
+		EncodingUtils.digestFragment(jws.getSignature(), digest);
+
+		final var secretKey = key.getKey();
+		if (secretKey != null)
+			EncodingUtils.digestFragment(secretKey, digest);
+
+		final var publicKey = key.getPublicKey();
+		if (publicKey != null)
+			EncodingUtils.digestFragment(publicKey.getEncoded(), digest);
+
+		return digest.digest();
+	}
+
+	private static Instant exp(byte[] payload) {
+		if (payload.length == 0 //
+				|| payload[0] != '{')
+			return null;
+
+		try {
+			final var exp = ((JsonObject) IuJson.parse(IuText.utf8(payload))).get("exp");
+			if (exp instanceof JsonNumber)
+				return Instant.ofEpochSecond(((JsonNumber) exp).longValue());
+		} catch (RuntimeException e) {
+			// not a JSON object; cache by time to live only
+		}
+		return null;
+	}
+
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright © 2026 Indiana University
+ * All rights reserved.
+ *
+ * BSD 3-Clause License
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ * 
+ * - Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package iu.crypt;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import edu.iu.IuException;
+import edu.iu.IuRuntimeEnvironment;
+import edu.iu.IuText;
+import edu.iu.crypt.WebKey.Algorithm;
+
+/**
+ * Bounded cache of PBES2 passphrase-derived key encryption keys.
+ * 
+ * <p>
+ * Enabled by the {@code iu.crypt.pbes2CacheSize} runtime property, which limits
+ * the number of cached keys. Entries are keyed by a SHA-256 digest of the
+ * algorithm, passphrase, salt ({@code p2s}), and iteration count ({@code p2c}),
+ * and expire after {@code iu.crypt.pbes2CacheTtl}, as an
+ * {@link Duration#parse(CharSequence) ISO-8601 duration} (default 5 minutes).
+ * Derived key data is zeroed when an entry is evicted or expires.
+ * </p>
+ */
+final class Pbes2KeyCache {
+
+	private static class DerivedKey {
+		private final byte[] key;
+		private final Instant expires;
+
+		private DerivedKey(byte[] key, Instant expires) {
+			this.key = key;
+			this.expires = expires;
+		}
+	}
+
+	private final Map<ByteBuffer, DerivedKey> derived;
+	private final Duration timeToLive;
+	private final Supplier<Instant> clock;
+
+	/**
+	 * Creates a derived key cache from the {@code iu.crypt.pbes2CacheSize} and
+	 * {@code iu.crypt.pbes2CacheTtl} runtime properties.
+	 * 
+	 * @return {@link Pbes2KeyCache}; disabled if {@code iu.crypt.pbes2CacheSize}
+	 *         is not set
+	 */
+	static Pbes2KeyCache configure() {
+		return new Pbes2KeyCache(
+				Objects.requireNonNullElse(
+						IuRuntimeEnvironment.envOptional("iu.crypt.pbes2CacheSize", Integer::parseInt), 0),
+				Objects.requireNonNullElse(IuRuntimeEnvironment.envOptional("iu.crypt.pbes2CacheTtl", Duration::parse),
+						Duration.ofMinutes(5L)),
+				Instant::now);
+	}
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param maxSize    maximum number of cached keys; 0 to disable
+	 * @param timeToLive maximum time to cache a derived key
+	 * @param clock      supplies the current time
+	 */
+	Pbes2KeyCache(int maxSize, Duration timeToLive, Supplier<Instant> clock) {
+		this.timeToLive = timeToLive;
+		this.clock = clock;
+		if (maxSize <= 0)
+			derived = null;
+		else
+			derived = new LinkedHashMap<>(16, .75f, true) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<ByteBuffer, DerivedKey> eldest) {
+					final var evict = size() > maxSize;
+					if (evict)
+						Arrays.fill(eldest.getValue().key, (byte) 0);
+					return evict;
+				}
+			};
+	}
+
+	/**
+	 * Gets a passphrase-derived key, unless a derived key is cached.
+	 * 
+	 * @param algorithm  PBES2 key encryption algorithm
+	 * @param passphrase passphrase
+	 * @param p2s        salt input
+	 * @param p2c        iteration count
+	 * @param derivation performs key derivation
+	 * @return derived key data; a copy if cached
+	 */
+	byte[] derive(Algorithm algorithm, String passphrase, byte[] p2s, int p2c, Supplier<byte[]> derivation) {
+		if (derived == null)
+			return derivation.get();
+
+		final var cacheKey = ByteBuffer.wrap(digest(algorithm, passphrase, p2s, p2c));
+		final var now = clock.get();
+		synchronized (derived) {
+			final var entry = derived.get(cacheKey);
+			if (entry != null)
+				if (entry.expires.isAfter(now))
+					return entry.key.clone();
+				else {
+					derived.remove(cacheKey);
+					Arrays.fill(entry.key, (byte) 0);
+				}
+		}
+
+		final var key = derivation.get();
+		synchronized (derived) {
+			final var replaced = derived.put(cacheKey, new DerivedKey(key.clone(), now.plus(timeToLive)));
+			if (replaced != null)
+				Arrays.fill(replaced.key, (byte) 0);
+		}
+		return key;
+	}
+
+	/**
+	 * Gets the number of cached keys.
+	 * 
+	 * @return number of cached keys
+	 */
+	int size() {
+		synchronized (derived) {
+			return derived.size();
+		}
+	}
+
+	private static byte[] digest(Algorithm algorithm, String passphrase, byte[] p2s, int p2c) {
+		final var digest = IuException.unchecked(() -> CryptEngines.digest("SHA-256"));
+		EncodingUtils.digestFragment(IuText.utf8(algorithm.alg), digest);
+		EncodingUtils.digestFragment(IuText.utf8(passphrase), digest);
+		EncodingUtils.digestFragment(p2s, digest);
+
+		final var count = ByteBuffer.wrap(new byte[4]);
+		EncodingUtils.bigEndian(p2c, count);
+		digest.update(count.array());
+		return digest.digest();
+	}
+
+}
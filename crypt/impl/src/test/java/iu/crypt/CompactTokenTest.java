@@ -0,0 +1,150 @@
+/*
+ * Copyright © 2026 Indiana University
+ * All rights reserved.
+ *
+ * BSD 3-Clause License
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ * 
+ * - Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package iu.crypt;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.Test;
+
+import edu.iu.IdGenerator;
+import edu.iu.IuText;
+import edu.iu.client.IuJson;
+
+@SuppressWarnings("javadoc")
+public class CompactTokenTest {
+
+	@Test
+	public void testSegments() {
+		final var header = IuJson.object().add("alg", "none").build();
+		final var payload = IuText.utf8(IdGenerator.generateId());
+		final var token = new CompactToken(
+				IuText.base64Url(IuText.utf8(header.toString())) + ".." + IuText.base64Url(payload), 3);
+		assertEquals(3, token.segments());
+		assertEquals(header, token.protectedHeader());
+		assertSame(token.protectedHeader(), token.protectedHeader());
+		assertArrayEquals(IuText.utf8(header.toString()), token.decode(0));
+		assertNull(token.decode(1));
+		assertArrayEquals(payload, token.decode(2));
+		assertThrows(NoSuchElementException.class, () -> token.decode(3));
+	}
+
+	@Test
+	public void testMissingSegment() {
+		final var token = new CompactToken(".", 3);
+		assertEquals(1, token.segments());
+		assertNull(token.protectedHeader());
+		assertNull(token.decode(0));
+		assertThrows(NoSuchElementException.class, () -> token.decode(1));
+	}
+
+	@Test
+	public void testEmpty() {
+		final var token = new CompactToken("", 3);
+		assertEquals(0, token.segments());
+		assertNull(token.protectedHeader());
+		assertThrows(NoSuchElementException.class, () -> token.decode(0));
+	}
+
+	@Test
+	public void testTrailingDot() {
+		final var header = IuJson.object().add("alg", "none").build();
+		final var payload = IuText.utf8(IdGenerator.generateId());
+		final var token = new CompactToken(
+				IuText.base64Url(IuText.utf8(header.toString())) + "." + IuText.base64Url(payload) + ".", 3);
+		assertEquals(2, token.segments());
+		assertEquals(header, token.protectedHeader());
+		assertArrayEquals(payload, token.decode(1));
+		assertThrows(NoSuchElementException.class, () -> token.decode(2));
+	}
+
+	@Test
+	public void testTooManySegments() {
+		final var error = assertThrows(IllegalArgumentException.class, () -> new CompactToken("a.b.c.d", 3));
+		assertEquals("Invalid compact format, found more than 3 segments", error.getMessage());
+	}
+
+	@Test
+	public void testDecode() {
+		for (var i = 0; i < 64; i++) {
+			final var data = new byte[i];
+			ThreadLocalRandom.current().nextBytes(data);
+			final var padded = Base64.getUrlEncoder().encodeToString(data);
+			final var unpadded = IuText.base64Url(data);
+
+			for (final var encoded : new String[] { padded, unpadded }) {
+				final var buffer = new byte[i + 2];
+				assertEquals(i, CompactToken.decodedLength(encoded, 0, encoded.length()));
+				assertEquals(i, CompactToken.decode("." + encoded + ".", 1, encoded.length() + 1, buffer, 1));
+				assertArrayEquals(data, Arrays.copyOfRange(buffer, 1, i + 1));
+			}
+		}
+	}
+
+	@Test
+	public void testInvalidLength() {
+		for (final var encoded : new String[] { "A", "AAAAA", "AA=", "AAA==", "A===", "AAAA=" })
+			assertThrows(IllegalArgumentException.class,
+					() -> CompactToken.decodedLength(encoded, 0, encoded.length()), encoded);
+	}
+
+	@Test
+	public void testInvalidCharacter() {
+		final var invalid = new String[] { "AA+A", "A/AA", "A=AA", "AAA\u00e9" };
+		final var offsets = new int[] { 2, 1, 1, 3 };
+		for (var i = 0; i < invalid.length; i++) {
+			final var encoded = invalid[i];
+			final var error = assertThrows(IllegalArgumentException.class,
+					() -> CompactToken.decode(encoded, 0, encoded.length(), new byte[3], 0), encoded);
+			assertEquals("Illegal Base64 URL character at offset " + offsets[i], error.getMessage());
+		}
+	}
+
+	@Test
+	public void testParseJson() {
+		for (final var size : new int[] { 16, 4096, 131072 }) {
+			final var value = "x".repeat(size);
+			final var json = IuJson.object().add("value", value).build();
+			final var encoded = IuText.base64Url(IuText.utf8(json.toString()));
+			assertEquals(json, CompactToken.parseJson(encoded, 0, encoded.length()));
+		}
+	}
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright © 2026 Indiana University
+ * All rights reserved.
+ *
+ * BSD 3-Clause License
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ * 
+ * - Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package iu.crypt;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.crypto.KeyAgreement;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.Test;
+
+import edu.iu.IuException;
+import edu.iu.crypt.WebKey;
+import edu.iu.crypt.WebKey.Algorithm;
+
+@SuppressWarnings("javadoc")
+public class CryptEnginesTest {
+
+	private static byte[] random(int length) {
+		final var data = new byte[length];
+		ThreadLocalRandom.current().nextBytes(data);
+		return data;
+	}
+
+	@Test
+	public void testEnginesPerThread() throws Exception {
+		final var cipher = CryptEngines.cipher("AESWrap");
+		assertSame(cipher, CryptEngines.cipher("AESWrap"));
+		assertNotSame(cipher, CryptEngines.cipher("AES/GCM/NoPadding"));
+		assertNotSame(cipher,
+				CompletableFuture.supplyAsync(() -> IuException.unchecked(() -> CryptEngines.cipher("AESWrap"))).get());
+
+		final KeyAgreement keyAgreement = CryptEngines.keyAgreement("ECDH");
+		assertSame(keyAgreement, CryptEngines.keyAgreement("ECDH"));
+
+		final var data = random(32);
+		final var digest = CryptEngines.digest("SHA-256");
+		digest.update(data);
+		assertArrayEquals(CryptEngines.digest("SHA-256").digest(data), MessageDigest
+				.getInstance("SHA-256").digest(data));
+
+		assertThrows(NoSuchAlgorithmException.class, () -> CryptEngines.cipher("Unsupported"));
+	}
+
+	@Test
+	public void testMac() throws Exception {
+		final var key = random(32);
+		final var otherKey = random(32);
+		final var data = random(64);
+
+		final var mac = Mac.getInstance("HmacSHA256");
+		mac.init(new SecretKeySpec(key, "HmacSHA256"));
+		final var expected = mac.doFinal(data);
+
+		assertArrayEquals(expected, CryptEngines.mac("HmacSHA256", key, data));
+		assertArrayEquals(expected, CryptEngines.mac("HmacSHA256", key, data));
+		assertFalse(Arrays.equals(expected, CryptEngines.mac("HmacSHA256", otherKey, data)));
+		assertArrayEquals(expected, CryptEngines.mac("HmacSHA256", key.clone(), data));
+	}
+
+	@Test
+	public void testMacKeyContentChange() throws Exception {
+		final var key = random(32);
+		final var data = random(64);
+		final var before = CryptEngines.mac("HmacSHA256", key, data);
+
+		key[0] ^= 1;
+		final var mac = Mac.getInstance("HmacSHA256");
+		mac.init(new SecretKeySpec(key, "HmacSHA256"));
+		final var after = CryptEngines.mac("HmacSHA256", key, data);
+		assertFalse(Arrays.equals(before, after));
+		assertArrayEquals(mac.doFinal(data), after);
+	}
+
+	@Test
+	public void testMacRequiresKeyAfterFailure() throws Exception {
+		final var key = random(32);
+		final var data = random(64);
+		CryptEngines.mac("HmacSHA384", key, data);
+		assertThrows(IllegalArgumentException.class, () -> CryptEngines.mac("HmacSHA384", new byte[0], data));
+		assertThrows(IllegalArgumentException.class, () -> CryptEngines.mac("HmacSHA384", null, data));
+		assertThrows(IllegalArgumentException.class, () -> CryptEngines.mac("HmacSHA384", null, data));
+	}
+
+	@Test
+	public void testSignAndVerify() throws Exception {
+		for (final var algorithm : new Algorithm[] { Algorithm.RS256, Algorithm.PS256, Algorithm.PS384,
+				Algorithm.PS512, Algorithm.ES256 }) {
+			final var key = WebKey.ephemeral(algorithm);
+			final var data = random(64);
+
+			final var signature = CryptEngines.sign(algorithm, key.getPrivateKey(), data);
+			final var signature2 = CryptEngines.sign(algorithm, key.getPrivateKey(), data);
+			assertTrue(CryptEngines.verify(algorithm, key.getPublicKey(), data, signature));
+			assertTrue(CryptEngines.verify(algorithm, key.getPublicKey(), data, signature2));
+			assertFalse(CryptEngines.verify(algorithm, key.getPublicKey(), random(64), signature));
+			assertTrue(CryptEngines.verify(algorithm, key.getPublicKey(), data, signature));
+
+			assertThrows(InvalidKeyException.class, () -> CryptEngines.verify(algorithm, null, data, signature));
+			assertThrows(InvalidKeyException.class, () -> CryptEngines.sign(algorithm, null, data));
+		}
+	}
+
+	@Test
+	public void testCipherRequiresInit() throws Exception {
+		final var cipher = CryptEngines.cipher("AES/GCM/NoPadding");
+		assertThrows(IllegalStateException.class, () -> cipher.doFinal(new byte[16]));
+	}
+
+}
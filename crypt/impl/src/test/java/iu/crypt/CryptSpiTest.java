@@ -53,6 +53,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import edu.iu.IdGenerator;
+import edu.iu.IuText;
 import edu.iu.IuIterable;
 import edu.iu.client.HttpResponseHandler;
 import edu.iu.client.IuHttp;
@@ -112,11 +113,8 @@ public class CryptSpiTest extends CryptImplTestCase {
 	@Test
 	public void testGetCompactProtectedHeader() {
 		final var header = IuJson.object().add("alg", "ES256").build();
-		final var serialized = IdGenerator.generateId();
-		try (final var mockCompactEncoded = mockStatic(CompactEncoded.class)) {
-			mockCompactEncoded.when(() -> CompactEncoded.getProtectedHeader(serialized)).thenReturn(header);
-			assertEquals(Algorithm.ES256, spi.getProtectedHeader(serialized).getAlgorithm());
-		}
+		final var serialized = IuText.base64Url(IuText.utf8(header.toString())) + "." + IdGenerator.generateId();
+		assertEquals(Algorithm.ES256, spi.getProtectedHeader(serialized).getAlgorithm());
 	}
 
 	@Test
@@ -173,6 +171,17 @@ public class CryptSpiTest extends CryptImplTestCase {
 		}
 	}
 
+	@Test
+	public void testReadJwkById() {
+		final var uri = mock(URI.class);
+		final var keyId = IdGenerator.generateId();
+		final var jwk = mock(Jwk.class);
+		try (final var mockJwk = mockStatic(Jwk.class)) {
+			mockJwk.when(() -> Jwk.readJwk(uri, keyId)).thenReturn(jwk);
+			assertSame(jwk, spi.readJwk(uri, keyId));
+		}
+	}
+
 	@Test
 	public void testReadJwksFromInputStream() {
 		final var in = mock(InputStream.class);
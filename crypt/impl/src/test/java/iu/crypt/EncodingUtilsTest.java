@@ -75,6 +75,26 @@ public class EncodingUtilsTest {
 		assertFalse(i.hasNext());
 	}
 
+	@Test
+	public void testDigestFragment() throws Exception {
+		final var data = IuText.utf8(IdGenerator.generateId());
+		final var digest = MessageDigest.getInstance("SHA-256");
+		EncodingUtils.digestFragment(data, digest);
+
+		final var expected = MessageDigest.getInstance("SHA-256");
+		expected.update(new byte[] { 0, 0, 0, (byte) data.length });
+		expected.update(data);
+		assertArrayEquals(expected.digest(), digest.digest());
+
+		// fields can't be shifted across the boundary
+		EncodingUtils.digestFragment(new byte[] { 1, 2 }, digest);
+		EncodingUtils.digestFragment(new byte[] { 3 }, digest);
+		final var shifted = MessageDigest.getInstance("SHA-256");
+		EncodingUtils.digestFragment(new byte[] { 1 }, shifted);
+		EncodingUtils.digestFragment(new byte[] { 2, 3 }, shifted);
+		assertFalse(Arrays.equals(digest.digest(), shifted.digest()));
+	}
+
 	@Test
 	public void testBase64() {
 		// padded
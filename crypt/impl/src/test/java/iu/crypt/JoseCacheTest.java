@@ -0,0 +1,158 @@
+/*
+ * Copyright © 2026 Indiana University
+ * All rights reserved.
+ *
+ * BSD 3-Clause License
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ * 
+ * - Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package iu.crypt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+
+import edu.iu.IdGenerator;
+import edu.iu.IuText;
+import edu.iu.client.IuJson;
+import edu.iu.crypt.WebCryptoHeader;
+import edu.iu.crypt.WebKey.Algorithm;
+
+@SuppressWarnings("javadoc")
+public class JoseCacheTest {
+
+	private static String encode(String name, String value) {
+		return IuText
+				.base64Url(IuText.utf8(IuJson.object().add("alg", "HS256").add(name, value).build().toString()));
+	}
+
+	private static JoseCache.ProtectedHeader get(JoseCache cache, String encoded) {
+		final var token = encoded + ".." + IdGenerator.generateId();
+		return cache.get(token, 0, encoded.length());
+	}
+
+	@Test
+	public void testDisabled() {
+		final var cache = JoseCache.configure();
+		final var encoded = encode("kid", IdGenerator.generateId());
+		final var header = get(cache, encoded);
+		assertNotSame(header, get(cache, encoded));
+		assertEquals(Algorithm.HS256, header.jose().getAlgorithm());
+	}
+
+	@Test
+	public void testConfigure() {
+		System.setProperty("iu.crypt.joseCacheSize", "10");
+		System.setProperty("iu.crypt.joseCacheTtl", "PT1H");
+		try {
+			final var cache = JoseCache.configure();
+			final var kid = IdGenerator.generateId();
+			final var encoded = encode("kid", kid);
+			final var header = get(cache, encoded);
+			assertSame(header, get(cache, encoded));
+			assertSame(header.jose(), get(cache, encoded).jose());
+			assertEquals(kid, header.json().getString("kid"));
+			assertEquals(kid, header.jose().getKeyId());
+			assertEquals(1, cache.size());
+		} finally {
+			System.getProperties().remove("iu.crypt.joseCacheSize");
+			System.getProperties().remove("iu.crypt.joseCacheTtl");
+		}
+	}
+
+	@Test
+	public void testBounded() {
+		final var cache = new JoseCache(2, Duration.ofHours(1L), Instant::now);
+		final var first = encode("kid", IdGenerator.generateId());
+		final var header = get(cache, first);
+		for (var i = 0; i < 2; i++)
+			get(cache, encode("kid", IdGenerator.generateId()));
+		assertEquals(2, cache.size());
+		assertNotSame(header, get(cache, first));
+	}
+
+	@Test
+	public void testExpires() {
+		final var now = new Instant[] { Instant.now() };
+		final var cache = new JoseCache(10, Duration.ofMinutes(1L), () -> now[0]);
+		final var encoded = encode("kid", IdGenerator.generateId());
+		final var header = get(cache, encoded);
+		now[0] = now[0].plusSeconds(59L);
+		assertSame(header, get(cache, encoded));
+		now[0] = now[0].plusSeconds(1L);
+		assertNotSame(header, get(cache, encoded));
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	public void testRemoteKeyReferenceNotCached() {
+		final var cache = new JoseCache(10, Duration.ofHours(1L), Instant::now);
+		final var encoded = encode("jku", "https://" + IdGenerator.generateId() + "/jwks");
+		assertNotSame(get(cache, encoded), get(cache, encoded));
+		assertEquals(0, cache.size());
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testExtensionVerifiedPerToken() {
+		final var extName = "urn:example:iu:" + IdGenerator.generateId();
+		final Jose.Extension<String> ext = mock(Jose.Extension.class);
+		Jose.register(extName, ext);
+
+		final var cache = new JoseCache(10, Duration.ofHours(1L), Instant::now);
+		final var encoded = encode(extName, IdGenerator.generateId());
+		get(cache, encoded).jose();
+		get(cache, encoded).jose();
+		verify(ext, times(2)).verify(any(WebCryptoHeader.class));
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void testIsCacheable() {
+		assertTrue(JoseCache.isCacheable(IuJson.object().add("alg", "HS256").add("kid", "a").build()));
+		assertTrue(JoseCache.isCacheable(
+				IuJson.object().add("alg", "ES256").add("jwk", IuJson.object().add("kty", "EC")).build()));
+		assertFalse(JoseCache.isCacheable(IuJson.object().add("alg", "RS256").add("x5c", IuJson.array()).build()));
+		assertFalse(JoseCache.isCacheable(IuJson.object().add("alg", "RS256").add("x5u", "a").build()));
+		assertFalse(JoseCache.isCacheable(IuJson.object().add("alg", "RS256")
+				.add("jwk", IuJson.object().add("kty", "RSA").add("x5c", IuJson.array())).build()));
+		assertFalse(JoseCache.isCacheable(IuJson.object().add("alg", "RS256")
+				.add("jwk", IuJson.object().add("kty", "RSA").add("x5u", "a")).build()));
+		assertFalse(JoseCache.isCacheable(IuJson.object().add("alg", "HS256").add("urn:example:iu:ext", "a").build()));
+	}
+
+}
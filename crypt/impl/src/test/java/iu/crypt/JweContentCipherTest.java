@@ -0,0 +1,162 @@
+/*
+ * Copyright © 2026 Indiana University
+ * All rights reserved.
+ *
+ * BSD 3-Clause License
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ * 
+ * - Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package iu.crypt;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+
+import org.junit.jupiter.api.Test;
+
+import edu.iu.crypt.WebEncryption.Encryption;
+import edu.iu.crypt.WebKey;
+
+@SuppressWarnings("javadoc")
+public class JweContentCipherTest {
+
+	@Test
+	public void testRoundTrip() throws Exception {
+		for (final var encryption : Encryption.values())
+			for (final var size : new int[] { 0, 1, JweContentCipher.CHUNK_SIZE, JweContentCipher.CHUNK_SIZE * 3 + 7 })
+				for (final var deflate : new boolean[] { false, true })
+					for (final var dedicated : new boolean[] { false, true }) {
+						final var cek = WebKey.ephemeral(encryption).getKey();
+						final var iv = JweContentCipher.initializationVector(encryption);
+						final var aad = new byte[size % 5];
+						final var content = new byte[size];
+						ThreadLocalRandom.current().nextBytes(content);
+
+						final var cipherText = new ByteArrayOutputStream();
+						final var tag = JweContentCipher.encrypt(encryption, cek, iv, aad, deflate,
+								new ByteArrayInputStream(content), cipherText, dedicated);
+						assertEquals(encryption.mac == null ? 16 : encryption.size / 16, tag.length,
+								encryption::toString);
+
+						final var plainText = new ByteArrayOutputStream();
+						JweContentCipher.decrypt(encryption, cek, iv, aad, cipherText.toByteArray(), tag, deflate,
+								plainText);
+						assertArrayEquals(content, plainText.toByteArray());
+					}
+	}
+
+	@Test
+	public void testWriteSingleBytes() throws Exception {
+		final var encryption = Encryption.A256GCM;
+		final var cek = WebKey.ephemeral(encryption).getKey();
+		final var iv = JweContentCipher.initializationVector(encryption);
+		final var aad = new byte[0];
+
+		final var cipherText = new ByteArrayOutputStream();
+		final var contentCipher = new JweContentCipher(encryption, true, cek, iv, aad, false, cipherText);
+		for (final var b : "foo".getBytes())
+			contentCipher.write(b);
+		final var tag = contentCipher.doFinal();
+
+		final var plainText = new ByteArrayOutputStream();
+		JweContentCipher.decrypt(encryption, cek, iv, aad, cipherText.toByteArray(), tag, false, plainText);
+		assertEquals("foo", plainText.toString());
+	}
+
+	@Test
+	public void testInvalidInitializationVector() {
+		for (final var encryption : new Encryption[] { Encryption.A128GCM,
+				Encryption.AES_128_CBC_HMAC_SHA_256 }) {
+			final var cek = WebKey.ephemeral(encryption).getKey();
+			assertEquals("invalid initialization vector",
+					assertThrows(IllegalArgumentException.class,
+							() -> new JweContentCipher(encryption, true, cek, new byte[11], new byte[0], false,
+									new ByteArrayOutputStream()))
+							.getMessage());
+		}
+	}
+
+	@Test
+	public void testInvalidTag() throws Exception {
+		for (final var encryption : Encryption.values()) {
+			final var cek = WebKey.ephemeral(encryption).getKey();
+			final var iv = JweContentCipher.initializationVector(encryption);
+			final var aad = new byte[] { 1, 2, 3 };
+			final var content = new byte[JweContentCipher.CHUNK_SIZE * 2];
+			ThreadLocalRandom.current().nextBytes(content);
+
+			final var cipherText = new ByteArrayOutputStream();
+			final var tag = JweContentCipher.encrypt(encryption, cek, iv, aad, false,
+					new ByteArrayInputStream(content), cipherText, false);
+			tag[0] ^= 1;
+
+			final var plainText = new ByteArrayOutputStream();
+			if (encryption.mac == null)
+				assertThrows(AEADBadTagException.class, () -> JweContentCipher.decrypt(encryption, cek, iv, aad,
+						cipherText.toByteArray(), tag, false, plainText));
+			else
+				assertInstanceOf(AEADBadTagException.class,
+						assertThrows(IllegalStateException.class, () -> JweContentCipher.decrypt(encryption, cek,
+								iv, aad, cipherText.toByteArray(), tag, false, plainText)).getCause());
+			assertEquals(0, plainText.size());
+		}
+	}
+
+	@Test
+	public void testGcmPlainTextHeldUntilAuthenticated() throws Exception {
+		final var encryption = Encryption.A256GCM;
+		final var cek = WebKey.ephemeral(encryption).getKey();
+		final var iv = JweContentCipher.initializationVector(encryption);
+		final var cipherText = new byte[JweContentCipher.CHUNK_SIZE * 2];
+
+		// GCM providers are not required to hold plain text until doFinal()
+		final var cipher = mock(Cipher.class);
+		when(cipher.update(any(byte[].class), anyInt(), anyInt())).thenReturn(new byte[] { 1, 2, 3 });
+		when(cipher.doFinal()).thenThrow(new AEADBadTagException());
+		try (final var mockCipher = mockStatic(Cipher.class)) {
+			mockCipher.when(() -> Cipher.getInstance(encryption.algorithm)).thenReturn(cipher);
+
+			final var plainText = new ByteArrayOutputStream();
+			assertThrows(AEADBadTagException.class, () -> JweContentCipher.decrypt(encryption, cek, iv,
+					new byte[0], cipherText, new byte[16], false, plainText));
+			assertEquals(0, plainText.size());
+		}
+	}
+
+}
@@ -38,8 +38,11 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.logging.Level;
 
 import javax.crypto.Cipher;
@@ -51,13 +54,16 @@ import javax.crypto.spec.SecretKeySpec;
 import org.junit.jupiter.api.Test;
 
 import edu.iu.IdGenerator;
+import edu.iu.IuIterable;
 import edu.iu.IuText;
 import edu.iu.client.IuJson;
 import edu.iu.crypt.WebCryptoHeader.Param;
 import edu.iu.crypt.WebEncryption;
 import edu.iu.crypt.WebEncryption.Encryption;
+import edu.iu.crypt.WebEncryptionRecipient;
 import edu.iu.crypt.WebKey;
 import edu.iu.crypt.WebKey.Algorithm;
+import edu.iu.crypt.WebKey.Type;
 import edu.iu.test.IuTestLogger;
 
 @SuppressWarnings("javadoc")
@@ -359,6 +365,50 @@ public class JweTest {
 
 	}
 
+	@Test
+	public void testParallelRecipients() {
+		final var keys = new Jwk[8];
+		final var builder = WebEncryption.builder(Encryption.A128GCM);
+		for (var i = 0; i < keys.length; i++) {
+			keys[i] = (Jwk) WebKey.builder(Type.RAW).keyId("k" + i).ephemeral(Algorithm.A128KW).build();
+			builder.addRecipient(Algorithm.A128KW).keyId(keys[i].getKeyId()).key(keys[i]);
+		}
+		final var jwe = builder.encrypt("foo");
+
+		var i = 0;
+		for (final var recipient : jwe.getRecipients())
+			assertEquals("k" + i++, recipient.getHeader().getKeyId());
+		assertEquals(keys.length, i);
+
+		// no failed trials: recipient with matching kid is tried first
+		final var last = keys[keys.length - 1];
+		IuTestLogger.expect("iu.crypt.Jwe", Level.FINE, "CEK decryption successful for " + last.wellKnown());
+		assertEquals("foo", jwe.decryptText(last));
+	}
+
+	@Test
+	public void testTrialOrder() {
+		final var k1 = WebKey.ephemeral(Algorithm.A128KW);
+		final var k2 = WebKey.ephemeral(Algorithm.A128KW);
+		final var jwe = (Jwe) WebEncryption.builder(Encryption.A128GCM) //
+				.addRecipient(Algorithm.A128KW).keyId("a").key(k1).then() //
+				.addRecipient(Algorithm.A128KW).key(k2).then() //
+				.addRecipient(Algorithm.A128KW).keyId("b").key(k1).encrypt("foo");
+		final var recipients = IuIterable.stream(jwe.getRecipients()).toArray(JweRecipient[]::new);
+
+		assertArrayEquals(recipients, jwe.trialOrder(null));
+		assertArrayEquals(new JweRecipient[] { recipients[2], recipients[0], recipients[1] }, jwe.trialOrder("b"));
+		assertArrayEquals(recipients, jwe.trialOrder("c"));
+
+		final var single = (Jwe) WebEncryption.builder(Encryption.A128GCM) //
+				.addRecipient(Algorithm.A128KW).keyId("a").key(k1).encrypt("foo");
+		assertArrayEquals(new JweRecipient[] { (JweRecipient) single.getRecipients().iterator().next() },
+				single.trialOrder("b"));
+
+		IuTestLogger.allow("iu.crypt.Jwe", Level.FINE);
+		assertEquals("foo", jwe.decryptText(k2));
+	}
+
 	@Test
 	public void testValidRecipients() {
 		final var key = WebKey.ephemeral(Encryption.A192GCM);
@@ -392,6 +442,82 @@ public class JweTest {
 		assertThrows(IllegalArgumentException.class, () -> WebEncryption.parse(b.build().toString()).decrypt(jwk));
 	}
 
+	@Test
+	public void testStream() {
+		final var content = new byte[1024 * 1024];
+		ThreadLocalRandom.current().nextBytes(content);
+		final var aad = new byte[] { 1, 2, 3 };
+		IuTestLogger.allow("iu.crypt.Jwe", Level.FINE);
+
+		for (final var encryption : Encryption.values())
+			for (final var deflate : new boolean[] { false, true }) {
+				final var key = WebKey.ephemeral(encryption);
+
+				final var flattened = new ByteArrayOutputStream();
+				WebEncryption.builder(encryption, deflate).protect(Param.ENCRYPTION).addRecipient(Algorithm.DIRECT)
+						.keyId(IdGenerator.generateId()).key(key).then()
+						.encrypt(new ByteArrayInputStream(content), flattened);
+				final var flattenedJwe = WebEncryption.parse(flattened.toString());
+				assertNotNull(IuJson.parse(flattened.toString()).asJsonObject().getJsonObject("header"));
+				assertNull(flattenedJwe.getAdditionalData());
+				assertArrayEquals(content, decrypt(flattenedJwe, key));
+
+				final var compact = new ByteArrayOutputStream();
+				WebEncryption.builder(encryption, deflate).compact().addRecipient(Algorithm.DIRECT).key(key)
+						.encrypt(new ByteArrayInputStream(content), compact);
+				final var compactJwe = WebEncryption.parse(compact.toString());
+				assertEquals(compact.toString(), compactJwe.compact());
+				assertArrayEquals(content, decrypt(compactJwe, key));
+
+				final var kw = WebKey.ephemeral(Algorithm.A128KW);
+				final var general = new ByteArrayOutputStream();
+				WebEncryption.builder(encryption, deflate).aad(aad).addRecipient(Algorithm.A128KW).key(kw).then()
+						.addRecipient(Algorithm.A128KW).key(WebKey.ephemeral(Algorithm.A128KW)).then()
+						.encrypt(new ByteArrayInputStream(content), general);
+				final var generalJwe = WebEncryption.parse(general.toString());
+				assertArrayEquals(aad, generalJwe.getAdditionalData());
+				assertArrayEquals(content, decrypt(generalJwe, kw));
+			}
+	}
+
+	private static byte[] decrypt(WebEncryption jwe, WebKey key) {
+		final var out = new ByteArrayOutputStream();
+		jwe.decrypt(key, out);
+		return out.toByteArray();
+	}
+
+	@Test
+	public void testStreamExtensionRejected() {
+		final var extName = "urn:example:iu:" + IdGenerator.generateId();
+		final var verified = new boolean[1];
+		Jose.register(extName, new StringExtension() {
+			@Override
+			public void verify(WebEncryption encryption, WebEncryptionRecipient recipient) {
+				assertNull(encryption.getCipherText());
+				assertNull(encryption.getAuthenticationTag());
+				verified[0] = true;
+				throw new IllegalStateException("rejected");
+			}
+		});
+
+		final var out = new ByteArrayOutputStream();
+		final var key = WebKey.ephemeral(Encryption.A128GCM);
+		assertThrows(IllegalStateException.class,
+				() -> WebEncryption.builder(Encryption.A128GCM).addRecipient(Algorithm.DIRECT).key(key)
+						.param(extName, IdGenerator.generateId()).then()
+						.encrypt(new ByteArrayInputStream(new byte[1024]), out));
+		assertTrue(verified[0]);
+		assertEquals(0, out.size());
+	}
+
+	@Test
+	public void testStreamRequiresOutput() {
+		assertThrows(NullPointerException.class,
+				() -> WebEncryption.builder(Encryption.A128GCM).addRecipient(Algorithm.DIRECT)
+						.key(WebKey.ephemeral(Encryption.A128GCM)).then()
+						.encrypt(new ByteArrayInputStream(new byte[0]), null));
+	}
+
 	@Test
 	public void testInvalidVectorGCM() throws Exception {
 		final var jwk = WebKey.ephemeral(Encryption.A128GCM);
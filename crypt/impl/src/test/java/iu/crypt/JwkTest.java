@@ -393,6 +393,20 @@ public class JwkTest extends CryptImplTestCase {
 		assertFalse(key.represents(key2));
 	}
 
+	@Test
+	public void testReadJwkById() {
+		final var keyId = IdGenerator.generateId();
+		final var jwk = (Jwk) WebKey.builder(Type.EC_P256).keyId(keyId).ephemeral().build().wellKnown();
+		final var jwks = mock(URI.class);
+		try (final var mockIuHttp = mockStatic(IuHttp.class)) {
+			mockIuHttp.when(() -> IuHttp.get(jwks, IuHttp.READ_JSON_OBJECT))
+					.thenReturn(Jwk.asJwks(IuIterable.iter(jwk)));
+			final var fromJwks = Jwk.readJwk(jwks, keyId);
+			assertEquals(jwk, fromJwks);
+			assertSame(fromJwks, Jwk.readJwks(jwks).iterator().next());
+		}
+	}
+
 	private void assertEphemeral(Jwk jwk) {
 		assertEquals(jwk, new Jwk(IuJson.parse(jwk.toString()).asJsonObject()));
 
@@ -0,0 +1,300 @@
+/*
+ * Copyright © 2026 Indiana University
+ * All rights reserved.
+ *
+ * BSD 3-Clause License
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ * 
+ * - Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package iu.crypt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.exceptions.base.MockitoException;
+
+import edu.iu.IuIterable;
+import edu.iu.IuUtilityTaskController;
+import edu.iu.crypt.WebKey;
+import edu.iu.crypt.WebKey.Type;
+import edu.iu.test.IuTestLogger;
+import jakarta.json.JsonObject;
+
+@SuppressWarnings("javadoc")
+public class JwksStoreTest {
+
+	private static WebKey key(String keyId) {
+		return WebKey.builder(Type.EC_P256).keyId(keyId).ephemeral().build().wellKnown();
+	}
+
+	private static JsonObject jwks(WebKey... keys) {
+		return Jwk.asJwks(IuIterable.iter(keys));
+	}
+
+	private final AtomicReference<Instant> now = new AtomicReference<>(Instant.now());
+
+	private void advance(Duration duration) {
+		now.set(now.get().plus(duration));
+	}
+
+	@Test
+	public void testConfigure() {
+		assertNotNull(JwksStore.configure());
+	}
+
+	@Test
+	public void testKeyIdIndex() {
+		final var uri = mock(URI.class);
+		final var a = key("a");
+		final var b = key("b");
+		final var noKeyId = key(null);
+		final var count = new AtomicInteger();
+		final var store = new JwksStore(u -> {
+			assertSame(uri, u);
+			count.incrementAndGet();
+			return jwks(a, noKeyId, b);
+		}, Duration.ofHours(1L), Duration.ofHours(1L), now::get);
+
+		final var keys = store.keys(uri);
+		assertEquals(3, keys.length);
+		assertEquals(a, keys[0]);
+		assertEquals(noKeyId, keys[1]);
+		assertSame(keys[0], store.key(uri, "a"));
+		assertSame(keys[2], store.key(uri, "b"));
+		assertSame(keys, store.keys(uri));
+
+		// unknown key ID doesn't refetch within refetchInterval
+		assertNull(store.key(uri, "c"));
+		assertEquals(1, count.get());
+	}
+
+	@Test
+	public void testUnknownKeyIdRefetch() {
+		final var uri = mock(URI.class);
+		final var a = key("a");
+		final var b = key("b");
+		final var count = new AtomicInteger();
+		final var store = new JwksStore(u -> count.incrementAndGet() == 1 ? jwks(a) : jwks(a, b), Duration.ofHours(1L),
+				Duration.ZERO, now::get);
+
+		final var parsed = store.key(uri, "a");
+		assertEquals(a, parsed);
+		assertEquals(b, store.key(uri, "b"));
+		assertEquals(2, count.get());
+
+		// unchanged keys are not parsed again
+		assertSame(parsed, store.key(uri, "a"));
+		assertSame(parsed, store.keys(uri)[0]);
+
+		assertNull(store.key(uri, "c"));
+		assertEquals(3, count.get());
+	}
+
+	@Test
+	public void testConcurrentFetch() throws Exception {
+		final var uri = mock(URI.class);
+		final var count = new AtomicInteger();
+		final var fetching = new CountDownLatch(1);
+		final var release = new CountDownLatch(1);
+		final var store = new JwksStore(u -> {
+			count.incrementAndGet();
+			fetching.countDown();
+			try {
+				release.await(5L, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				throw new IllegalStateException(e);
+			}
+			return jwks(key("a"));
+		}, Duration.ofHours(1L), Duration.ofHours(1L), now::get);
+
+		final var first = CompletableFuture.supplyAsync(() -> store.keys(uri));
+		assertTrue(fetching.await(5L, TimeUnit.SECONDS));
+
+		final var second = new CompletableFuture<Jwk[]>();
+		final var follower = new Thread(() -> second.complete(store.keys(uri)));
+		follower.setDaemon(true);
+		follower.start();
+		try {
+			// follower is waiting for the in-flight fetch on the entry monitor
+			final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5L);
+			while (follower.getState() != Thread.State.BLOCKED) {
+				assertTrue(System.nanoTime() < deadline, () -> "follower not blocked: " + follower.getState());
+				Thread.onSpinWait();
+			}
+		} finally {
+			release.countDown();
+		}
+
+		assertSame(first.get(5L, TimeUnit.SECONDS), second.get(5L, TimeUnit.SECONDS));
+		assertEquals(1, count.get());
+	}
+
+	@Test
+	public void testUnknownKeyIdRefetchFailure() {
+		final var uri = mock(URI.class);
+		final var count = new AtomicInteger();
+		final var store = new JwksStore(u -> {
+			if (count.incrementAndGet() > 1)
+				throw new IllegalStateException("refetch failure");
+			return jwks(key("a"));
+		}, Duration.ofHours(1L), Duration.ofMinutes(1L), now::get);
+
+		assertNotNull(store.key(uri, "a"));
+		advance(Duration.ofMinutes(2L));
+		assertThrows(IllegalStateException.class, () -> store.key(uri, "b"));
+		assertEquals(2, count.get());
+
+		// failed attempt is rate limited the same as a successful fetch
+		assertNull(store.key(uri, "b"));
+		assertNull(store.key(uri, "c"));
+		assertEquals(2, count.get());
+
+		advance(Duration.ofMinutes(2L));
+		assertThrows(IllegalStateException.class, () -> store.key(uri, "c"));
+		assertEquals(3, count.get());
+	}
+
+	@Test
+	public void testExpired() {
+		final var uri = mock(URI.class);
+		final var count = new AtomicInteger();
+		final var store = new JwksStore(u -> {
+			count.incrementAndGet();
+			return jwks(key("a"));
+		}, Duration.ofMinutes(1L), Duration.ofHours(1L), now::get);
+
+		final var keys = store.keys(uri);
+		advance(Duration.ofMinutes(1L));
+		final var refetched = store.keys(uri);
+		assertEquals(2, count.get());
+		assertTrue(keys != refetched);
+	}
+
+	@Test
+	public void testBackgroundRefresh() throws Exception {
+		final var uri = mock(URI.class);
+		final var a = key("a");
+		final var count = new AtomicInteger();
+		final var refreshing = new CountDownLatch(1);
+		final var store = new JwksStore(u -> {
+			final var c = count.incrementAndGet();
+			if (c == 2)
+				try {
+					refreshing.await(5L, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					throw new IllegalStateException(e);
+				}
+			else if (c == 3)
+				throw new IllegalStateException("refresh failure");
+			return jwks(a);
+		}, Duration.ofMinutes(4L), Duration.ofMinutes(1L), now::get);
+
+		final var keys = store.keys(uri);
+		advance(Duration.ofMinutes(3L));
+
+		// returns current keys while refreshing in the background
+		assertSame(keys, store.keys(uri));
+		assertSame(keys, store.keys(uri));
+		refreshing.countDown();
+		store.awaitRefresh(uri, Duration.ofSeconds(5L));
+		assertEquals(2, count.get());
+
+		final var refreshed = store.keys(uri);
+		assertTrue(keys != refreshed);
+		assertSame(keys[0], refreshed[0]);
+
+		IuTestLogger.expect("iu.crypt.JwksStore", Level.INFO, "JWKS refresh failed " + uri,
+				IllegalStateException.class);
+		advance(Duration.ofMinutes(3L));
+		assertSame(refreshed, store.keys(uri));
+		store.awaitRefresh(uri, Duration.ofSeconds(5L));
+		assertEquals(3, count.get());
+		assertSame(refreshed, store.keys(uri));
+	}
+
+	@Test
+	public void testRefreshRateLimited() throws Exception {
+		final var uri = mock(URI.class);
+		final var count = new AtomicInteger();
+		final var store = new JwksStore(u -> {
+			if (count.incrementAndGet() > 1)
+				throw new IllegalStateException("refresh failure");
+			return jwks(key("a"));
+		}, Duration.ofMinutes(4L), Duration.ofHours(1L), now::get);
+
+		final var keys = store.keys(uri);
+		advance(Duration.ofMinutes(3L));
+
+		IuTestLogger.expect("iu.crypt.JwksStore", Level.INFO, "JWKS refresh failed " + uri,
+				IllegalStateException.class);
+		assertSame(keys, store.keys(uri));
+		store.awaitRefresh(uri, Duration.ofSeconds(5L));
+		assertSame(keys, store.keys(uri));
+		store.awaitRefresh(uri, Duration.ofSeconds(5L));
+		assertEquals(2, count.get());
+	}
+
+	@Test
+	public void testRefreshRejected() {
+		final var uri = mock(URI.class);
+		final var count = new AtomicInteger();
+		final var store = new JwksStore(u -> {
+			count.incrementAndGet();
+			return jwks(key("a"));
+		}, Duration.ofMinutes(4L), Duration.ZERO, now::get);
+
+		final var keys = store.keys(uri);
+		advance(Duration.ofMinutes(3L));
+
+		IuTestLogger.expect("iu.crypt.JwksStore", Level.INFO, "JWKS refresh rejected " + uri,
+				MockitoException.class, e -> e.getCause() instanceof RejectedExecutionException);
+		try (final var mockTask = mockConstruction(IuUtilityTaskController.class, (m, c) -> {
+			throw new RejectedExecutionException();
+		})) {
+			assertSame(keys, store.keys(uri));
+		}
+		assertEquals(1, count.get());
+	}
+
+}
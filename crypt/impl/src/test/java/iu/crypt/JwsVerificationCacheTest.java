@@ -0,0 +1,172 @@
+/*
+ * Copyright © 2026 Indiana University
+ * All rights reserved.
+ *
+ * BSD 3-Clause License
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ * 
+ * - Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package iu.crypt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import edu.iu.IdGenerator;
+import edu.iu.IuText;
+import edu.iu.client.IuJson;
+import edu.iu.crypt.WebKey;
+import edu.iu.crypt.WebKey.Algorithm;
+import edu.iu.crypt.WebSignature;
+
+@SuppressWarnings("javadoc")
+public class JwsVerificationCacheTest {
+
+	private static Jws sign(WebKey key, Algorithm algorithm, byte[] payload) {
+		return (Jws) WebSignature.builder(algorithm).key(key).sign(payload).getSignatures().iterator().next();
+	}
+
+	private static int verify(JwsVerificationCache cache, Jws jws, byte[] payload, WebKey key) {
+		final var count = new AtomicInteger();
+		cache.verify(jws, payload, key, () -> {
+			count.incrementAndGet();
+			jws.verify(payload, key);
+		});
+		return count.get();
+	}
+
+	@Test
+	public void testDisabled() {
+		final var key = WebKey.ephemeral(Algorithm.HS256);
+		final var payload = IuText.utf8(IdGenerator.generateId());
+		final var jws = sign(key, Algorithm.HS256, payload);
+		final var cache = JwsVerificationCache.configure();
+		assertEquals(1, verify(cache, jws, payload, key));
+		assertEquals(1, verify(cache, jws, payload, key));
+	}
+
+	@Test
+	public void testConfigure() {
+		System.setProperty("iu.crypt.jwsCacheSize", "10");
+		System.setProperty("iu.crypt.jwsCacheTtl", "PT1H");
+		try {
+			final var key = WebKey.ephemeral(Algorithm.HS256);
+			final var payload = IuText.utf8(IdGenerator.generateId());
+			final var jws = sign(key, Algorithm.HS256, payload);
+			final var cache = JwsVerificationCache.configure();
+			assertEquals(1, verify(cache, jws, payload, key));
+			assertEquals(0, verify(cache, jws, payload, key));
+			assertEquals(1, cache.size());
+		} finally {
+			System.getProperties().remove("iu.crypt.jwsCacheSize");
+			System.getProperties().remove("iu.crypt.jwsCacheTtl");
+		}
+	}
+
+	@Test
+	public void testCachesSuccessOnly() {
+		final var cache = new JwsVerificationCache(10, Duration.ofHours(1L), Instant::now);
+		final var key = WebKey.ephemeral(Algorithm.ES256);
+		final var payload = IuText.utf8(IdGenerator.generateId());
+		final var jws = sign(key, Algorithm.ES256, payload);
+		assertEquals(1, verify(cache, jws, payload, key));
+		assertEquals(0, verify(cache, jws, payload, key));
+
+		final var wrongKey = WebKey.ephemeral(Algorithm.ES256);
+		assertThrows(IllegalArgumentException.class, () -> verify(cache, jws, payload, wrongKey));
+		assertThrows(IllegalArgumentException.class, () -> verify(cache, jws, payload, wrongKey));
+
+		final var otherPayload = IuText.utf8(IdGenerator.generateId());
+		assertThrows(IllegalArgumentException.class, () -> verify(cache, jws, otherPayload, key));
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	public void testBounded() {
+		final var cache = new JwsVerificationCache(2, Duration.ofHours(1L), Instant::now);
+		final var key = WebKey.ephemeral(Algorithm.HS256);
+		for (var i = 0; i < 3; i++) {
+			final var payload = IuText.utf8(IdGenerator.generateId());
+			assertEquals(1, verify(cache, sign(key, Algorithm.HS256, payload), payload, key));
+		}
+		assertEquals(2, cache.size());
+	}
+
+	@Test
+	public void testTimeToLive() {
+		final var now = new Instant[] { Instant.now() };
+		final var cache = new JwsVerificationCache(10, Duration.ofMinutes(1L), () -> now[0]);
+		final var key = WebKey.ephemeral(Algorithm.HS256);
+		final var payload = new byte[0];
+		final var jws = sign(key, Algorithm.HS256, payload);
+		assertEquals(1, verify(cache, jws, payload, key));
+		now[0] = now[0].plusSeconds(59L);
+		assertEquals(0, verify(cache, jws, payload, key));
+		now[0] = now[0].plusSeconds(1L);
+		assertEquals(1, verify(cache, jws, payload, key));
+
+		final var uncached = new JwsVerificationCache(10, Duration.ZERO, Instant::now);
+		assertEquals(1, verify(uncached, jws, payload, key));
+		assertEquals(1, verify(uncached, jws, payload, key));
+	}
+
+	@Test
+	public void testExpiration() {
+		final var cache = new JwsVerificationCache(10, Duration.ofHours(1L), Instant::now);
+		final var key = WebKey.ephemeral(Algorithm.HS256);
+
+		final var expired = IuText.utf8(IuJson.object().add("exp", Instant.now().getEpochSecond() - 1L).build()
+				.toString());
+		final var expiredJws = sign(key, Algorithm.HS256, expired);
+		assertEquals(1, verify(cache, expiredJws, expired, key));
+		assertEquals(1, verify(cache, expiredJws, expired, key));
+
+		final var later = IuText.utf8(IuJson.object().add("exp", Instant.now().getEpochSecond() + 60L).build()
+				.toString());
+		final var laterJws = sign(key, Algorithm.HS256, later);
+		assertEquals(1, verify(cache, laterJws, later, key));
+		assertEquals(0, verify(cache, laterJws, later, key));
+
+		final var muchLater = IuText
+				.utf8(IuJson.object().add("exp", Instant.now().getEpochSecond() + 86400L).build().toString());
+		final var muchLaterJws = sign(key, Algorithm.HS256, muchLater);
+		assertEquals(1, verify(cache, muchLaterJws, muchLater, key));
+		assertEquals(0, verify(cache, muchLaterJws, muchLater, key));
+
+		for (final var payload : new String[] { "{not json", "{\"exp\":\"soon\"}", "[]" }) {
+			final var data = IuText.utf8(payload);
+			final var jws = sign(key, Algorithm.HS256, data);
+			assertEquals(1, verify(cache, jws, data, key));
+			assertEquals(0, verify(cache, jws, data, key));
+		}
+	}
+
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright © 2026 Indiana University
+ * All rights reserved.
+ *
+ * BSD 3-Clause License
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * - Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ * 
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ * 
+ * - Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package iu.crypt;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import edu.iu.IdGenerator;
+import edu.iu.crypt.WebKey.Algorithm;
+
+@SuppressWarnings("javadoc")
+public class Pbes2KeyCacheTest {
+
+	private static byte[] salt() {
+		final var p2s = new byte[16];
+		ThreadLocalRandom.current().nextBytes(p2s);
+		return p2s;
+	}
+
+	private static byte[] derive(Pbes2KeyCache cache, Algorithm algorithm, String passphrase, byte[] p2s, int p2c,
+			AtomicInteger count) {
+		return cache.derive(algorithm, passphrase, p2s, p2c, () -> {
+			count.incrementAndGet();
+			final var key = new byte[16];
+			ThreadLocalRandom.current().nextBytes(key);
+			return key;
+		});
+	}
+
+	@Test
+	public void testDisabled() {
+		final var cache = Pbes2KeyCache.configure();
+		final var count = new AtomicInteger();
+		final var passphrase = IdGenerator.generateId();
+		final var p2s = salt();
+		derive(cache, Algorithm.PBES2_HS256_A128KW, passphrase, p2s, 1000, count);
+		derive(cache, Algorithm.PBES2_HS256_A128KW, passphrase, p2s, 1000, count);
+		assertEquals(2, count.get());
+	}
+
+	@Test
+	public void testConfigure() {
+		System.setProperty("iu.crypt.pbes2CacheSize", "10");
+		System.setProperty("iu.crypt.pbes2CacheTtl", "PT1H");
+		try {
+			final var cache = Pbes2KeyCache.configure();
+			final var count = new AtomicInteger();
+			final var passphrase = IdGenerator.generateId();
+			final var p2s = salt();
+			final var key = derive(cache, Algorithm.PBES2_HS256_A128KW, passphrase, p2s, 1000, count);
+			final var cached = derive(cache, Algorithm.PBES2_HS256_A128KW, passphrase, p2s, 1000, count);
+			assertEquals(1, count.get());
+			assertArrayEquals(key, cached);
+			assertNotSame(key, cached);
+			assertEquals(1, cache.size());
+		} finally {
+			System.getProperties().remove("iu.crypt.pbes2CacheSize");
+			System.getProperties().remove("iu.crypt.pbes2CacheTtl");
+		}
+	}
+
+	@Test
+	public void testKeyedByAllInputs() {
+		final var cache = new Pbes2KeyCache(10, Duration.ofHours(1L), Instant::now);
+		final var count = new AtomicInteger();
+		final var passphrase = IdGenerator.generateId();
+		final var p2s = salt();
+		derive(cache, Algorithm.PBES2_HS256_A128KW, passphrase, p2s, 1000, count);
+		derive(cache, Algorithm.PBES2_HS384_A192KW, passphrase, p2s, 1000, count);
+		derive(cache, Algorithm.PBES2_HS256_A128KW, IdGenerator.generateId(), p2s, 1000, count);
+		derive(cache, Algorithm.PBES2_HS256_A128KW, passphrase, salt(), 1000, count);
+		derive(cache, Algorithm.PBES2_HS256_A128KW, passphrase, p2s, 1001, count);
+		assertEquals(5, count.get());
+		assertEquals(5, cache.size());
+
+		derive(cache, Algorithm.PBES2_HS256_A128KW, passphrase, p2s.clone(), 1000, count);
+		assertEquals(5, count.get());
+	}
+
+	@Test
+	public void testBounded() {
+		final var cache = new Pbes2KeyCache(2, Duration.ofHours(1L), Instant::now);
+		final var count = new AtomicInteger();
+		final var passphrase = IdGenerator.generateId();
+		final var p2s = salt();
+		final var key = derive(cache, Algorithm.PBES2_HS256_A128KW, passphrase, p2s, 1000, count);
+		final var copy = key.clone();
+		for (var i = 0; i < 2; i++)
+			derive(cache, Algorithm.PBES2_HS256_A128KW, passphrase, salt(), 1000, count);
+		assertEquals(2, cache.size());
+
+		// evicted entry is zeroed, without affecting keys already returned
+		assertArrayEquals(copy, key);
+		derive(cache, Algorithm.PBES2_HS256_A128KW, passphrase, p2s, 1000, count);
+		assertEquals(4, count.get());
+	}
+
+	@Test
+	public void testExpires() {
+		final var now = new Instant[] { Instant.now() };
+		final var cache = new Pbes2KeyCache(10, Duration.ofMinutes(1L), () -> now[0]);
+		final var count = new AtomicInteger();
+		final var passphrase = IdGenerator.generateId();
+		final var p2s = salt();
+		derive(cache, Algorithm.PBES2_HS256_A128KW, passphrase, p2s, 1000, count);
+		now[0] = now[0].plusSeconds(59L);
+		derive(cache, Algorithm.PBES2_HS256_A128KW, passphrase, p2s, 1000, count);
+		assertEquals(1, count.get());
+		now[0] = now[0].plusSeconds(1L);
+		derive(cache, Algorithm.PBES2_HS256_A128KW, passphrase, p2s, 1000, count);
+		assertEquals(2, count.get());
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	public void testReplaced() {
+		final var cache = new Pbes2KeyCache(10, Duration.ofHours(1L), Instant::now);
+		final var count = new AtomicInteger();
+		final var passphrase = IdGenerator.generateId();
+		final var p2s = salt();
+		final var key = cache.derive(Algorithm.PBES2_HS256_A128KW, passphrase, p2s, 1000,
+				() -> derive(cache, Algorithm.PBES2_HS256_A128KW, passphrase, p2s, 1000, count));
+		assertEquals(1, count.get());
+		assertEquals(1, cache.size());
+		assertArrayEquals(key, derive(cache, Algorithm.PBES2_HS256_A128KW, passphrase, p2s, 1000, count));
+	}
+
+}
@@ -198,7 +198,8 @@ public final class SamlServiceProvider implements IuSamlServiceProvider {
 		return IuException.unchecked(() -> {
 			final List<MetadataResolver> resolvers = new ArrayList<>();
 			for (URI metadataUri : config.getMetadataUris()) {
-				final var metadataElement = IuHttp.get(metadataUri, READ_XML).getDocumentElement();
+				// DOM Document is mutable; parse per call, don't coalesce via IuHttp.get
+				final var metadataElement = IuHttp.send(metadataUri, null, READ_XML).getDocumentElement();
 				final var metadataResolver = new DOMMetadataResolver(metadataElement);
 				metadataResolver.setId(IdGenerator.generateId());
 				metadataResolver.setRequireValidMetadata(true);
@@ -148,7 +148,8 @@ public class SamlServiceProviderTest {
 		when(config.getMetadataUris()).thenReturn(IuIterable.iter(metadataUri));
 
 		final var document = mock(Document.class);
-		IuHttpAware.mock.when(() -> IuHttp.get(metadataUri, SamlServiceProvider.READ_XML)).thenReturn(document);
+		IuHttpAware.mock.when(() -> IuHttp.send(metadataUri, null, SamlServiceProvider.READ_XML))
+				.thenReturn(document);
 
 		final var element = mock(Element.class);
 		when(document.getDocumentElement()).thenReturn(element);